@@ -28,6 +28,8 @@
 import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
 import net.minecraft.server.level.ChunkHolder;
 import net.minecraft.server.level.ChunkMap;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.gen.Accessor;
 import org.spongepowered.asm.mixin.gen.Invoker;
@@ -44,4 +46,8 @@ public interface ChunkMapAccessor {
 
     @Invoker("getChunks") Iterable<ChunkHolder> invoker$getChunks();
 
+    @Invoker("getVisibleChunkIfPresent") @Nullable ChunkHolder invoker$getVisibleChunkIfPresent(long chunkPos);
+
+    @Invoker("save") boolean invoker$save(ChunkAccess chunk);
+
 }
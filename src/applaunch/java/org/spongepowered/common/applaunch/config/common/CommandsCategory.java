@@ -50,6 +50,16 @@ public final class CommandsCategory {
              + "(as it is by default).")
     public boolean enforcePermissionChecksOnNonSpongeCommands = false;
 
+    @Setting("async-suggestions")
+    @Comment("If true, suggestions for parameters that do not depend on the state of the\n"
+             + "game are computed away from the server thread.")
+    public boolean asyncSuggestions = true;
+
+    @Setting("max-suggestion-requests-per-second")
+    @Comment("The maximum number of tab completion requests a player may make each second.\n"
+             + "Requests over this limit are ignored. Set to 0 to disable the limit.")
+    public int maxSuggestionRequestsPerSecond = 20;
+
     @Setting("commands-hidden")
     @Comment("Defines how Sponge should act when a user tries to access a command they do not have\n"
                      + "permission for")
@@ -41,6 +41,8 @@ public final class ModuleCategory {
 
     @Setting("block-entity-activation")
     @Comment("Controls block range and tick rate of block entities. \n"
+             + "Block entities with a tick rate greater than 1 are spread evenly\n"
+             + "over the ticks, so that only those due in a tick are visited.\n"
              + "Use with caution as this can break intended functionality.")
     public boolean blockEntityActivationRange = false;
 
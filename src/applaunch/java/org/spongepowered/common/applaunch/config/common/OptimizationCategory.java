@@ -125,6 +125,82 @@ public final class OptimizationCategory {
             + "should usually remain enabled.")
     public boolean enableLazyDFU = true;
 
+    @Setting("batch-scoreboard-packets")
+    @Comment("If 'true', score and team info updates sent to players viewing a\n"
+            + "scoreboard are buffered and sent once at the end of the tick.\n"
+            + "Repeated updates to the same score or team within a tick are\n"
+            + "coalesced into one packet and updates that do not change what\n"
+            + "clients already display are dropped. Other scoreboard changes\n"
+            + "flush the buffer first, so ordering is preserved.")
+    public boolean batchScoreboardPackets = true;
+
+    @Setting("cache-explosion-exposure")
+    @Comment("If 'true', explosions reuse block resistance lookups between their\n"
+            + "rays, and the exposure of an entity to an explosion at the same\n"
+            + "position is only calculated once per tick. The cached exposure is\n"
+            + "discarded as soon as any block in the same world changes.\n"
+            + "This greatly reduces the cost of many explosions at the same spot,\n"
+            + "such as TNT cannons.")
+    public boolean cacheExplosionExposure = true;
+
+    @Setting("merge-colocated-explosions")
+    @Comment("If 'true', a TNT explosion at exactly the same position and with the\n"
+            + "same power as an earlier explosion in the same tick that destroyed no\n"
+            + "blocks skips its own block calculation. Entities are still damaged\n"
+            + "by every explosion. This slightly changes vanilla behaviour, as the\n"
+            + "random ray strength is not re-rolled for the merged explosions.")
+    public boolean mergeColocatedExplosions = false;
+
+    @Setting("hashed-entity-pushing")
+    @Comment("If 'true', living entities find the entities they push through a spatial\n"
+            + "hash of each chunk section, rebuilt at most once per tick and kept up to\n"
+            + "date as entities move, instead of testing every entity in the nearby chunk\n"
+            + "sections. The search stops early once the entity collision limit of the\n"
+            + "pushing entity is reached.\n"
+            + "This greatly reduces the cost of entity pushing in crowded areas such as mob farms.")
+    public boolean hashedEntityPushing = true;
+
+    @Setting("dense-stack-push-limit")
+    @Comment("Requires 'hashed-entity-pushing'. If a living entity shares its 2x2x2 block\n"
+            + "cell with at least this many entities of its own type, it only pushes as many\n"
+            + "entities as the 'maxEntityCramming' game rule, which is enough for entity\n"
+            + "cramming to still apply. Ignored while the game rule is 0 or less. This\n"
+            + "changes how such stacks move, set to for example 48 to enable. Set to 0 to\n"
+            + "disable.")
+    public int denseStackPushLimit = 0;
+
+    @Setting("grid-item-merging")
+    @Comment("If 'true', each chunk keeps a grid of its dropped items, hashed by position\n"
+            + "and item type, which items search for other items to merge with instead of\n"
+            + "scanning all nearby entities. Newly dropped items also try to merge on their\n"
+            + "first tick rather than waiting for vanilla's next merge check. This changes\n"
+            + "when and how many items merge compared to vanilla, so this is disabled by\n"
+            + "default. The amount of merged entities per world is shown in '/sponge tps'.")
+    public boolean gridItemMerging = false;
+
+    @Setting("merge-experience-orbs")
+    @Comment("If 'true', touching experience orbs are merged into a single orb holding\n"
+            + "their combined experience, using the same grid as 'grid-item-merging'.\n"
+            + "Vanilla never merges experience orbs, so this is disabled by default.")
+    public boolean mergeExperienceOrbs = false;
+
+    @Setting("parallel-registry-loading")
+    @Comment("If 'true', the initial values of Sponge's registries are built on a\n"
+            + "few worker threads during startup. The registries themselves are\n"
+            + "still created on the main thread, in the same order as before.\n"
+            + "Registry loaders are not all known to be safe to run concurrently,\n"
+            + "so this is disabled by default.")
+    public boolean parallelRegistryLoading = false;
+
+    @Setting("coalesce-neighbor-notifications")
+    @Comment("If 'true', a neighbor notification is skipped if the same position was already\n"
+            + "notified by the same block at the same position during the same phase and tick,\n"
+            + "and no block has changed since. This saves many redundant updates from redstone\n"
+            + "clocks and similar contraptions, but contraptions relying on the exact amount of\n"
+            + "neighbor updates may behave differently, so this is disabled by default. The amount\n"
+            + "of skipped notifications per world is shown in '/sponge tps'.")
+    public boolean coalesceNeighborNotifications = false;
+
     public OptimizationCategory() {
         // Enabled by default on SpongeVanilla, disabled by default on SpongeForge.
         // Because of how early this constructor gets called, we can't use SpongeImplHooks or even Game
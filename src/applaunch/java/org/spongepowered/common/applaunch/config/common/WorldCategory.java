@@ -56,6 +56,13 @@ public final class WorldCategory {
                                                      + "Note: If you are using SpongeForge, make sure to enter any mod fake player's UUID to this list.")
     public final List<UUID> invalidLookupUuids = new ArrayList<>();
 
+    @Setting(value = "concurrent-world-loading")
+    @Comment("If 'true', the level data and configs of the worlds loaded at startup are read concurrently \n"
+                                                     + "and the start regions of all worlds are generated at the same time instead of one \n"
+                                                     + "world after another. Worlds are still registered in the same order. \n"
+                                                     + "This can greatly reduce the startup time of servers with many worlds.")
+    public boolean concurrentWorldLoading = false;
+
     public WorldCategory() {
         this.invalidLookupUuids.add(UUID.fromString("00000000-0000-0000-0000-000000000000"));
         this.invalidLookupUuids.add(UUID.fromString("41c82c87-7afb-4024-ba57-13d2c99cae77")); // Forge FakePlayer
@@ -47,6 +47,7 @@
 import net.kyori.adventure.text.format.TextColor;
 import net.kyori.adventure.text.format.TextDecoration;
 import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+import net.kyori.adventure.title.Title;
 import net.kyori.adventure.translation.GlobalTranslator;
 import net.kyori.adventure.util.Codec;
 import net.kyori.adventure.util.TriState;
@@ -57,6 +58,7 @@
 import net.minecraft.nbt.StringTag;
 import net.minecraft.nbt.TagParser;
 import net.minecraft.network.chat.ChatType;
+import net.minecraft.network.protocol.game.ClientboundSetTitlesPacket;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerBossEvent;
 import net.minecraft.sounds.SoundSource;
@@ -76,8 +78,10 @@
 import org.spongepowered.common.bridge.network.chat.BaseComponentBridge;
 import org.spongepowered.common.bridge.world.BossEventBridge;
 import org.spongepowered.common.launch.Launch;
+import org.spongepowered.common.util.Constants;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
@@ -608,6 +612,15 @@ public static SoundSource asVanilla(final Sound.Source source) {
         return SpongeAdventure.asVanilla(source);
     }
 
+    public static ClientboundSetTitlesPacket asVanilla(final Title.Times times) {
+        return new ClientboundSetTitlesPacket(SpongeAdventure.durationToTicks(times.fadeIn()), SpongeAdventure.durationToTicks(times.stay()),
+            SpongeAdventure.durationToTicks(times.fadeOut()));
+    }
+
+    private static int durationToTicks(final Duration duration) {
+        return (int) (duration.toMillis() / Constants.TickConversions.TICK_DURATION_MS);
+    }
+
     public static Iterable<? extends Audience> unpackAudiences(final Audience audience) {
         if (audience instanceof ForwardingAudience) {
             final List<Audience> list = new ArrayList<>();
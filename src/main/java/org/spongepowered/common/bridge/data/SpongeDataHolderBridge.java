@@ -25,6 +25,8 @@
 package org.spongepowered.common.bridge.data;
 
 import com.google.common.collect.Multimap;
+import net.minecraft.nbt.CompoundTag;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.data.DataManipulator;
 import org.spongepowered.api.data.DataTransactionResult;
 import org.spongepowered.api.data.Key;
@@ -59,4 +61,21 @@ public interface SpongeDataHolderBridge {
     void bridge$invalidateFailedData();
 
     void bridge$addFailedData(DataQuery nameSpace, DataView keyedData);
+
+    /**
+     * Marks the custom data of this holder as changed, so it is serialized
+     * again the next time it is synced to its compound.
+     */
+    void bridge$markDataDirty();
+
+    /**
+     * Gets whether the custom data of this holder is unchanged since it was
+     * last serialized to the given compound.
+     *
+     * @param compound The current compound of the holder
+     * @return True if serializing the custom data again can be skipped
+     */
+    boolean bridge$isDataSerializedTo(@Nullable CompoundTag compound);
+
+    void bridge$markDataSerializedTo(@Nullable CompoundTag compound);
 }
@@ -66,4 +66,6 @@ public interface ServerScoreboardBridge {
     void bridge$removeScores(Component name);
 
     void bridge$sendToPlayers(Packet<?> packet);
+
+    void bridge$flushChanges();
 }
@@ -35,6 +35,7 @@
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.context.transaction.TransactionalCaptureSupplier;
 import org.spongepowered.common.event.tracking.context.transaction.pipeline.WorldPipeline;
+import org.spongepowered.common.world.server.SpongeBlockEntityTickScheduler;
 
 import java.util.Optional;
 import java.util.function.Function;
@@ -111,4 +112,12 @@ public interface TrackedWorldBridge {
      */
     SpongeBlockSnapshot bridge$createSnapshotWithEntity(BlockState state, BlockPos pos, BlockChangeFlag updateFlag, @Nullable BlockEntity tileEntity);
 
+    /**
+     * Gets the scheduler ticking the {@link BlockEntity block entities} of
+     * this world which have a configured tick rate.
+     *
+     * @return The block entity tick scheduler
+     */
+    SpongeBlockEntityTickScheduler bridge$blockEntityTickScheduler();
+
 }
@@ -37,4 +37,6 @@ public interface EntityTypeBridge {
     boolean bridge$overridesDamageEntity();
 
     void bridge$setOverridesDamageEntity(boolean damagesEntity);
+
+    int bridge$configIndex();
 }
@@ -36,6 +36,7 @@
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.world.SerializationBehavior;
 import org.spongepowered.common.config.inheritable.InheritableConfigHandle;
+import org.spongepowered.common.config.inheritable.TypeConfigSnapshot;
 import org.spongepowered.common.config.inheritable.WorldConfig;
 
 import java.util.Optional;
@@ -91,6 +92,14 @@ public interface PrimaryLevelDataBridge {
 
     void bridge$configAdapter(InheritableConfigHandle<WorldConfig> adapter);
 
+    /**
+     * Gets the per-type settings of the current config of this world. A new
+     * snapshot is created whenever the config has been reloaded.
+     *
+     * @return The snapshot
+     */
+    TypeConfigSnapshot bridge$typeConfigs();
+
     void bridge$populateFromDimension(LevelStem dimension);
 
     void bridge$setMapUUIDIndex(BiMap<Integer, UUID> index);
@@ -30,4 +30,13 @@ public interface ChunkMapBridge {
 
     DistanceManagerBridge bridge$distanceManager();
 
+    /**
+     * Pauses unloading chunks and writing point of interest data, which
+     * happen regardless of whether saving is turned off for the world.
+     * Chunks due to unload stay queued until writes are resumed.
+     *
+     * @param paused Whether writes are paused
+     */
+    void bridge$setWritesPaused(boolean paused);
+
 }
@@ -37,6 +37,12 @@ public interface MapItemSavedDataBridge {
 
     void bridge$updateWholeMap();
 
+    /**
+     * Marks the given inclusive pixel region as changed so that only it is
+     * sent to players holding the map.
+     */
+    void bridge$markRegionDirty(int minX, int minY, int maxX, int maxY);
+
     int bridge$getMapId();
 
     void bridge$setMapId(int id);
@@ -0,0 +1,126 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.command.brigadier;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.mojang.brigadier.suggestion.Suggestions;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Computes suggestions for thread safe parameters on a small worker pool so
+ * that expensive completers do not hold up the server thread.
+ *
+ * <p>Brigadier combines the suggestions of every node into a new future, so
+ * cancelling the combined future would not reach the workers. Suggestions
+ * requested through {@link #request(Supplier)} therefore cancel the work
+ * they submitted when they are cancelled themselves.</p>
+ */
+public final class SpongeSuggestionExecutor {
+
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+            Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2)),
+            new ThreadFactoryBuilder()
+                    .setNameFormat("Sponge-CommandSuggestions-%d")
+                    .setDaemon(true)
+                    .build());
+
+    private static final ThreadLocal<List<CompletableFuture<?>>> SUBMITTED = new ThreadLocal<>();
+
+    public static boolean isEnabled() {
+        return SpongeConfigs.getCommon().get().commands.asyncSuggestions;
+    }
+
+    /**
+     * Requests suggestions on the current thread, cancelling all work
+     * submitted meanwhile once the returned future is cancelled.
+     *
+     * @param request Requests the suggestions
+     * @return The suggestions
+     */
+    public static CompletableFuture<Suggestions> request(final Supplier<CompletableFuture<Suggestions>> request) {
+        final @Nullable List<CompletableFuture<?>> previous = SpongeSuggestionExecutor.SUBMITTED.get();
+        final List<CompletableFuture<?>> submitted = new ArrayList<>();
+        SpongeSuggestionExecutor.SUBMITTED.set(submitted);
+        final CompletableFuture<Suggestions> suggestions;
+        try {
+            suggestions = request.get();
+        } finally {
+            SpongeSuggestionExecutor.SUBMITTED.set(previous);
+        }
+        if (!submitted.isEmpty()) {
+            suggestions.whenComplete((result, t) -> {
+                if (suggestions.isCancelled()) {
+                    submitted.forEach(future -> future.cancel(false));
+                }
+            });
+        }
+        return suggestions;
+    }
+
+    public static CompletableFuture<Suggestions> submit(final Supplier<CompletableFuture<Suggestions>> suggestions) {
+        final CompletableFuture<Suggestions> result = new CompletableFuture<>();
+        final @Nullable List<CompletableFuture<?>> submitted = SpongeSuggestionExecutor.SUBMITTED.get();
+        if (submitted != null) {
+            submitted.add(result);
+        }
+        SpongeSuggestionExecutor.EXECUTOR.execute(() -> {
+            // Superseded before a worker got to it
+            if (result.isDone()) {
+                return;
+            }
+            final CompletableFuture<Suggestions> completer;
+            try {
+                completer = suggestions.get();
+            } catch (final Throwable t) {
+                result.completeExceptionally(t);
+                return;
+            }
+            completer.whenComplete((value, t) -> {
+                if (t != null) {
+                    result.completeExceptionally(t);
+                } else {
+                    result.complete(value);
+                }
+            });
+            result.whenComplete((value, t) -> {
+                if (result.isCancelled()) {
+                    completer.cancel(false);
+                }
+            });
+        });
+        return result;
+    }
+
+    private SpongeSuggestionExecutor() {
+    }
+}
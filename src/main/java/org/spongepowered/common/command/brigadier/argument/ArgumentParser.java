@@ -56,6 +56,16 @@ CompletableFuture<Suggestions> listSuggestions(
 
     Collection<String> getExamples();
 
+    /**
+     * Gets whether the suggestions of this parser may be computed away from
+     * the server thread.
+     *
+     * @return true if the completions are thread safe
+     */
+    default boolean hasThreadSafeCompletions() {
+        return this instanceof ThreadSafeValueCompleter;
+    }
+
     default List<ArgumentType<?>> getClientCompletionArgumentType() {
         return Collections.singletonList(Constants.Command.STANDARD_STRING_ARGUMENT_TYPE);
     }
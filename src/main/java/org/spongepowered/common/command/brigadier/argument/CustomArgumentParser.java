@@ -146,6 +146,11 @@ public CompletableFuture<Suggestions> listSuggestions(
         return CommandUtil.buildSuggestionsFromCompletions(completions, builder);
     }
 
+    @Override
+    public boolean hasThreadSafeCompletions() {
+        return this.completer instanceof ThreadSafeValueCompleter;
+    }
+
     @Override
     public boolean doesNotRead() {
         return this.doesNotRead;
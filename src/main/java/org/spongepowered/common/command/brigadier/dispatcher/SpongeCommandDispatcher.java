@@ -87,6 +87,7 @@ public SpongeCommandDispatcher(final SpongeCommandManager commandManager) {
 
     public LiteralCommandNode<CommandSourceStack> register(final LiteralCommandNode<CommandSourceStack> command) {
         this.getRoot().addChild(command);
+        this.commandManager.getCommandTreeCache().invalidate();
         return command;
     }
 
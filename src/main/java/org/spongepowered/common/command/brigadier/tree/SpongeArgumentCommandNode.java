@@ -54,6 +54,7 @@
 import org.spongepowered.common.bridge.commands.arguments.CompletionsArgumentTypeBridge;
 import org.spongepowered.common.command.SpongeCommandCompletion;
 import org.spongepowered.common.command.brigadier.SpongeStringReader;
+import org.spongepowered.common.command.brigadier.SpongeSuggestionExecutor;
 import org.spongepowered.common.command.brigadier.argument.ArgumentParser;
 import org.spongepowered.common.command.brigadier.argument.ComplexSuggestionNodeProvider;
 import org.spongepowered.common.command.brigadier.argument.ResourceKeyedArgumentValueParser;
@@ -322,6 +323,10 @@ public final CompletableFuture<Suggestions> listSuggestions(
             final SuggestionsBuilder builder) throws CommandSyntaxException {
         final CompletableFuture<Suggestions> suggestions;
         if (this.getCustomSuggestions() == null) {
+            if (this.modifier == null && this.parser.hasThreadSafeCompletions() && SpongeSuggestionExecutor.isEnabled()) {
+                // Nothing here needs the server thread, the context is not modified after parsing.
+                return SpongeSuggestionExecutor.submit(() -> this.parser.listSuggestions(context, builder));
+            }
             suggestions = this.parser.listSuggestions(context, builder);
         } else {
             suggestions = this.getCustomSuggestions().getSuggestions(context, builder);
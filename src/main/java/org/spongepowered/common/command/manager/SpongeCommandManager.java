@@ -129,6 +129,7 @@ public abstract class SpongeCommandManager implements CommandManager.Mutable {
     private final Multimap<PluginContainer, SpongeCommandMapping> pluginToCommandMap = HashMultimap.create();
     private final LinkedHashMap<SpongeCommandMapping, RootCommandTreeNode> mappingToSuggestionNodes = new LinkedHashMap<>();
     private final Map<Class<?>, CommandRegistrar<?>> knownRegistrars = new ConcurrentHashMap<>();
+    private final SpongeCommandTreeCache commandTreeCache = new SpongeCommandTreeCache(this);
     private BrigadierCommandRegistrar brigadierRegistrar;
 
     public static SpongeCommandManager get(final MinecraftServer server) {
@@ -149,6 +150,14 @@ public BrigadierCommandRegistrar getBrigadierRegistrar() {
         return this.brigadierRegistrar;
     }
 
+    public SpongeCommandTreeCache getCommandTreeCache() {
+        return this.commandTreeCache;
+    }
+
+    Collection<RootCommandTreeNode> suggestionTrees() {
+        return this.mappingToSuggestionNodes.values();
+    }
+
     @Override
     public @NonNull Set<String> knownAliases() {
         return Collections.unmodifiableSet(new HashSet<>(this.commandMappings.keySet()));
@@ -269,6 +278,7 @@ public BrigadierCommandRegistrar getBrigadierRegistrar() {
         if (parameterTree instanceof RootCommandTreeNode) {
             this.mappingToSuggestionNodes.put(mapping, (RootCommandTreeNode) parameterTree);
         }
+        this.commandTreeCache.invalidate();
         return mapping;
     }
 
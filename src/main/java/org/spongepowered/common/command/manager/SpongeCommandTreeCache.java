@@ -0,0 +1,155 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.command.manager;
+
+import com.mojang.brigadier.tree.CommandNode;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.network.protocol.Packet;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.command.CommandCause;
+import org.spongepowered.common.command.brigadier.dispatcher.SpongeCommandDispatcher;
+import org.spongepowered.common.command.brigadier.dispatcher.SpongeNodePermissionCache;
+import org.spongepowered.common.command.brigadier.tree.SpongeNode;
+import org.spongepowered.common.command.registrar.tree.builder.RootCommandTreeNode;
+import org.spongepowered.common.network.packet.broadcast.EncodedPacket;
+import org.spongepowered.common.network.packet.broadcast.PacketBroadcaster;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Caches encoded command tree packets by the requirement outcomes that
+ * decide which nodes a source can see.
+ *
+ * <p>Two sources that pass and fail exactly the same requirements are sent
+ * exactly the same tree, so the suggestion tree only has to be built and
+ * serialized once for every distinct {@link Fingerprint}. Because the
+ * fingerprint is made of the outcomes themselves, permission changes result
+ * in a different key rather than a stale entry; only changes to the shape
+ * of the command tree require the cache to be {@link #invalidate() invalidated}.</p>
+ */
+public final class SpongeCommandTreeCache {
+
+    private static final int MAX_ENTRIES = 256;
+
+    private final SpongeCommandManager commandManager;
+    private final Map<Fingerprint, EncodedPacket> packets = new HashMap<>();
+
+    SpongeCommandTreeCache(final SpongeCommandManager commandManager) {
+        this.commandManager = commandManager;
+    }
+
+    public Fingerprint fingerprint(final CommandSourceStack source) {
+        final Fingerprint fingerprint = new Fingerprint();
+        final SpongeCommandDispatcher dispatcher = this.commandManager.getDispatcher();
+        this.appendNodeOutcomes(dispatcher, dispatcher.getRoot(), source, true, fingerprint);
+        final CommandCause cause = (CommandCause) source;
+        for (final RootCommandTreeNode node : this.commandManager.suggestionTrees()) {
+            node.appendRequirementOutcomes(cause, fingerprint);
+        }
+        return fingerprint;
+    }
+
+    public @Nullable EncodedPacket get(final Fingerprint fingerprint) {
+        return this.packets.get(fingerprint);
+    }
+
+    /**
+     * Encodes the supplied command tree packet and stores it against the
+     * given fingerprint.
+     *
+     * @param fingerprint The fingerprint of the source the tree was built for
+     * @param packet The command tree packet
+     * @return The packet that should be sent
+     */
+    public Packet<?> store(final Fingerprint fingerprint, final Packet<?> packet) {
+        final EncodedPacket encoded = PacketBroadcaster.encode(packet);
+        if (encoded == null) {
+            return packet;
+        }
+        if (this.packets.size() >= SpongeCommandTreeCache.MAX_ENTRIES) {
+            this.packets.clear();
+        }
+        this.packets.put(fingerprint, encoded);
+        return encoded;
+    }
+
+    public void invalidate() {
+        this.packets.clear();
+    }
+
+    private void appendNodeOutcomes(final SpongeCommandDispatcher dispatcher, final CommandNode<CommandSourceStack> parent,
+            final CommandSourceStack source, final boolean isRoot, final Fingerprint fingerprint) {
+        final Collection<CommandNode<CommandSourceStack>> children;
+        if (parent instanceof SpongeNode) {
+            children = ((SpongeNode) parent).getChildrenForSuggestions();
+        } else {
+            children = parent.getChildren();
+        }
+        for (final CommandNode<CommandSourceStack> child : children) {
+            // Children of a node that cannot be used are never sent, so their outcomes do not matter.
+            if (fingerprint.append(SpongeNodePermissionCache.canUse(isRoot, dispatcher, child, source))) {
+                this.appendNodeOutcomes(dispatcher, child, source, false, fingerprint);
+            }
+        }
+    }
+
+    /**
+     * The ordered outcomes of every requirement that affects the visibility
+     * of a node in the command tree.
+     */
+    public static final class Fingerprint {
+
+        private final BitSet outcomes = new BitSet();
+        private int length;
+
+        public boolean append(final boolean outcome) {
+            if (outcome) {
+                this.outcomes.set(this.length);
+            }
+            this.length++;
+            return outcome;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || this.getClass() != o.getClass()) {
+                return false;
+            }
+            final Fingerprint that = (Fingerprint) o;
+            return this.length == that.length && this.outcomes.equals(that.outcomes);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * this.length + this.outcomes.hashCode();
+        }
+    }
+}
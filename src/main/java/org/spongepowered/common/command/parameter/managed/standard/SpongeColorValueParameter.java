@@ -42,6 +42,7 @@
 import org.spongepowered.common.accessor.ChatFormattingAccessor;
 import org.spongepowered.common.command.SpongeCommandCompletion;
 import org.spongepowered.common.command.brigadier.argument.ResourceKeyedArgumentValueParser;
+import org.spongepowered.common.command.brigadier.argument.ThreadSafeValueCompleter;
 import org.spongepowered.common.util.Constants;
 
 import java.util.Arrays;
@@ -55,7 +56,7 @@
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
-public final class SpongeColorValueParameter extends ResourceKeyedArgumentValueParser<Color> {
+public final class SpongeColorValueParameter extends ResourceKeyedArgumentValueParser<Color> implements ThreadSafeValueCompleter {
 
     private final static Component EXCEPTION_MESSAGE = Component.text().content(
             "The color is not in one of the expected formats:").append(Component.newline())
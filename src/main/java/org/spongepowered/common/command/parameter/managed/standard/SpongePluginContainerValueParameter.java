@@ -33,6 +33,7 @@
 import org.spongepowered.api.command.parameter.ArgumentReader;
 import org.spongepowered.common.command.SpongeCommandCompletion;
 import org.spongepowered.common.command.brigadier.argument.ResourceKeyedArgumentValueParser;
+import org.spongepowered.common.command.brigadier.argument.ThreadSafeValueCompleter;
 import org.spongepowered.common.launch.Launch;
 import org.spongepowered.plugin.PluginContainer;
 
@@ -40,7 +41,7 @@
 import java.util.Optional;
 import java.util.stream.Collectors;
 
-public final class SpongePluginContainerValueParameter extends ResourceKeyedArgumentValueParser<PluginContainer> {
+public final class SpongePluginContainerValueParameter extends ResourceKeyedArgumentValueParser<PluginContainer> implements ThreadSafeValueCompleter {
 
     public SpongePluginContainerValueParameter(final ResourceKey key) {
         super(key);
@@ -36,6 +36,7 @@
 import org.spongepowered.api.command.registrar.tree.CommandCompletionProvider;
 import org.spongepowered.api.command.registrar.tree.CommandTreeNode;
 import org.spongepowered.common.command.brigadier.tree.ForcedRedirectNode;
+import org.spongepowered.common.command.manager.SpongeCommandTreeCache;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -157,6 +158,21 @@ protected final void addChildNodesToTree(
         });
     }
 
+    /**
+     * Appends the outcome of this node's requirement, and those of every
+     * child that would be visible to the cause, to the fingerprint.
+     *
+     * @param cause The cause to test against
+     * @param fingerprint The fingerprint to append to
+     */
+    public final void appendRequirementOutcomes(final CommandCause cause, final SpongeCommandTreeCache.Fingerprint fingerprint) {
+        if (fingerprint.append(this.requirement.test(cause)) && this.children != null) {
+            for (final AbstractCommandTreeNode<?, ?> child : this.children.values()) {
+                child.appendRequirementOutcomes(cause, fingerprint);
+            }
+        }
+    }
+
     protected final Predicate<CommandCause> getRequirement() {
         return this.requirement;
     }
@@ -60,12 +60,17 @@
 import org.spongepowered.api.world.server.ServerWorld;
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.bridge.server.level.ServerChunkCacheBridge;
 import org.spongepowered.common.bridge.server.level.ServerLevelBridge;
 import org.spongepowered.common.bridge.world.level.LevelBridge;
 import org.spongepowered.common.config.SpongeGameConfigs;
 import org.spongepowered.common.event.manager.SpongeEventManager;
 import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.event.tracking.context.NeighborNotificationCoalescer;
 import org.spongepowered.common.launch.Launch;
+import org.spongepowered.common.scoreboard.SpongeScoreboardChangeBuffer;
+import org.spongepowered.common.world.level.SpongeEntityMerges;
+import org.spongepowered.common.world.server.SpongeIncrementalChunkSaver;
 import org.spongepowered.plugin.PluginContainer;
 import org.spongepowered.plugin.metadata.PluginMetadata;
 import org.spongepowered.plugin.metadata.model.PluginContributor;
@@ -498,11 +503,32 @@ private Command.Parameterized chunksSubcommand() {
                   Component.text()
                     .append(Component.text(world.key().asString(), TextColor.color(0xC9C9C9)))
                     .append(Component.text(": "));
-                tps.add(this.appendTickTime(((ServerLevelBridge) world).bridge$recentTickTimes(), builder).build());
+                this.appendTickTime(((ServerLevelBridge) world).bridge$recentTickTimes(), builder);
+                final SpongeIncrementalChunkSaver saver = ((ServerChunkCacheBridge) ((ServerLevel) world).getChunkSource()).bridge$incrementalSaver();
+                if (saver.backlog() > 0 || saver.totalSaved() > 0) {
+                    builder.append(Component.text(" | save backlog: " + saver.backlog() + " chunks, " + saver.chunksPerSecond() + " chunks/s ("
+                        + SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(saver.averageSaveMillis()) + "ms avg)", NamedTextColor.GRAY));
+                }
+                final long merged = SpongeEntityMerges.merged((ServerLevel) world);
+                if (merged > 0) {
+                    builder.append(Component.text(" | merged entities: " + merged, NamedTextColor.GRAY));
+                }
+                final long coalesced = NeighborNotificationCoalescer.saved((ServerLevel) world);
+                if (coalesced > 0) {
+                    builder.append(Component.text(" | skipped neighbor notifications: " + coalesced, NamedTextColor.GRAY));
+                }
+                tps.add(builder.build());
             }
 
             tps.add(Component.newline());
             tps.add(this.appendTickTime(SpongeCommon.server().tickTimes, Component.text().content("Overall: ")).build());
+            tps.add(Component.text()
+              .content("Scoreboard packets (last tick): ")
+              .append(Component.text(SpongeScoreboardChangeBuffer.lastTickPacketsSent(), NamedTextColor.GRAY))
+              .append(Component.text(" sent, ", NamedTextColor.GRAY))
+              .append(Component.text(SpongeScoreboardChangeBuffer.lastTickPacketsSaved(), NamedTextColor.GRAY))
+              .append(Component.text(" saved", NamedTextColor.GRAY))
+              .build());
             SpongeCommon.game().serviceProvider()
               .paginationService()
               .builder()
@@ -0,0 +1,222 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.inheritable;
+
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.bridge.world.entity.EntityTypeBridge;
+import org.spongepowered.common.bridge.world.level.block.entity.BlockEntityTypeBridge;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * An immutable view of the per-type settings of a {@link WorldConfig}.
+ *
+ * <p>Every {@link EntityType} and {@link BlockEntityType} is resolved against
+ * the mod and type overrides of the config once, the first time it is asked
+ * for, after which the settings are looked up by the index stored on the type
+ * bridge. A snapshot is never updated, a reloaded config gets a new one.</p>
+ */
+public final class TypeConfigSnapshot {
+
+    private static final AtomicInteger ENTITY_TYPE_INDEX = new AtomicInteger();
+    private static final AtomicInteger BLOCK_ENTITY_TYPE_INDEX = new AtomicInteger();
+
+    public static int nextEntityTypeIndex() {
+        return TypeConfigSnapshot.ENTITY_TYPE_INDEX.getAndIncrement();
+    }
+
+    public static int nextBlockEntityTypeIndex() {
+        return TypeConfigSnapshot.BLOCK_ENTITY_TYPE_INDEX.getAndIncrement();
+    }
+
+    private final WorldConfig config;
+    private final AtomicReferenceArray<EntitySettings> entities;
+    private final AtomicReferenceArray<BlockEntitySettings> blockEntities;
+
+    public TypeConfigSnapshot(final WorldConfig config) {
+        this.config = config;
+        this.entities = new AtomicReferenceArray<>(TypeConfigSnapshot.ENTITY_TYPE_INDEX.get());
+        this.blockEntities = new AtomicReferenceArray<>(TypeConfigSnapshot.BLOCK_ENTITY_TYPE_INDEX.get());
+    }
+
+    /**
+     * Gets the config this snapshot was created from.
+     *
+     * @return The config
+     */
+    public WorldConfig config() {
+        return this.config;
+    }
+
+    public EntitySettings entity(final EntityType<?> type, final String activationTypeName) {
+        final int index = ((EntityTypeBridge) type).bridge$configIndex();
+        if (index >= this.entities.length()) {
+            // Types created after this snapshot are not cached
+            return this.resolveEntity(type, activationTypeName);
+        }
+        EntitySettings settings = this.entities.get(index);
+        if (settings == null || !activationTypeName.equals(settings.activationTypeName)) {
+            settings = this.resolveEntity(type, activationTypeName);
+            this.entities.lazySet(index, settings);
+        }
+        return settings;
+    }
+
+    /**
+     * Gets the maximum amount of entities an entity of the given type
+     * collides with, or -1 if collisions are not limited.
+     *
+     * @param type The entity type
+     * @return The maximum amount of collisions
+     */
+    public int maxCollisions(final EntityType<?> type) {
+        final int index = ((EntityTypeBridge) type).bridge$configIndex();
+        if (index >= this.entities.length()) {
+            return this.resolveEntity(type, null).maxCollisions;
+        }
+        EntitySettings settings = this.entities.get(index);
+        if (settings == null) {
+            settings = this.resolveEntity(type, null);
+            this.entities.lazySet(index, settings);
+        }
+        return settings.maxCollisions;
+    }
+
+    public BlockEntitySettings blockEntity(final BlockEntityType<?> type) {
+        final int index = ((BlockEntityTypeBridge) type).bridge$configIndex();
+        if (index >= this.blockEntities.length()) {
+            return this.resolveBlockEntity(type);
+        }
+        BlockEntitySettings settings = this.blockEntities.get(index);
+        if (settings == null) {
+            settings = this.resolveBlockEntity(type);
+            this.blockEntities.lazySet(index, settings);
+        }
+        return settings;
+    }
+
+    private EntitySettings resolveEntity(final EntityType<?> type, final @Nullable String activationTypeName) {
+        final ResourceLocation key = EntityType.getKey(type);
+
+        final EntityActivationRangeCategory activation = this.config.entityActivationRange;
+        final EntityActivationRangeCategory.ModSubCategory activationMod = activation.mods.get(key.getNamespace());
+        final boolean alwaysActive;
+        final Integer activationRange;
+        if (activationTypeName == null) {
+            // Only the collision settings were asked for
+            alwaysActive = false;
+            activationRange = null;
+        } else if (activationMod == null) {
+            alwaysActive = false;
+            activationRange = activation.globalRanges.get(activationTypeName);
+        } else if (!activationMod.enabled) {
+            alwaysActive = true;
+            activationRange = null;
+        } else {
+            alwaysActive = false;
+            final Integer entityRange = activationMod.entities.get(key.getPath());
+            activationRange = entityRange == null ? activationMod.defaultRanges.get(activationTypeName) : entityRange;
+        }
+
+        final EntityCollisionCategory collision = this.config.entityCollision;
+        final EntityCollisionCategory.ModSubCategory collisionMod = collision.mods.get(key.getNamespace());
+        int maxCollisions = collision.maxEntitiesWithinAABB;
+        if (collisionMod != null) {
+            if (!collisionMod.enabled) {
+                maxCollisions = -1;
+            } else {
+                if (collisionMod.entityDefault != null) {
+                    maxCollisions = collisionMod.entityDefault;
+                }
+                final Integer entityMax = collisionMod.entities.get(key.getPath());
+                if (entityMax != null) {
+                    maxCollisions = entityMax;
+                }
+            }
+        }
+
+        return new EntitySettings(activationTypeName, alwaysActive, activationRange != null, activationRange == null ? 0 : activationRange,
+            maxCollisions);
+    }
+
+    private BlockEntitySettings resolveBlockEntity(final BlockEntityType<?> type) {
+        final BlockEntityActivationCategory activation = this.config.blockEntityActivation;
+        final ResourceLocation key = Registry.BLOCK_ENTITY_TYPE.getKey(type);
+        final BlockEntityActivationCategory.MobSubCategory activationMod = key == null ? null : activation.mods.get(key.getNamespace());
+        if (activationMod == null) {
+            return new BlockEntitySettings(false, activation.defaultRange, activation.defaultTickRate);
+        }
+        if (!activationMod.enabled) {
+            return new BlockEntitySettings(true, activation.defaultRange, 1);
+        }
+        int range = activationMod.defaultRange == null ? activation.defaultRange : activationMod.defaultRange;
+        int tickRate = activationMod.defaultTickRate == null ? activation.defaultTickRate : activationMod.defaultTickRate;
+        final Integer typeRange = activationMod.ranges.get(key.getPath());
+        if (typeRange != null) {
+            range = typeRange;
+        }
+        final Integer typeTickRate = activationMod.tickRates.get(key.getPath());
+        if (typeTickRate != null) {
+            tickRate = typeTickRate;
+        }
+        return new BlockEntitySettings(false, range, tickRate);
+    }
+
+    public static final class EntitySettings {
+
+        final @Nullable String activationTypeName;
+        public final boolean alwaysActive;
+        public final boolean hasActivationRange;
+        public final int activationRange;
+        public final int maxCollisions;
+
+        EntitySettings(final @Nullable String activationTypeName, final boolean alwaysActive, final boolean hasActivationRange, final int activationRange,
+            final int maxCollisions) {
+            this.activationTypeName = activationTypeName;
+            this.alwaysActive = alwaysActive;
+            this.hasActivationRange = hasActivationRange;
+            this.activationRange = activationRange;
+            this.maxCollisions = maxCollisions;
+        }
+    }
+
+    public static final class BlockEntitySettings {
+
+        public final boolean alwaysActive;
+        public final int activationRange;
+        public final int tickRate;
+
+        BlockEntitySettings(final boolean alwaysActive, final int activationRange, final int tickRate) {
+            this.alwaysActive = alwaysActive;
+            this.activationRange = activationRange;
+            this.tickRate = tickRate;
+        }
+    }
+}
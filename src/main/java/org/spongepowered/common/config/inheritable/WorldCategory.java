@@ -50,4 +50,20 @@ public final class WorldCategory {
     @Setting("log-auto-save")
     @Comment("Log when a world auto-saves its chunk data. Note: This may be spammy depending on the auto-save-interval configured for world.")
     public final boolean logAutoSave = false;
+
+    @Setting("incremental-auto-save")
+    @Comment("If 'true', auto-saves no longer serialize every modified chunk in a single tick. \n"
+        + "Instead, modified chunks are queued when the auto-save-interval is reached, the chunks \n"
+        + "saved the longest time ago first, and saved a few at a time on the following ticks. \n"
+        + "Shutting down the server or running /save-all still saves all chunks at once.")
+    public boolean incrementalAutoSave = false;
+
+    @Setting("auto-save-max-chunks-per-tick")
+    @Comment("The maximum amount of queued chunks saved per tick when incremental-auto-save is enabled.")
+    public int autoSaveMaxChunksPerTick = 24;
+
+    @Setting("auto-save-max-millis-per-tick")
+    @Comment("The maximum amount of time, in milliseconds, spent saving queued chunks per tick \n"
+        + "when incremental-auto-save is enabled. At least one chunk is always saved per tick.")
+    public double autoSaveMaxMillisPerTick = 5.0D;
 }
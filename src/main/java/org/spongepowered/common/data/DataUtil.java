@@ -174,15 +174,18 @@ private static void upgradeV2CustomData(final CompoundTag compound, final DataCo
 
     public static <T extends SpongeDataHolderBridge & DataCompoundHolder> boolean serializeSpongeData(final T dataHolder) {
         CompoundTag compound = dataHolder.data$getCompound();
+        if (dataHolder.bridge$isDataSerializedTo(compound)) {
+            // Nothing changed since the data was last written to this compound
+            return compound != null;
+        }
         if (compound == null) {
             compound = new CompoundTag();
             dataHolder.data$setCompound(compound);
         }
         compound.remove(Constants.Sponge.Data.V3.SPONGE_DATA_ROOT.asString(".")); // Remove all previous SpongeData
 
-        final DataContainer allData = NBTTranslator.INSTANCE.translate(compound);
-
-        // Clear old custom data root
+        // Only the serialized data is translated, the rest of the compound is left as is
+        final DataContainer allData = DataContainer.createNew();
         final DataView customDataRoot = allData.createView(Constants.Sponge.Data.V3.SPONGE_DATA_ROOT);
 
         dataHolder.bridge$getFailedData().forEach(customDataRoot::set); // Add back failed data
@@ -193,14 +196,16 @@ public static <T extends SpongeDataHolderBridge & DataCompoundHolder> boolean se
                 .map(key -> SpongeDataManager.getDatastoreRegistry().getDataStore(key, dataHolderType))
                 .forEach(dataStore -> dataStore.serialize(manipulator, allData));
 
-        // If data is still present after cleanup merge it back into nbt
+        // If data is still present after cleanup merge it into nbt
         if (DataUtil.cleanupEmptySpongeData(allData)) {
             compound.merge(NBTTranslator.INSTANCE.translate(allData));
         }
         if (compound.isEmpty()) {
             dataHolder.data$setCompound(null);
+            dataHolder.bridge$markDataSerializedTo(null);
             return false;
         }
+        dataHolder.bridge$markDataSerializedTo(compound);
         return true;
     }
 
@@ -108,6 +108,7 @@
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Singleton
 public final class SpongeDataManager implements DataManager {
@@ -120,6 +121,8 @@ public final class SpongeDataManager implements DataManager {
     private final Map<Class<? extends DataHolder.Immutable<?>>, DataHolderBuilder.Immutable<?, ?>> immutableDataBuilderMap;
     private final Map<Class<? extends DataSerializable>, List<DataContentUpdater>> updatersMap;
     private final List<DataContentUpdater> customDataUpdaters;
+    private final Map<UpdaterKey, Optional<DataContentUpdater>> wrappedUpdaters = new ConcurrentHashMap<>();
+    private final Map<UpdaterKey, Optional<DataContentUpdater>> wrappedCustomUpdaters = new ConcurrentHashMap<>();
     private final Map<String, ResourceKey> legacyRegistrations;
     private final List<KeyBasedDataListener<?>> keyListeners;
     private final Map<String, DataQuery> legacySpongeData = new HashMap<>();
@@ -158,13 +161,19 @@ public <T extends DataSerializable> void registerBuilder(final Class<T> clazz, f
     public <T extends DataSerializable> void registerContentUpdater(final Class<T> clazz, final DataContentUpdater updater) {
         Objects.requireNonNull(updater);
 
-        final List<DataContentUpdater> updaters = this.updatersMap.computeIfAbsent(clazz, k -> new ArrayList<>());
-        updaters.add(updater);
-        updaters.sort(Constants.Functional.DATA_CONTENT_UPDATER_COMPARATOR);
+        synchronized (this.updatersMap) {
+            final List<DataContentUpdater> updaters = this.updatersMap.computeIfAbsent(clazz, k -> new ArrayList<>());
+            updaters.add(updater);
+            updaters.sort(Constants.Functional.DATA_CONTENT_UPDATER_COMPARATOR);
+            this.wrappedUpdaters.clear();
+        }
     }
 
     public void registerCustomDataContentUpdater(final DataContentUpdater updater) {
-        this.customDataUpdaters.add(updater);
+        synchronized (this.customDataUpdaters) {
+            this.customDataUpdaters.add(updater);
+            this.wrappedCustomUpdaters.clear();
+        }
     }
 
     @Override
@@ -176,15 +185,32 @@ public <T extends DataSerializable> Optional<DataContentUpdater> wrappedContentU
         if (fromVersion < toVersion) {
             throw new IllegalArgumentException("Attempting to backwards convert data! This isn't supported!");
         }
-        final List<DataContentUpdater> updaters = this.updatersMap.get(clazz);
-        if (updaters == null) {
-            return Optional.empty();
+        final UpdaterKey key = new UpdaterKey(clazz, fromVersion, toVersion);
+        final Optional<DataContentUpdater> cached = this.wrappedUpdaters.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        // Composed while holding the registration lock, so a chain is never cached after a newer registration cleared the cache
+        synchronized (this.updatersMap) {
+            final List<DataContentUpdater> updaters = this.updatersMap.get(clazz);
+            if (updaters == null) {
+                return Optional.empty();
+            }
+            return this.wrappedUpdaters.computeIfAbsent(key,
+                k -> SpongeDataManager.getWrappedContentUpdater(clazz, fromVersion, toVersion, updaters));
         }
-        return SpongeDataManager.getWrappedContentUpdater(clazz, fromVersion, toVersion, updaters);
     }
 
     public Optional<DataContentUpdater> getWrappedCustomContentUpdater(final Class<Mutable> mutableClass, final int version, final int currentCustomData) {
-        return SpongeDataManager.getWrappedContentUpdater(mutableClass, version, currentCustomData, this.customDataUpdaters);
+        final UpdaterKey key = new UpdaterKey(mutableClass, version, currentCustomData);
+        final Optional<DataContentUpdater> cached = this.wrappedCustomUpdaters.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        synchronized (this.customDataUpdaters) {
+            return this.wrappedCustomUpdaters.computeIfAbsent(key,
+                k -> SpongeDataManager.getWrappedContentUpdater(mutableClass, version, currentCustomData, this.customDataUpdaters));
+        }
     }
 
     private static Optional<DataContentUpdater> getWrappedContentUpdater(final Class<?> clazz, final int fromVersion, final int toVersion, final List<DataContentUpdater> updaters) {
@@ -414,4 +440,34 @@ public void registerLegacySpongeData(String nbtKey, ResourceKey dataStoreKey, Ke
     public @Nullable DataQuery legacySpongeDataQuery(String nbtKey) {
         return this.legacySpongeData.get(nbtKey);
     }
+
+    private static final class UpdaterKey {
+
+        private final Class<?> clazz;
+        private final int fromVersion;
+        private final int toVersion;
+
+        UpdaterKey(final Class<?> clazz, final int fromVersion, final int toVersion) {
+            this.clazz = clazz;
+            this.fromVersion = fromVersion;
+            this.toVersion = toVersion;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof UpdaterKey)) {
+                return false;
+            }
+            final UpdaterKey other = (UpdaterKey) o;
+            return this.clazz == other.clazz && this.fromVersion == other.fromVersion && this.toVersion == other.toVersion;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * this.clazz.hashCode() + this.fromVersion) + this.toVersion;
+        }
+    }
 }
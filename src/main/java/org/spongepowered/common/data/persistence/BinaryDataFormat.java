@@ -0,0 +1,391 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataFormat;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataSerializable;
+import org.spongepowered.api.data.persistence.DataView;
+import org.spongepowered.api.data.persistence.InvalidDataException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compact binary {@link DataFormat}.
+ *
+ * <p>Every value is written as a one byte type followed by its payload.
+ * Strings, arrays, lists and views are prefixed with their length, and
+ * primitive arrays are written as is. Each distinct key is only written
+ * once per stream, later uses refer to it by its index in the order keys
+ * were first written. Reading builds the resulting {@link DataContainer}
+ * directly from the input, without going through another tree first.</p>
+ */
+public final class BinaryDataFormat implements DataFormat {
+
+    private static final int FORMAT_VERSION = 1;
+
+    private static final byte NULL = 0;
+    private static final byte FALSE = 1;
+    private static final byte TRUE = 2;
+    private static final byte BYTE = 3;
+    private static final byte SHORT = 4;
+    private static final byte INT = 5;
+    private static final byte LONG = 6;
+    private static final byte FLOAT = 7;
+    private static final byte DOUBLE = 8;
+    private static final byte STRING = 9;
+    private static final byte BYTE_ARRAY = 10;
+    private static final byte INT_ARRAY = 11;
+    private static final byte LONG_ARRAY = 12;
+    private static final byte LIST = 13;
+    private static final byte VIEW = 14;
+
+    @Override
+    public DataContainer readFrom(final InputStream input) throws InvalidDataException, IOException {
+        try (final DataInputStream dis = new DataInputStream(input instanceof BufferedInputStream || input instanceof DataInputStream
+            ? input : new BufferedInputStream(input))) {
+            return BinaryDataFormat.read(dis);
+        }
+    }
+
+    /**
+     * Reads a container from the remaining bytes of a buffer, without
+     * copying them.
+     *
+     * @param buffer The buffer
+     * @return The container
+     * @throws IOException If the data is malformed
+     */
+    public DataContainer readFrom(final ByteBuffer buffer) throws InvalidDataException, IOException {
+        try (final ByteBufInputStream input = new ByteBufInputStream(Unpooled.wrappedBuffer(buffer))) {
+            return BinaryDataFormat.read(input);
+        }
+    }
+
+    /**
+     * Reads a container from a file, which is memory-mapped rather than
+     * read through a stream.
+     *
+     * @param file The file
+     * @return The container
+     * @throws IOException If the file could not be read or the data is malformed
+     */
+    public DataContainer readFrom(final Path file) throws InvalidDataException, IOException {
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return this.readFrom(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    @Override
+    public void writeTo(final OutputStream output, final DataView data) throws IOException {
+        try (final DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(output))) {
+            dos.writeByte(BinaryDataFormat.FORMAT_VERSION);
+            new Writer(dos).writeView(data);
+        }
+    }
+
+    private static DataContainer read(final DataInput input) throws IOException {
+        final int version = input.readUnsignedByte();
+        if (version != BinaryDataFormat.FORMAT_VERSION) {
+            throw new InvalidDataException("Unsupported binary data format version: " + version);
+        }
+        final Reader reader = new Reader(input);
+        final DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
+        reader.readView(container);
+        return container;
+    }
+
+    private static void writeVarInt(final DataOutput output, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            output.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        output.writeByte(value);
+    }
+
+    private static int readVarInt(final DataInput input) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            final int b = input.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new InvalidDataException("VarInt is too big");
+    }
+
+    private static int readLength(final DataInput input) throws IOException {
+        final int length = BinaryDataFormat.readVarInt(input);
+        if (length < 0) {
+            throw new InvalidDataException("Negative length: " + length);
+        }
+        return length;
+    }
+
+    private static final class Writer {
+
+        private final DataOutput output;
+        private final Object2IntMap<String> keys = new Object2IntOpenHashMap<>();
+
+        Writer(final DataOutput output) {
+            this.output = output;
+            this.keys.defaultReturnValue(-1);
+        }
+
+        void writeView(final DataView view) throws IOException {
+            final Map<DataQuery, Object> values = view.values(false);
+            this.output.writeByte(BinaryDataFormat.VIEW);
+            BinaryDataFormat.writeVarInt(this.output, values.size());
+            for (final Map.Entry<DataQuery, Object> entry : values.entrySet()) {
+                this.writeKey(entry.getKey().asString('.'));
+                this.write(entry.getValue());
+            }
+        }
+
+        private void writeMap(final Map<?, ?> map) throws IOException {
+            this.output.writeByte(BinaryDataFormat.VIEW);
+            BinaryDataFormat.writeVarInt(this.output, map.size());
+            for (final Map.Entry<?, ?> entry : map.entrySet()) {
+                final Object key = entry.getKey();
+                this.writeKey(key instanceof DataQuery ? ((DataQuery) key).asString('.') : key.toString());
+                this.write(entry.getValue());
+            }
+        }
+
+        private void writeKey(final String key) throws IOException {
+            final int index = this.keys.getInt(key);
+            if (index != -1) {
+                BinaryDataFormat.writeVarInt(this.output, index + 1);
+                return;
+            }
+            this.keys.put(key, this.keys.size());
+            BinaryDataFormat.writeVarInt(this.output, 0);
+            this.writeString(key);
+        }
+
+        private void writeString(final String value) throws IOException {
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            BinaryDataFormat.writeVarInt(this.output, bytes.length);
+            this.output.write(bytes);
+        }
+
+        private void write(final @Nullable Object value) throws IOException {
+            if (value == null) {
+                this.output.writeByte(BinaryDataFormat.NULL);
+            } else if (value instanceof Boolean) {
+                this.output.writeByte((Boolean) value ? BinaryDataFormat.TRUE : BinaryDataFormat.FALSE);
+            } else if (value instanceof Byte) {
+                this.output.writeByte(BinaryDataFormat.BYTE);
+                this.output.writeByte((Byte) value);
+            } else if (value instanceof Short) {
+                this.output.writeByte(BinaryDataFormat.SHORT);
+                this.output.writeShort((Short) value);
+            } else if (value instanceof Integer) {
+                this.output.writeByte(BinaryDataFormat.INT);
+                this.output.writeInt((Integer) value);
+            } else if (value instanceof Long) {
+                this.output.writeByte(BinaryDataFormat.LONG);
+                this.output.writeLong((Long) value);
+            } else if (value instanceof Float) {
+                this.output.writeByte(BinaryDataFormat.FLOAT);
+                this.output.writeFloat((Float) value);
+            } else if (value instanceof Double) {
+                this.output.writeByte(BinaryDataFormat.DOUBLE);
+                this.output.writeDouble((Double) value);
+            } else if (value instanceof String) {
+                this.output.writeByte(BinaryDataFormat.STRING);
+                this.writeString((String) value);
+            } else if (value instanceof byte[]) {
+                final byte[] array = (byte[]) value;
+                this.output.writeByte(BinaryDataFormat.BYTE_ARRAY);
+                BinaryDataFormat.writeVarInt(this.output, array.length);
+                this.output.write(array);
+            } else if (value instanceof int[]) {
+                final int[] array = (int[]) value;
+                this.output.writeByte(BinaryDataFormat.INT_ARRAY);
+                BinaryDataFormat.writeVarInt(this.output, array.length);
+                for (final int i : array) {
+                    this.output.writeInt(i);
+                }
+            } else if (value instanceof long[]) {
+                final long[] array = (long[]) value;
+                this.output.writeByte(BinaryDataFormat.LONG_ARRAY);
+                BinaryDataFormat.writeVarInt(this.output, array.length);
+                for (final long l : array) {
+                    this.output.writeLong(l);
+                }
+            } else if (value instanceof Collection) {
+                final Collection<?> collection = (Collection<?>) value;
+                this.output.writeByte(BinaryDataFormat.LIST);
+                BinaryDataFormat.writeVarInt(this.output, collection.size());
+                for (final Object element : collection) {
+                    this.write(element);
+                }
+            } else if (value instanceof Map) {
+                this.writeMap((Map<?, ?>) value);
+            } else if (value instanceof DataSerializable) {
+                this.writeView(((DataSerializable) value).toContainer());
+            } else if (value instanceof DataView) {
+                this.writeView((DataView) value);
+            } else {
+                throw new IllegalArgumentException("Unable to write object in binary data format: " + value);
+            }
+        }
+    }
+
+    private static final class Reader {
+
+        private final DataInput input;
+        private final List<DataQuery> keys = new ArrayList<>();
+
+        Reader(final DataInput input) {
+            this.input = input;
+        }
+
+        void readView(final DataView view) throws IOException {
+            final byte type = this.input.readByte();
+            if (type != BinaryDataFormat.VIEW) {
+                throw new InvalidDataException("Expected a view, got type " + type);
+            }
+            this.readViewContents(view);
+        }
+
+        private void readViewContents(final DataView view) throws IOException {
+            final int size = BinaryDataFormat.readLength(this.input);
+            for (int i = 0; i < size; i++) {
+                final DataQuery key = this.readKey();
+                final byte type = this.input.readByte();
+                if (type == BinaryDataFormat.VIEW) {
+                    // Fill the sub view in place instead of copying it into the parent
+                    this.readViewContents(view.createView(key));
+                } else {
+                    view.set(key, this.read(type));
+                }
+            }
+        }
+
+        private DataQuery readKey() throws IOException {
+            final int index = BinaryDataFormat.readVarInt(this.input);
+            if (index == 0) {
+                final DataQuery key = DataQuery.of(this.readString());
+                this.keys.add(key);
+                return key;
+            }
+            if (index > this.keys.size()) {
+                throw new InvalidDataException("Unknown key index: " + (index - 1));
+            }
+            return this.keys.get(index - 1);
+        }
+
+        private String readString() throws IOException {
+            final byte[] bytes = new byte[BinaryDataFormat.readLength(this.input)];
+            this.input.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private @Nullable Object read(final byte type) throws IOException {
+            switch (type) {
+                case BinaryDataFormat.NULL:
+                    return null;
+                case BinaryDataFormat.FALSE:
+                    return false;
+                case BinaryDataFormat.TRUE:
+                    return true;
+                case BinaryDataFormat.BYTE:
+                    return this.input.readByte();
+                case BinaryDataFormat.SHORT:
+                    return this.input.readShort();
+                case BinaryDataFormat.INT:
+                    return this.input.readInt();
+                case BinaryDataFormat.LONG:
+                    return this.input.readLong();
+                case BinaryDataFormat.FLOAT:
+                    return this.input.readFloat();
+                case BinaryDataFormat.DOUBLE:
+                    return this.input.readDouble();
+                case BinaryDataFormat.STRING:
+                    return this.readString();
+                case BinaryDataFormat.BYTE_ARRAY: {
+                    final byte[] array = new byte[BinaryDataFormat.readLength(this.input)];
+                    this.input.readFully(array);
+                    return array;
+                }
+                case BinaryDataFormat.INT_ARRAY: {
+                    final int[] array = new int[BinaryDataFormat.readLength(this.input)];
+                    for (int i = 0; i < array.length; i++) {
+                        array[i] = this.input.readInt();
+                    }
+                    return array;
+                }
+                case BinaryDataFormat.LONG_ARRAY: {
+                    final long[] array = new long[BinaryDataFormat.readLength(this.input)];
+                    for (int i = 0; i < array.length; i++) {
+                        array[i] = this.input.readLong();
+                    }
+                    return array;
+                }
+                case BinaryDataFormat.LIST: {
+                    final int size = BinaryDataFormat.readLength(this.input);
+                    final List<@Nullable Object> list = new ArrayList<>(Math.min(size, 1024));
+                    for (int i = 0; i < size; i++) {
+                        list.add(this.read(this.input.readByte()));
+                    }
+                    return list;
+                }
+                case BinaryDataFormat.VIEW: {
+                    final DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
+                    this.readViewContents(container);
+                    return container;
+                }
+                default:
+                    throw new InvalidDataException("Unknown type: " + type);
+            }
+        }
+    }
+}
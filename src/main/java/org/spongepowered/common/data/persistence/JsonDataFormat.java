@@ -158,15 +158,23 @@ private static Object readArray(String type, DataView container) {
         }
         switch (type) {
             case INT:
-                return list.stream().mapToInt(n -> (int) n).toArray();
+                final int[] ints = new int[list.size()];
+                for (int i = 0; i < ints.length; i++) {
+                    ints[i] = ((Number) list.get(i)).intValue();
+                }
+                return ints;
             case BYTE:
                 final byte[] bytes = new byte[list.size()];
-                for (int i = 0; i < list.size(); i++) {
-                    bytes[i] = (byte) list.get(i);
+                for (int i = 0; i < bytes.length; i++) {
+                    bytes[i] = ((Number) list.get(i)).byteValue();
                 }
                 return bytes;
             case LONG:
-                return list.stream().mapToLong(n -> (long) n).toArray();
+                final long[] longs = new long[list.size()];
+                for (int i = 0; i < longs.length; i++) {
+                    longs[i] = ((Number) list.get(i)).longValue();
+                }
+                return longs;
             default:
                 throw new IllegalArgumentException("Unknown type " + type);
 
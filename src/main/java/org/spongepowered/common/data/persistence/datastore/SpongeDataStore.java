@@ -37,6 +37,7 @@
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
@@ -45,6 +46,7 @@ public final class SpongeDataStore extends VanillaDataStore {
     private ResourceKey key;
     private int version;
     private DataContentUpdater[] updaters;
+    private final Map<Integer, Optional<DataContentUpdater>> updatersByVersion = new ConcurrentHashMap<>();
 
     public SpongeDataStore(ResourceKey key, final Map<Key<?>, Tuple<BiConsumer<DataView, ?>, Function<DataView, Optional<?>>>> queriesByKey,
             final Collection<Type> tokens, int version, DataContentUpdater[] updaters) {
@@ -63,6 +65,10 @@ public int getVersion() {
     }
 
     public Optional<DataContentUpdater> getUpdaterFor(Integer fromVersion) {
+        return this.updatersByVersion.computeIfAbsent(fromVersion, this::createUpdaterFor);
+    }
+
+    private Optional<DataContentUpdater> createUpdaterFor(Integer fromVersion) {
         int toVersion = this.version;
         ImmutableList.Builder<DataContentUpdater> builder = ImmutableList.builder();
         int version = fromVersion;
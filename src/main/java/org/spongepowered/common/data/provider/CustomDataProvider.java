@@ -25,6 +25,7 @@
 package org.spongepowered.common.data.provider;
 
 import io.leangen.geantyref.GenericTypeReflector;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.block.entity.BlockEntity;
 import org.spongepowered.api.data.DataHolder;
 import org.spongepowered.api.data.DataTransactionResult;
@@ -34,61 +35,80 @@
 import org.spongepowered.common.bridge.data.SpongeDataHolderBridge;
 
 import java.lang.reflect.Type;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class CustomDataProvider<V extends Value<E>, E> extends MutableDataProvider<V, E> {
 
     private final Set<Type> supportedTokens;
+    private final Class<?>[] supportedClasses;
+    private final boolean supportsBlockEntities;
+    // Whether a holder class is supported only depends on the tokens, so it is decided once per class
+    private final Map<Class<?>, Boolean> supportedHolderClasses = new ConcurrentHashMap<>();
 
     public CustomDataProvider(final Key<V> key, final Set<Type> supportedTokens) {
         super(key);
         this.supportedTokens = supportedTokens;
+        this.supportedClasses = supportedTokens.stream().map(GenericTypeReflector::erase).toArray(Class<?>[]::new);
+        this.supportsBlockEntities = this.isSupportedClass(BlockEntity.class);
     }
 
     @Override
     public Optional<E> get(DataHolder dataHolder) {
-        if (this.isSupported(dataHolder)) {
-            final SpongeDataHolderBridge customDataHolder = CustomDataProvider.getCustomDataHolder(dataHolder);
+        final @Nullable SpongeDataHolderBridge customDataHolder = this.getCustomDataHolder(dataHolder);
+        if (customDataHolder != null) {
             return customDataHolder.bridge$get(this.key());
         }
         return Optional.empty();
     }
 
-    private static SpongeDataHolderBridge getCustomDataHolder(DataHolder dataHolder) {
-        final SpongeDataHolderBridge customDataHolder;
+    /**
+     * Gets the holder of the custom data for the given data holder, which
+     * is the block entity for {@link ServerLocation}s.
+     *
+     * @param dataHolder The data holder
+     * @return The custom data holder, or null if not supported
+     */
+    private @Nullable SpongeDataHolderBridge getCustomDataHolder(final DataHolder dataHolder) {
         if (dataHolder instanceof ServerLocation) {
-            customDataHolder = (SpongeDataHolderBridge) ((ServerLocation) dataHolder).blockEntity().get();
-        } else {
-            customDataHolder = (SpongeDataHolderBridge) dataHolder;
+            if (!this.supportsBlockEntities) {
+                return null;
+            }
+            return (SpongeDataHolderBridge) ((ServerLocation) dataHolder).blockEntity().orElse(null);
+        }
+        if (dataHolder instanceof SpongeDataHolderBridge && this.isSupportedHolderClass(dataHolder.getClass())) {
+            return (SpongeDataHolderBridge) dataHolder;
         }
-        return customDataHolder;
+        return null;
     }
 
-    @Override
-    public boolean isSupported(DataHolder dataHolder) {
-        if (dataHolder instanceof ServerLocation) {
-            if (!((ServerLocation) dataHolder).hasBlockEntity()) {
-                return false;
-            }
-            for (final Type type : this.supportedTokens) {
-                if (GenericTypeReflector.erase(type).isAssignableFrom(BlockEntity.class)) {
-                    return true;
-                }
-            }
-            return false;
-        }
-        if (!(dataHolder instanceof SpongeDataHolderBridge)) {
-            return false;
+    private boolean isSupportedHolderClass(final Class<?> holderClass) {
+        final Boolean supported = this.supportedHolderClasses.get(holderClass);
+        if (supported != null) {
+            return supported;
         }
-        for (final Type type : this.supportedTokens) {
-            if (GenericTypeReflector.erase(type).isAssignableFrom(dataHolder.getClass())) {
+        return this.supportedHolderClasses.computeIfAbsent(holderClass, this::isSupportedClass);
+    }
+
+    private boolean isSupportedClass(final Class<?> holderClass) {
+        for (final Class<?> supportedClass : this.supportedClasses) {
+            if (supportedClass.isAssignableFrom(holderClass)) {
                 return true;
             }
         }
         return false;
     }
 
+    @Override
+    public boolean isSupported(DataHolder dataHolder) {
+        if (dataHolder instanceof ServerLocation) {
+            return this.supportsBlockEntities && ((ServerLocation) dataHolder).hasBlockEntity();
+        }
+        return dataHolder instanceof SpongeDataHolderBridge && this.isSupportedHolderClass(dataHolder.getClass());
+    }
+
     @Override
     public boolean isSupported(final Type dataHolder) {
         if (!SpongeDataHolderBridge.class.isAssignableFrom(GenericTypeReflector.erase(dataHolder))) {
@@ -104,16 +124,18 @@ public boolean isSupported(final Type dataHolder) {
 
     @Override
     public DataTransactionResult offer(DataHolder.Mutable dataHolder, E element) {
-        if (this.isSupported(dataHolder)) {
-            return CustomDataProvider.getCustomDataHolder(dataHolder).bridge$offer(this.key(),  element);
+        final @Nullable SpongeDataHolderBridge customDataHolder = this.getCustomDataHolder(dataHolder);
+        if (customDataHolder != null) {
+            return customDataHolder.bridge$offer(this.key(),  element);
         }
         return DataTransactionResult.failNoData();
     }
 
     @Override
     public DataTransactionResult remove(DataHolder.Mutable dataHolder) {
-        if (this.isSupported(dataHolder)) {
-            return CustomDataProvider.getCustomDataHolder(dataHolder).bridge$remove(this.key());
+        final @Nullable SpongeDataHolderBridge customDataHolder = this.getCustomDataHolder(dataHolder);
+        if (customDataHolder != null) {
+            return customDataHolder.bridge$remove(this.key());
         }
         return DataTransactionResult.failNoData();
     }
@@ -46,10 +46,9 @@ private MapInfoData() {
 	public static void register(final DataProviderRegistrator registrator) {
 		registrator.asMutable(MapItemSavedData.class)
 				.create(Keys.MAP_CANVAS)
-					.get(mapData -> new SpongeMapByteCanvas(mapData.colors))
+					.get(mapData -> new SpongeMapByteCanvas(mapData.colors.clone()))
 					.set((mapData, mapCanvas) -> {
 						((SpongeMapCanvas)mapCanvas).applyToMapData(mapData);
-						((MapItemSavedDataBridge)mapData).bridge$updateWholeMap();
 					})
 				.create(Keys.MAP_LOCATION)
 					.get(mapData -> Vector2i.from(mapData.x, mapData.z))
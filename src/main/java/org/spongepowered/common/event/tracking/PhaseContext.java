@@ -37,6 +37,7 @@
 import org.spongepowered.api.event.Event;
 import org.spongepowered.api.event.EventContextKeys;
 import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.event.tracking.context.NeighborNotificationCoalescer;
 import org.spongepowered.common.event.tracking.context.transaction.TransactionalCaptureSupplier;
 import org.spongepowered.common.util.MemoizedSupplier;
 import org.spongepowered.common.util.PrettyPrinter;
@@ -61,6 +62,7 @@
     @MonotonicNonNull private static Supplier<PhaseContext<@NonNull ?>> EMPTY = MemoizedSupplier.memoize(() -> new EmptyContext(new PhaseTracker()).markEmpty());
     protected final PhaseTracker createdTracker;
     @MonotonicNonNull private TransactionalCaptureSupplier transactor;
+    @MonotonicNonNull private NeighborNotificationCoalescer notificationCoalescer;
 
     /**
      * Default flagged empty PhaseContext that can be used for stubbing in corner cases.
@@ -255,6 +257,13 @@ public TransactionalCaptureSupplier getTransactor() {
         return this.transactor;
     }
 
+    public NeighborNotificationCoalescer getNeighborNotificationCoalescer() {
+        if (this.notificationCoalescer == null) {
+            this.notificationCoalescer = new NeighborNotificationCoalescer();
+        }
+        return this.notificationCoalescer;
+    }
+
     public boolean hasCaptures() {
         if (this.transactor != null && !this.transactor.isEmpty()) {
             return true;
@@ -355,6 +364,9 @@ protected void reset() {
         if (this.transactor != null) {
             this.transactor.reset();
         }
+        if (this.notificationCoalescer != null) {
+            this.notificationCoalescer.reset();
+        }
     }
 
     public void printTrace(final PrettyPrinter printer) {
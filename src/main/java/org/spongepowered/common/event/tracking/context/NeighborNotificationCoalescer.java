@@ -0,0 +1,125 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking.context;
+
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Remembers the neighbor notifications performed during a phase, so that a
+ * notification of the same position, from the same block at the same
+ * position, can be skipped when no block has changed since the first one
+ * within the same tick.
+ */
+public final class NeighborNotificationCoalescer {
+
+    private static final Object2LongMap<ResourceKey<Level>> SAVED = new Object2LongOpenHashMap<>();
+    // Block changes can happen in nested phases, so this is counted for all phases
+    private static long blockChanges;
+
+    private final Set<Notification> performed = new HashSet<>();
+    private long blockChangesSeen = -1;
+    private long gameTimeSeen = -1;
+
+    public static void recordBlockChange() {
+        NeighborNotificationCoalescer.blockChanges++;
+    }
+
+    public static long saved(final Level level) {
+        return NeighborNotificationCoalescer.SAVED.getLong(level.dimension());
+    }
+
+    /**
+     * Checks whether the notification still needs to be performed, which is
+     * the case unless the same one was already performed since the last block change.
+     *
+     * @param level The world
+     * @param target The notified position
+     * @param sourceBlock The notifying block
+     * @param sourcePos The notifying position
+     * @return True if the notification should be performed
+     */
+    public boolean shouldNotify(final Level level, final BlockPos target, final Block sourceBlock, final BlockPos sourcePos) {
+        final long gameTime = level.getGameTime();
+        if (this.blockChangesSeen != NeighborNotificationCoalescer.blockChanges || this.gameTimeSeen != gameTime) {
+            this.blockChangesSeen = NeighborNotificationCoalescer.blockChanges;
+            this.gameTimeSeen = gameTime;
+            this.performed.clear();
+        }
+        if (this.performed.add(new Notification(level, target, sourceBlock, sourcePos))) {
+            return true;
+        }
+        NeighborNotificationCoalescer.SAVED.mergeLong(level.dimension(), 1, Long::sum);
+        return false;
+    }
+
+    public void reset() {
+        this.performed.clear();
+        this.blockChangesSeen = -1;
+        this.gameTimeSeen = -1;
+    }
+
+    private static final class Notification {
+
+        private final Level level;
+        private final BlockPos target;
+        private final Block sourceBlock;
+        private final BlockPos sourcePos;
+
+        Notification(final Level level, final BlockPos target, final Block sourceBlock, final BlockPos sourcePos) {
+            this.level = level;
+            this.target = target;
+            this.sourceBlock = sourceBlock;
+            this.sourcePos = sourcePos;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Notification)) {
+                return false;
+            }
+            final Notification other = (Notification) o;
+            return this.level == other.level
+                && this.sourceBlock == other.sourceBlock
+                && this.target.equals(other.target)
+                && this.sourcePos.equals(other.sourcePos);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * this.target.hashCode() + this.sourcePos.hashCode()) + System.identityHashCode(this.sourceBlock);
+        }
+    }
+}
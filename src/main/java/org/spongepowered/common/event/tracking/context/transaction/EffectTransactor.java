@@ -30,10 +30,11 @@
 import java.util.Deque;
 
 public class EffectTransactor implements AutoCloseable {
-    final @Nullable ResultingTransactionBySideEffect previousEffect;
-    public final @Nullable GameTransaction<@NonNull ?> parent;
+    @Nullable ResultingTransactionBySideEffect previousEffect;
+    public @Nullable GameTransaction<@NonNull ?> parent;
     private final TransactionalCaptureSupplier supplier;
-    private final ResultingTransactionBySideEffect effect;
+    private @Nullable ResultingTransactionBySideEffect effect;
+    final boolean pooled;
 
     EffectTransactor(final ResultingTransactionBySideEffect effect, final @Nullable GameTransaction<@NonNull ?> parent,
         final @Nullable ResultingTransactionBySideEffect previousEffect, final TransactionalCaptureSupplier transactor) {
@@ -46,14 +47,44 @@ public class EffectTransactor implements AutoCloseable {
         this.supplier = transactor;
         this.parent = parent;
         this.previousEffect = previousEffect;
+        this.pooled = false;
+    }
+
+    /**
+     * Creates a transactor that is recycled by the given supplier once closed,
+     * see {@link TransactionalCaptureSupplier#pushPooledEffect(ResultingTransactionBySideEffect)}.
+     *
+     * @param transactor The owning supplier
+     */
+    EffectTransactor(final TransactionalCaptureSupplier transactor) {
+        this.supplier = transactor;
+        this.pooled = true;
+    }
+
+    void init(final ResultingTransactionBySideEffect effect, final GameTransaction<@NonNull ?> parent,
+        final @Nullable ResultingTransactionBySideEffect previousEffect) {
+        this.effect = effect;
+        this.parent = parent;
+        this.previousEffect = previousEffect;
+    }
+
+    void release() {
+        this.effect = null;
+        this.parent = null;
+        this.previousEffect = null;
     }
 
     @Override
     public void close() {
-        if (this.effect.head == null
+        final @Nullable ResultingTransactionBySideEffect effect = this.effect;
+        if (effect == null) {
+            // Pooled transactor that was already closed
+            return;
+        }
+        if (effect.head == null
             && this.parent != null
             && this.parent.sideEffects != null
-            && this.parent.getEffects().peekLast() == this.effect
+            && this.parent.getEffects().peekLast() == effect
         ) {
             final Deque<ResultingTransactionBySideEffect> effects = this.parent.getEffects();
             effects.removeLast();
@@ -40,7 +40,9 @@
 import org.spongepowered.common.event.tracking.context.transaction.effect.PrepareBlockDrops;
 import org.spongepowered.common.event.tracking.context.transaction.type.TransactionType;
 
+import java.util.ArrayDeque;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.Objects;
 import java.util.Optional;
@@ -52,6 +54,8 @@
 @SuppressWarnings("rawtypes")
 public final class TransactionalCaptureSupplier implements ICaptureSupplier, TransactionSink, Iterable<GameTransaction<@NonNull ?>> {
 
+    private static final int MAX_POOLED_TRANSACTORS = 64;
+
     // We made BlockTransaction a Node and this is a pseudo LinkedList due to the nature of needing
     // to be able to track what block states exist at the time of the transaction while other transactions
     // are processing (because future transactions performing logic based on what exists at that state,
@@ -63,6 +67,8 @@ public final class TransactionalCaptureSupplier implements ICaptureSupplier, Tra
     private @Nullable GameTransaction<@NonNull ?> head;
     private @Nullable ResultingTransactionBySideEffect effect;
     private final PhaseContext<@NonNull ?> context;
+    // Transactors released by pipelines, kept with the (pooled) phase context to be reused by later effects
+    private final Deque<EffectTransactor> transactorPool = new ArrayDeque<>();
 
     public TransactionalCaptureSupplier(final PhaseContext<@NonNull ?> context) {
         this.context = context;
@@ -95,17 +101,50 @@ public boolean isEmpty() {
 
     @Override
     public EffectTransactor pushEffect(final ResultingTransactionBySideEffect effect) {
-        final GameTransaction<@NonNull ?> parentTransaction = Optional.ofNullable(this.effect)
-            .map(child -> (GameTransaction) child.tail)
-            .orElse(Objects.requireNonNull(this.tail, "Somehow pushing a new effect without an owning Transaction"));
+        final GameTransaction<@NonNull ?> parentTransaction = this.effectParent();
         final EffectTransactor effectTransactor = new EffectTransactor(effect, parentTransaction, this.effect, this);
         this.effect = effect;
         parentTransaction.addLast(effect);
         return effectTransactor;
     }
 
+    /**
+     * Pushes an effect like {@link #pushEffect(ResultingTransactionBySideEffect)},
+     * but with a transactor that is recycled once it is closed. The returned
+     * transactor must be closed exactly once, through a try-with-resources
+     * block, and must not be kept around afterwards.
+     *
+     * @param effect The effect
+     * @return The transactor, to be closed once the effect is processed
+     */
+    public EffectTransactor pushPooledEffect(final ResultingTransactionBySideEffect effect) {
+        final GameTransaction<@NonNull ?> parentTransaction = this.effectParent();
+        @Nullable EffectTransactor effectTransactor = this.transactorPool.pollFirst();
+        if (effectTransactor == null) {
+            effectTransactor = new EffectTransactor(this);
+        }
+        effectTransactor.init(effect, parentTransaction, this.effect);
+        this.effect = effect;
+        parentTransaction.addLast(effect);
+        return effectTransactor;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private GameTransaction<@NonNull ?> effectParent() {
+        if (this.effect != null && this.effect.tail != null) {
+            return (GameTransaction) this.effect.tail;
+        }
+        return Objects.requireNonNull(this.tail, "Somehow pushing a new effect without an owning Transaction");
+    }
+
     void popEffect(final EffectTransactor transactor) {
         this.effect = transactor.previousEffect;
+        if (transactor.pooled) {
+            transactor.release();
+            if (this.transactorPool.size() < TransactionalCaptureSupplier.MAX_POOLED_TRANSACTORS) {
+                this.transactorPool.addFirst(transactor);
+            }
+        }
     }
 
     @SuppressWarnings("DeprecatedIsStillUsed")
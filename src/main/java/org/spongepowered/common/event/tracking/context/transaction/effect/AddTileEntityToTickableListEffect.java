@@ -28,6 +28,7 @@
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.entity.TickableBlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
+import org.spongepowered.common.bridge.world.TrackedWorldBridge;
 import org.spongepowered.common.event.tracking.context.transaction.pipeline.BlockPipeline;
 import org.spongepowered.common.event.tracking.context.transaction.pipeline.PipelineCursor;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
@@ -54,7 +55,8 @@ public EffectResult processSideEffect(final BlockPipeline pipeline, final Pipeli
         if (tileEntity == null) {
             return EffectResult.NULL_RETURN;
         }
-        if (tileEntity instanceof TickableBlockEntity) {
+        if (tileEntity instanceof TickableBlockEntity
+            && !((TrackedWorldBridge) serverWorld).bridge$blockEntityTickScheduler().schedule(tileEntity)) {
             serverWorld.tickableBlockEntities.add(tileEntity);
         }
         return EffectResult.NULL_PASS;
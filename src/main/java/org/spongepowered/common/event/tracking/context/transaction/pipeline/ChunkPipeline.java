@@ -42,8 +42,8 @@
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
 
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
@@ -117,7 +117,7 @@ public LevelChunkSection getAffectedSection() {
         PipelineCursor formerState = new PipelineCursor(currentState, oldOpacity, pos, existing, (Entity) null, limit);
 
         for (final ResultingTransactionBySideEffect effect : this.chunkEffects) {
-            try (final EffectTransactor ignored = context.getTransactor().pushEffect(effect)) {
+            try (final EffectTransactor ignored = context.getTransactor().pushPooledEffect(effect)) {
                 final EffectResult result = effect.effect.processSideEffect(
                     this,
                     formerState,
@@ -160,7 +160,7 @@ public Builder kickOff(final ChangeBlock transaction) {
         }
         public Builder addEffect(final ProcessingSideEffect effect) {
             if (this.effects == null) {
-                this.effects = new LinkedList<>();
+                this.effects = new ArrayList<>();
             }
             this.effects.add(new ResultingTransactionBySideEffect(Objects.requireNonNull(effect, "Effect is null")));
             return this;
@@ -34,8 +34,8 @@
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
 
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
@@ -99,7 +99,7 @@ public boolean wasEmpty() {
     public boolean processEffects(final PhaseContext<?> context, final PipelineCursor initialCursor) {
         PipelineCursor currentCursor = initialCursor;
         for (final ResultingTransactionBySideEffect effect : this.effects) {
-            try (final EffectTransactor ignored = context.getTransactor().pushEffect(effect)) {
+            try (final EffectTransactor ignored = context.getTransactor().pushPooledEffect(effect)) {
                 final EffectResult result = effect.effect.processSideEffect(
                     this,
                     currentCursor,
@@ -134,7 +134,7 @@ public static final class Builder {
 
         public Builder addEffect(final ProcessingSideEffect effect) {
             if (this.effects == null) {
-                this.effects = new LinkedList<>();
+                this.effects = new ArrayList<>();
             }
             this.effects.add(new ResultingTransactionBySideEffect(Objects.requireNonNull(effect, "Effect is null")));
             return this;
@@ -27,14 +27,16 @@
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.context.NeighborNotificationCoalescer;
 import org.spongepowered.common.event.tracking.context.transaction.EffectTransactor;
 import org.spongepowered.common.event.tracking.context.transaction.ResultingTransactionBySideEffect;
 import org.spongepowered.common.event.tracking.context.transaction.effect.EffectResult;
 import org.spongepowered.common.event.tracking.context.transaction.effect.ProcessingSideEffect;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
+import org.spongepowered.common.world.level.SpongeExplosionCache;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
@@ -87,6 +89,7 @@ public boolean processEffects(final PhaseContext<?> context, final BlockState cu
         if (this.worldEffects.isEmpty()) {
             return false;
         }
+        NeighborNotificationCoalescer.recordBlockChange();
         final ServerLevel serverWorld = Objects.requireNonNull(this.serverWorld).get();
         // Keep track of the existing block entity prior to processing the chunk pipeline
         // and the reasoning is that in several cases where the block entity that is being removed
@@ -98,11 +101,12 @@ public boolean processEffects(final PhaseContext<?> context, final BlockState cu
         if (oldState == null) {
             return false;
         }
+        SpongeExplosionCache.invalidate(serverWorld);
         final int oldOpacity = oldState.getLightBlock(serverWorld, pos);
         PipelineCursor formerState = new PipelineCursor(oldState, oldOpacity, pos, existing, destroyer, limit);
 
         for (final ResultingTransactionBySideEffect effect : this.worldEffects) {
-            try (final EffectTransactor ignored = context.getTransactor().pushEffect(effect)) {
+            try (final EffectTransactor ignored = context.getTransactor().pushPooledEffect(effect)) {
                 final EffectResult result = effect.effect.processSideEffect(
                     this,
                     formerState,
@@ -147,7 +151,7 @@ public static final class Builder {
 
         public Builder addEffect(final ProcessingSideEffect effect) {
             if (this.effects == null) {
-                this.effects = new LinkedList<>();
+                this.effects = new ArrayList<>();
             }
             this.effects.add(new ResultingTransactionBySideEffect(Objects.requireNonNull(effect, "Effect is null")));
             return this;
@@ -29,13 +29,15 @@
 import org.spongepowered.api.data.persistence.DataContainer;
 import org.spongepowered.api.map.MapCanvas;
 import org.spongepowered.api.map.color.MapColor;
-import org.spongepowered.api.map.color.MapColorTypes;
+import org.spongepowered.common.bridge.world.storage.MapItemSavedDataBridge;
+import org.spongepowered.common.map.color.SpongeMapPalette;
 import org.spongepowered.common.util.MapUtil;
 import org.spongepowered.common.util.Constants;
 
 import java.awt.Color;
 import java.awt.Image;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
 
 // MapCanvas backed by a byte array
 public final class SpongeMapByteCanvas implements SpongeMapCanvas {
@@ -46,9 +48,49 @@ public SpongeMapByteCanvas(final byte[] canvas) {
         this.canvas = canvas;
     }
 
+    @Override
     public void applyToMapData(final MapItemSavedData mapData) {
-        mapData.colors = this.canvas.clone();
-        mapData.setDirty();
+        SpongeMapByteCanvas.applyPixels(this.canvas, mapData);
+    }
+
+    /**
+     * Copies the pixels into the map data, marking only the bounding
+     * rectangle of the pixels that actually changed as dirty.
+     *
+     * @param pixels The new pixels
+     * @param mapData The map data to update
+     */
+    static void applyPixels(final byte[] pixels, final MapItemSavedData mapData) {
+        final byte[] colors = mapData.colors;
+        int minX = Constants.Map.MAP_PIXELS;
+        int minY = -1;
+        int maxX = -1;
+        int maxY = -1;
+        for (int y = 0, row = 0; y < Constants.Map.MAP_PIXELS; y++, row += Constants.Map.MAP_PIXELS) {
+            int first = -1;
+            int last = -1;
+            for (int x = 0; x < Constants.Map.MAP_PIXELS; x++) {
+                if (pixels[row + x] != colors[row + x]) {
+                    if (first == -1) {
+                        first = x;
+                    }
+                    last = x;
+                }
+            }
+            if (first == -1) {
+                continue;
+            }
+            System.arraycopy(pixels, row + first, colors, row + first, last - first + 1);
+            if (minY == -1) {
+                minY = y;
+            }
+            maxY = y;
+            minX = Math.min(minX, first);
+            maxX = Math.max(maxX, last);
+        }
+        if (minY != -1) {
+            ((MapItemSavedDataBridge) mapData).bridge$markRegionDirty(minX, minY, maxX, maxY);
+        }
     }
 
     @Override
@@ -80,11 +122,9 @@ public MapColor getColor(final int pos) {
     @Override
     public Image toImage() {
         final BufferedImage image = new BufferedImage(Constants.Map.MAP_PIXELS, Constants.Map.MAP_PIXELS, BufferedImage.TYPE_INT_RGB);
-        int pos = 0;
-        for (int y = 0; y < Constants.Map.MAP_PIXELS; y++, pos += Constants.Map.MAP_PIXELS) {
-            for (int x = 0; x < Constants.Map.MAP_PIXELS; x++, pos++) {
-                image.setRGB(x, y, this.color(x,y).color().rgb());
-            }
+        final int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        for (int pos = 0; pos < Constants.Map.MAP_SIZE; pos++) {
+            pixels[pos] = SpongeMapPalette.rgb(this.canvas[pos]);
         }
         return image;
     }
@@ -92,14 +132,12 @@ public Image toImage() {
     @Override
     public Image toImage(final Color color) {
         final BufferedImage image = new BufferedImage(Constants.Map.MAP_PIXELS, Constants.Map.MAP_PIXELS, BufferedImage.TYPE_INT_ARGB);
-        int pos = 0;
-        for (int y = 0; y < Constants.Map.MAP_PIXELS; y++, pos += Constants.Map.MAP_PIXELS) {
-            for (int x = 0; x < Constants.Map.MAP_PIXELS; x++, pos++) {
-                final MapColor foundColor = this.color(x,y);
-                final Color paintColor = foundColor.type() == MapColorTypes.NONE.get() ? color
-                        : foundColor.color().asJavaColor();
-                image.setRGB(x, y, paintColor.getRGB());
-            }
+        final int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        final int background = color.getRGB();
+        for (int pos = 0; pos < Constants.Map.MAP_SIZE; pos++) {
+            final byte pixel = this.canvas[pos];
+            // Pixel values below the shade count all belong to the NONE color type
+            pixels[pos] = Byte.toUnsignedInt(pixel) < Constants.Map.MAP_SHADES ? background : 0xFF000000 | SpongeMapPalette.rgb(pixel);
         }
         return image;
     }
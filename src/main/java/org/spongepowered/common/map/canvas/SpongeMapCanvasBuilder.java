@@ -25,13 +25,12 @@
 package org.spongepowered.common.map.canvas;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
-import org.spongepowered.api.Sponge;
 import org.spongepowered.api.data.persistence.DataView;
 import org.spongepowered.api.map.MapCanvas;
 import org.spongepowered.api.map.color.MapColor;
-import org.spongepowered.api.registry.RegistryTypes;
 import org.spongepowered.common.util.MapUtil;
 import org.spongepowered.common.map.color.SpongeMapColor;
+import org.spongepowered.common.map.color.SpongeMapPalette;
 import org.spongepowered.common.util.Constants;
 
 import java.awt.Graphics2D;
@@ -39,8 +38,6 @@
 import java.awt.image.BufferedImage;
 import java.awt.image.DataBufferInt;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 
 public final class SpongeMapCanvasBuilder implements MapCanvas.Builder {
@@ -78,11 +75,66 @@ public MapCanvas.Builder paint(final int startX, final int startY, final int end
 
         final byte[] canvas = this.getCanvas();
         final byte color = ((SpongeMapColor) mapColor).getMCColor();
-        for (int x = startX; x <= endX; x++) {
-            for (int y = startY; y <= endY; y++) {
-                canvas[x + (y * Constants.Map.MAP_PIXELS)] = color;
+        for (int y = startY; y <= endY; y++) {
+            final int row = y * Constants.Map.MAP_PIXELS;
+            Arrays.fill(canvas, row + startX, row + endX + 1, color);
+        }
+        return this;
+    }
+
+    /**
+     * Copies a rectangle of raw pixel values into the canvas, row by row.
+     * The pixels are read in row-major order, {@code width} values per row.
+     *
+     * @param startX The left edge of the rectangle
+     * @param startY The top edge of the rectangle
+     * @param width The width of the rectangle
+     * @param height The height of the rectangle
+     * @param pixels The raw pixel values
+     * @return This builder, for chaining
+     */
+    public SpongeMapCanvasBuilder paintPixels(final int startX, final int startY, final int width, final int height, final byte[] pixels) {
+        Objects.requireNonNull(pixels, "pixels cannot be null");
+        if (!MapUtil.isInCanvasBounds(startX) || width < 0 || startX + width > Constants.Map.MAP_PIXELS) {
+            throw new IllegalStateException("x range out of bounds");
+        }
+        if (!MapUtil.isInCanvasBounds(startY) || height < 0 || startY + height > Constants.Map.MAP_PIXELS) {
+            throw new IllegalStateException("y range out of bounds");
+        }
+        if (pixels.length < width * height) {
+            throw new IllegalArgumentException("expected at least " + (width * height) + " pixels, got: " + pixels.length);
+        }
+        for (int i = 0; i < width * height; i++) {
+            if (!SpongeMapPalette.isValid(pixels[i])) {
+                throw new IllegalArgumentException("Invalid pixel value: " + pixels[i]);
             }
         }
+        final byte[] canvas = this.getCanvas();
+        for (int y = 0; y < height; y++) {
+            System.arraycopy(pixels, y * width, canvas, (startY + y) * Constants.Map.MAP_PIXELS + startX, width);
+        }
+        return this;
+    }
+
+    /**
+     * Sets a single raw pixel value.
+     *
+     * @param x The x position
+     * @param y The y position
+     * @param pixel The raw pixel value
+     * @return This builder, for chaining
+     */
+    public SpongeMapCanvasBuilder paintPixel(final int x, final int y, final byte pixel) {
+        if (!MapUtil.isInCanvasBounds(x)) {
+            throw new IllegalStateException("x (" + x + ") is out of bounds");
+        }
+        if (!MapUtil.isInCanvasBounds(y)) {
+            throw new IllegalStateException("y (" + y + ") is out of bounds");
+        }
+        if (!SpongeMapPalette.isValid(pixel)) {
+            throw new IllegalArgumentException("Invalid pixel value: " + pixel);
+        }
+        this.getCanvas()[y * Constants.Map.MAP_PIXELS + x] = pixel;
         return this;
     }
 
@@ -109,21 +161,13 @@ public MapCanvas.Builder fromImage(final Image image) {
         }
         final BufferedImage bufferedImage = this.createBufferedImage(image);
         final int[] pixels = ((DataBufferInt) bufferedImage.getRaster().getDataBuffer()).getData();
-        // Get the color palette we are working with
-        final Map<Integer, SpongeMapColor> palette = new HashMap<>();
-        Sponge.game().registry(RegistryTypes.MAP_COLOR_TYPE).stream().forEach(color -> {
-            Sponge.game().registry(RegistryTypes.MAP_SHADE).stream().forEach(shade -> {
-                final SpongeMapColor spongeMapColor = new SpongeMapColor(color, shade);
-                palette.put(spongeMapColor.color().rgb(), spongeMapColor);
-            });
-        });
         final byte[] canvas = this.getCanvas();
         for (int i = 0; i < pixels.length; i++) {
-            final SpongeMapColor color = palette.get(pixels[i]);
-            if (color == null) {
+            final int pixel = SpongeMapPalette.pixel(pixels[i]);
+            if (pixel == -1) {
                 throw new IllegalArgumentException("Can not find a matching color for rgb value: " + Integer.toHexString(pixels[i]) + ". The MapCanvas will have painted all pixels up to this point.");
             }
-            canvas[i] = color.getMCColor();
+            canvas[i] = (byte) pixel;
         }
         return this;
     }
@@ -0,0 +1,95 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.map.color;
+
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.registry.RegistryTypes;
+
+import java.util.Arrays;
+
+/**
+ * Lookup tables between raw map pixel values and rgb colors, so canvases can
+ * be read and written in bulk without creating a {@link SpongeMapColor} per
+ * pixel.
+ */
+public final class SpongeMapPalette {
+
+    private static final int INVALID = -1;
+
+    /**
+     * Gets the rgb value a pixel value is displayed as.
+     *
+     * @param pixel The raw pixel value
+     * @return The rgb value
+     * @throws IllegalStateException If the pixel value is not a map color
+     */
+    public static int rgb(final byte pixel) {
+        final int rgb = Tables.PIXEL_TO_RGB[Byte.toUnsignedInt(pixel)];
+        if (rgb == SpongeMapPalette.INVALID) {
+            throw new IllegalStateException("Tried to get a color that didn't exist! pixel value: " + pixel);
+        }
+        return rgb;
+    }
+
+    public static boolean isValid(final byte pixel) {
+        return Tables.PIXEL_TO_RGB[Byte.toUnsignedInt(pixel)] != SpongeMapPalette.INVALID;
+    }
+
+    /**
+     * Gets the pixel value displayed as the given rgb value.
+     *
+     * @param rgb The rgb value, alpha is ignored
+     * @return The unsigned pixel value, or -1 if no map color matches
+     */
+    public static int pixel(final int rgb) {
+        return Tables.RGB_TO_PIXEL.get(rgb & 0xFFFFFF);
+    }
+
+    // Built on first use, by which point the map color registries are available
+    private static final class Tables {
+
+        static final int[] PIXEL_TO_RGB = new int[256];
+        static final Int2IntMap RGB_TO_PIXEL = new Int2IntOpenHashMap();
+
+        static {
+            Arrays.fill(Tables.PIXEL_TO_RGB, SpongeMapPalette.INVALID);
+            Tables.RGB_TO_PIXEL.defaultReturnValue(SpongeMapPalette.INVALID);
+            Sponge.game().registry(RegistryTypes.MAP_COLOR_TYPE).stream().forEach(color -> {
+                Sponge.game().registry(RegistryTypes.MAP_SHADE).stream().forEach(shade -> {
+                    final SpongeMapColor spongeMapColor = new SpongeMapColor(color, shade);
+                    final int pixel = Byte.toUnsignedInt(spongeMapColor.getMCColor());
+                    final int rgb = spongeMapColor.color().rgb();
+                    Tables.PIXEL_TO_RGB[pixel] = rgb;
+                    Tables.RGB_TO_PIXEL.put(rgb, pixel);
+                });
+            });
+        }
+    }
+
+    private SpongeMapPalette() {
+    }
+}
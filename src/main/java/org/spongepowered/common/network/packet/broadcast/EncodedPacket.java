@@ -0,0 +1,80 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.network.packet.broadcast;
+
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientGamePacketListener;
+
+/**
+ * A play packet that has already been serialized into a shared buffer.
+ *
+ * <p>The buffer is never modified after construction and is only ever read
+ * through absolute indices, which allows the same instance to be written by
+ * the encoders of many connections at once.</p>
+ */
+public final class EncodedPacket implements Packet<ClientGamePacketListener> {
+
+    private final int id;
+    private final ByteBuf payload;
+
+    EncodedPacket(final int id, final ByteBuf payload) {
+        this.id = id;
+        this.payload = payload;
+    }
+
+    public int id() {
+        return this.id;
+    }
+
+    public int size() {
+        return this.payload.readableBytes();
+    }
+
+    /**
+     * Copies the encoded payload, without the packet id, into the target buffer.
+     *
+     * @param target The buffer to write to
+     */
+    public void writePayload(final ByteBuf target) {
+        target.writeBytes(this.payload, this.payload.readerIndex(), this.payload.readableBytes());
+    }
+
+    @Override
+    public void read(final FriendlyByteBuf buf) {
+        throw new UnsupportedOperationException("Pre-encoded packets are write-only");
+    }
+
+    @Override
+    public void write(final FriendlyByteBuf buf) {
+        this.writePayload(buf);
+    }
+
+    @Override
+    public void handle(final ClientGamePacketListener listener) {
+        throw new UnsupportedOperationException("Pre-encoded packets cannot be handled");
+    }
+}
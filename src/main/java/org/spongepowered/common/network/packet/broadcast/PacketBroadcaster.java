@@ -0,0 +1,158 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.network.packet.broadcast;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.ConnectionProtocol;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.chat.ChatType;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.PacketFlow;
+import net.minecraft.network.protocol.game.ClientboundChatPacket;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.server.network.ServerGamePacketListenerImpl;
+import net.minecraft.world.entity.player.ChatVisiblity;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.util.locale.Locales;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.accessor.network.ConnectionAccessor;
+import org.spongepowered.common.adventure.SpongeAdventure;
+import org.spongepowered.common.bridge.network.FriendlyByteBufBridge;
+import org.spongepowered.common.bridge.world.entity.PlatformEntityBridge;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Sends a single packet to many players while serializing it only once per
+ * distinct client locale.
+ *
+ * <p>Components are localized by {@link FriendlyByteBufBridge#bridge$setLocale(Locale)}
+ * while the packet is written, so every recipient sharing a locale can share the
+ * encoded bytes. The encoded buffer is handed to each connection as an
+ * {@link EncodedPacket}, which the packet encoder copies verbatim. Chat packets
+ * are only sent to players whose chat visibility accepts them, as vanilla does
+ * for each connection.</p>
+ */
+public final class PacketBroadcaster {
+
+    public static void broadcast(final Iterable<? extends ServerPlayer> recipients, final Packet<?> packet) {
+        final Integer id = ConnectionProtocol.PLAY.getPacketId(PacketFlow.CLIENTBOUND, packet);
+        if (id == null) {
+            // Not a vanilla play packet, leave serialization to each connection.
+            for (final ServerPlayer player : recipients) {
+                if (PacketBroadcaster.canReceive(player, packet)) {
+                    player.connection.send(packet);
+                }
+            }
+            return;
+        }
+
+        final Map<Locale, EncodedPacket> encodedByLocale = new HashMap<>();
+        for (final ServerPlayer player : recipients) {
+            if (!PacketBroadcaster.canReceive(player, packet)) {
+                continue;
+            }
+            final Locale locale = PacketBroadcaster.locale(player);
+            EncodedPacket encoded = encodedByLocale.get(locale);
+            if (encoded == null) {
+                encoded = PacketBroadcaster.encode(id, packet, locale);
+                if (encoded == null) {
+                    player.connection.send(packet);
+                    continue;
+                }
+                encodedByLocale.put(locale, encoded);
+            }
+            player.connection.send(encoded);
+        }
+    }
+
+    /**
+     * Encodes a play packet whose contents do not depend on the locale of
+     * the receiving client, so that it may be sent to many connections.
+     *
+     * @param packet The packet to encode
+     * @return The encoded packet, or {@code null} if it could not be encoded
+     */
+    public static @Nullable EncodedPacket encode(final Packet<?> packet) {
+        final Integer id = ConnectionProtocol.PLAY.getPacketId(PacketFlow.CLIENTBOUND, packet);
+        if (id == null) {
+            return null;
+        }
+        return PacketBroadcaster.encode(id, packet, Locales.EN_US);
+    }
+
+    static @Nullable EncodedPacket encode(final int id, final Packet<?> packet, final Locale locale) {
+        final ByteBuf raw = Unpooled.buffer();
+        final FriendlyByteBuf buffer = new FriendlyByteBuf(raw);
+        ((FriendlyByteBufBridge) buffer).bridge$setLocale(locale);
+        try {
+            packet.write(buffer);
+        } catch (final IOException | RuntimeException e) {
+            SpongeCommon.logger().error("Failed to pre-encode packet {} for broadcast, falling back to per-connection encoding", packet, e);
+            raw.release();
+            return null;
+        }
+        // The buffer is shared between connections and only read through absolute indices.
+        final ByteBuf shared = Unpooled.unreleasableBuffer(raw.asReadOnly());
+        return new EncodedPacket(id, shared);
+    }
+
+    private static boolean canReceive(final ServerPlayer player, final Packet<?> packet) {
+        return player.connection != null && !((PlatformEntityBridge) player).bridge$isFakePlayer()
+            && PacketBroadcaster.acceptsChat(player, packet);
+    }
+
+    /**
+     * Applies the chat visibility filter of {@link ServerGamePacketListenerImpl#send(Packet)},
+     * which encoded packets bypass.
+     *
+     * @param player The receiving player
+     * @param packet The packet to send
+     * @return Whether the player accepts the packet
+     */
+    static boolean acceptsChat(final ServerPlayer player, final Packet<?> packet) {
+        if (!(packet instanceof ClientboundChatPacket)) {
+            return true;
+        }
+        final ClientboundChatPacket chat = (ClientboundChatPacket) packet;
+        final ChatVisiblity visibility = player.getChatVisibility();
+        if (visibility == ChatVisiblity.HIDDEN && chat.getType() != ChatType.GAME_INFO) {
+            return false;
+        }
+        return visibility != ChatVisiblity.SYSTEM || chat.isSystem();
+    }
+
+    private static Locale locale(final ServerPlayer player) {
+        final Locale locale = ((ConnectionAccessor) player.connection.connection).accessor$channel().attr(SpongeAdventure.CHANNEL_LOCALE).get();
+        return locale == null ? Locales.EN_US : locale;
+    }
+
+    private PacketBroadcaster() {
+    }
+}
@@ -42,66 +42,68 @@ public final class SpongeRegistries {
     public static void registerGlobalRegistries(final SpongeRegistryHolder holder) {
         VanillaRegistryLoader.load(holder);
 
-        holder.createRegistry(RegistryTypes.ACCOUNT_DELETION_RESULT_TYPE, SpongeRegistryLoaders.accountDeletionResultType());
-        holder.createRegistry(RegistryTypes.BAN_TYPE, SpongeRegistryLoaders.banType());
-        holder.createRegistry(SpongeRegistryTypes.TRACKER_TRANSACTION_TYPE, SpongeRegistryLoaders.blockTransactionTypes());
-        holder.createRegistry(RegistryTypes.BODY_PART, SpongeRegistryLoaders.bodyPart());
-        holder.createRegistry(RegistryTypes.REGISTRY_KEYED_VALUE_PARAMETER, SpongeRegistryLoaders.valueParameter());
-        holder.createRegistry(RegistryTypes.CLICK_TYPE, SpongeRegistryLoaders.clickType());
-        holder.createRegistry(RegistryTypes.CAT_TYPE, SpongeRegistryLoaders.catType());
-        holder.createRegistry(RegistryTypes.CHUNK_REGENERATE_FLAG, SpongeRegistryLoaders.chunkRegenerateFlag());
-        holder.createRegistry(RegistryTypes.COMMAND_TREE_NODE_TYPE, SpongeRegistryLoaders.clientCompletionKey());
-        holder.createRegistry(RegistryTypes.CLIENT_COMPLETION_TYPE, SpongeRegistryLoaders.clientCompletionType());
-        holder.createRegistry(RegistryTypes.COMMAND_COMPLETION_PROVIDER, SpongeRegistryLoaders.clientSuggestionProvider());
-        holder.createRegistry(RegistryTypes.COMMAND_REGISTRAR_TYPE, SpongeRegistryLoaders.commandRegistrarType(), true);
-        holder.createRegistry(RegistryTypes.CURRENCY, (RegistryLoader<Currency>) null, true);
-        holder.createRegistry(RegistryTypes.DAMAGE_TYPE, SpongeRegistryLoaders.damageType());
-        holder.createRegistry(RegistryTypes.DAMAGE_MODIFIER_TYPE, SpongeRegistryLoaders.damageModifierType());
-        holder.createRegistry(RegistryTypes.DISMOUNT_TYPE, SpongeRegistryLoaders.dismountType());
-        holder.createRegistry(RegistryTypes.DISPLAY_SLOT, SpongeRegistryLoaders.displaySlot());
-        holder.createRegistry(RegistryTypes.GOAL_EXECUTOR_TYPE, SpongeRegistryLoaders.goalExecutorType());
-        holder.createRegistry(RegistryTypes.GOAL_TYPE, SpongeRegistryLoaders.goalType());
-        holder.createRegistry(RegistryTypes.HORSE_COLOR, SpongeRegistryLoaders.horseColor());
-        holder.createRegistry(RegistryTypes.HORSE_STYLE, SpongeRegistryLoaders.horseStyle());
-        holder.createRegistry(RegistryTypes.LIGHT_TYPE, SpongeRegistryLoaders.lightType());
-        holder.createRegistry(RegistryTypes.LLAMA_TYPE, SpongeRegistryLoaders.llamaType());
-        holder.createRegistry(RegistryTypes.MATTER_TYPE, SpongeRegistryLoaders.matterType());
-        holder.createRegistry(RegistryTypes.MOVEMENT_TYPE, SpongeRegistryLoaders.movementType());
-        holder.createRegistry(RegistryTypes.MUSIC_DISC, SpongeRegistryLoaders.musicDisc());
-        holder.createRegistry(RegistryTypes.NOTE_PITCH, SpongeRegistryLoaders.notePitch());
-        holder.createRegistry(RegistryTypes.OPERATOR, SpongeRegistryLoaders.operator());
-        holder.createRegistry(RegistryTypes.OPERATION, SpongeRegistryLoaders.operation());
-        holder.createRegistry(RegistryTypes.ORIENTATION, SpongeRegistryLoaders.orientation());
-        holder.createRegistry(RegistryTypes.PALETTE_TYPE, SpongeRegistryLoaders.paletteType());
-        holder.createRegistry(RegistryTypes.PARROT_TYPE, SpongeRegistryLoaders.parrotType());
-        holder.createRegistry(RegistryTypes.PARTICLE_OPTION, SpongeRegistryLoaders.particleOption());
-        holder.createRegistry(RegistryTypes.PLACEHOLDER_PARSER, SpongeRegistryLoaders.placeholderParser(), true);
-        holder.createRegistry(RegistryTypes.PORTAL_TYPE, SpongeRegistryLoaders.portalType());
-        holder.createRegistry(RegistryTypes.QUERY_TYPE, SpongeRegistryLoaders.queryType());
-        holder.createRegistry(RegistryTypes.RABBIT_TYPE, SpongeRegistryLoaders.rabbitType());
-        holder.createRegistry(RegistryTypes.RESOLVE_OPERATION, SpongeRegistryLoaders.resolveOperation());
-        holder.createRegistry(RegistryTypes.SELECTOR_TYPE, SpongeRegistryLoaders.selectorType());
-        holder.createRegistry(RegistryTypes.SELECTOR_SORT_ALGORITHM, SpongeRegistryLoaders.selectorSortAlgorithm());
-        holder.createRegistry(RegistryTypes.SKIN_PART, SpongeRegistryLoaders.skinPart());
-        holder.createRegistry(RegistryTypes.SPAWN_TYPE, SpongeRegistryLoaders.spawnType());
-        holder.createRegistry(RegistryTypes.TELEPORT_HELPER_FILTER, SpongeRegistryLoaders.teleportHelperFilter(), true);
-        holder.createRegistry(RegistryTypes.TICKET_TYPE, SpongeRegistryLoaders.ticketType());
-        holder.createRegistry(RegistryTypes.TRANSACTION_TYPE, SpongeRegistryLoaders.transactionType());
-        holder.createRegistry(SpongeRegistryTypes.VALIDATION_TYPE, SpongeRegistryLoaders.validationType());
-        holder.createRegistry(RegistryTypes.WEATHER_TYPE, SpongeRegistryLoaders.weather());
-        holder.createRegistry(RegistryTypes.DATA_FORMAT, SpongeRegistryLoaders.dataFormat());
-        holder.createRegistry(RegistryTypes.MAP_COLOR_TYPE, SpongeRegistryLoaders.mapColorType());
-        holder.createRegistry(RegistryTypes.MAP_DECORATION_ORIENTATION, SpongeRegistryLoaders.mapDecorationOrientation());
-        holder.createRegistry(RegistryTypes.MAP_DECORATION_TYPE, SpongeRegistryLoaders.mapDecorationType());
-        holder.createRegistry(RegistryTypes.MAP_SHADE, SpongeRegistryLoaders.mapShade());
-        holder.createRegistry(RegistryTypes.TAG_TYPES, SpongeRegistryLoaders.tagTypes());
-        holder.wrapTagHelperAsRegistry(RegistryTypes.BLOCK_TYPE_TAGS, (StaticTagHelper<BlockType>) (Object) BlockTagsAccessor.accessor$HELPER());
-        holder.wrapTagHelperAsRegistry(RegistryTypes.ITEM_TYPE_TAGS, (StaticTagHelper<ItemType>) (Object) ItemTagsAccessor.accessor$HELPER());
-        holder.wrapTagHelperAsRegistry(RegistryTypes.ENTITY_TYPE_TAGS, (StaticTagHelper<EntityType<?>>) (Object) EntityTypeTagsAccessor.accessor$HELPER());
-        holder.wrapTagHelperAsRegistry(RegistryTypes.FLUID_TYPE_TAGS, (StaticTagHelper<FluidType>) (Object) FluidTagsAccessor.accessor$HELPER());
-        holder.createIdentityRegistry(RegistryTypes.BOOLEAN_STATE_PROPERTY, SpongeRegistryLoaders.booleanStateProperties());
-        holder.createIdentityRegistry(RegistryTypes.INTEGER_STATE_PROPERTY, SpongeRegistryLoaders.integerStateProperties());
-        holder.createIdentityRegistry(RegistryTypes.ENUM_STATE_PROPERTY, SpongeRegistryLoaders.enumStateProperties());
+        final SpongeRegistryBootstrap bootstrap = new SpongeRegistryBootstrap(holder);
+        bootstrap.registry(RegistryTypes.ACCOUNT_DELETION_RESULT_TYPE, SpongeRegistryLoaders::accountDeletionResultType);
+        bootstrap.registry(RegistryTypes.BAN_TYPE, SpongeRegistryLoaders::banType);
+        bootstrap.registry(SpongeRegistryTypes.TRACKER_TRANSACTION_TYPE, SpongeRegistryLoaders::blockTransactionTypes);
+        bootstrap.registry(RegistryTypes.BODY_PART, SpongeRegistryLoaders::bodyPart);
+        bootstrap.registry(RegistryTypes.REGISTRY_KEYED_VALUE_PARAMETER, SpongeRegistryLoaders::valueParameter);
+        bootstrap.registry(RegistryTypes.CLICK_TYPE, SpongeRegistryLoaders::clickType);
+        bootstrap.registry(RegistryTypes.CAT_TYPE, SpongeRegistryLoaders::catType);
+        bootstrap.registry(RegistryTypes.CHUNK_REGENERATE_FLAG, SpongeRegistryLoaders::chunkRegenerateFlag);
+        bootstrap.registry(RegistryTypes.COMMAND_TREE_NODE_TYPE, SpongeRegistryLoaders::clientCompletionKey);
+        bootstrap.registry(RegistryTypes.CLIENT_COMPLETION_TYPE, SpongeRegistryLoaders::clientCompletionType);
+        bootstrap.registry(RegistryTypes.COMMAND_COMPLETION_PROVIDER, SpongeRegistryLoaders::clientSuggestionProvider);
+        bootstrap.registry(RegistryTypes.COMMAND_REGISTRAR_TYPE, SpongeRegistryLoaders::commandRegistrarType, true);
+        bootstrap.then(() -> holder.createRegistry(RegistryTypes.CURRENCY, (RegistryLoader<Currency>) null, true));
+        bootstrap.registry(RegistryTypes.DAMAGE_TYPE, SpongeRegistryLoaders::damageType);
+        bootstrap.registry(RegistryTypes.DAMAGE_MODIFIER_TYPE, SpongeRegistryLoaders::damageModifierType);
+        bootstrap.registry(RegistryTypes.DISMOUNT_TYPE, SpongeRegistryLoaders::dismountType);
+        bootstrap.registry(RegistryTypes.DISPLAY_SLOT, SpongeRegistryLoaders::displaySlot);
+        bootstrap.registry(RegistryTypes.GOAL_EXECUTOR_TYPE, SpongeRegistryLoaders::goalExecutorType);
+        bootstrap.registry(RegistryTypes.GOAL_TYPE, SpongeRegistryLoaders::goalType);
+        bootstrap.registry(RegistryTypes.HORSE_COLOR, SpongeRegistryLoaders::horseColor);
+        bootstrap.registry(RegistryTypes.HORSE_STYLE, SpongeRegistryLoaders::horseStyle);
+        bootstrap.registry(RegistryTypes.LIGHT_TYPE, SpongeRegistryLoaders::lightType);
+        bootstrap.registry(RegistryTypes.LLAMA_TYPE, SpongeRegistryLoaders::llamaType);
+        bootstrap.registry(RegistryTypes.MATTER_TYPE, SpongeRegistryLoaders::matterType);
+        bootstrap.registry(RegistryTypes.MOVEMENT_TYPE, SpongeRegistryLoaders::movementType);
+        bootstrap.registry(RegistryTypes.MUSIC_DISC, SpongeRegistryLoaders::musicDisc);
+        bootstrap.registry(RegistryTypes.NOTE_PITCH, SpongeRegistryLoaders::notePitch);
+        bootstrap.registry(RegistryTypes.OPERATOR, SpongeRegistryLoaders::operator);
+        bootstrap.registry(RegistryTypes.OPERATION, SpongeRegistryLoaders::operation);
+        bootstrap.registry(RegistryTypes.ORIENTATION, SpongeRegistryLoaders::orientation);
+        bootstrap.registry(RegistryTypes.PALETTE_TYPE, SpongeRegistryLoaders::paletteType);
+        bootstrap.registry(RegistryTypes.PARROT_TYPE, SpongeRegistryLoaders::parrotType);
+        bootstrap.registry(RegistryTypes.PARTICLE_OPTION, SpongeRegistryLoaders::particleOption);
+        bootstrap.registry(RegistryTypes.PLACEHOLDER_PARSER, SpongeRegistryLoaders::placeholderParser, true);
+        bootstrap.registry(RegistryTypes.PORTAL_TYPE, SpongeRegistryLoaders::portalType);
+        bootstrap.registry(RegistryTypes.QUERY_TYPE, SpongeRegistryLoaders::queryType);
+        bootstrap.registry(RegistryTypes.RABBIT_TYPE, SpongeRegistryLoaders::rabbitType);
+        bootstrap.registry(RegistryTypes.RESOLVE_OPERATION, SpongeRegistryLoaders::resolveOperation);
+        bootstrap.registry(RegistryTypes.SELECTOR_TYPE, SpongeRegistryLoaders::selectorType);
+        bootstrap.registry(RegistryTypes.SELECTOR_SORT_ALGORITHM, SpongeRegistryLoaders::selectorSortAlgorithm);
+        bootstrap.registry(RegistryTypes.SKIN_PART, SpongeRegistryLoaders::skinPart);
+        bootstrap.registry(RegistryTypes.SPAWN_TYPE, SpongeRegistryLoaders::spawnType);
+        bootstrap.registry(RegistryTypes.TELEPORT_HELPER_FILTER, SpongeRegistryLoaders::teleportHelperFilter, true);
+        bootstrap.registry(RegistryTypes.TICKET_TYPE, SpongeRegistryLoaders::ticketType);
+        bootstrap.registry(RegistryTypes.TRANSACTION_TYPE, SpongeRegistryLoaders::transactionType);
+        bootstrap.registry(SpongeRegistryTypes.VALIDATION_TYPE, SpongeRegistryLoaders::validationType);
+        bootstrap.registry(RegistryTypes.WEATHER_TYPE, SpongeRegistryLoaders::weather);
+        bootstrap.registry(RegistryTypes.DATA_FORMAT, SpongeRegistryLoaders::dataFormat);
+        bootstrap.registry(RegistryTypes.MAP_COLOR_TYPE, SpongeRegistryLoaders::mapColorType);
+        bootstrap.registry(RegistryTypes.MAP_DECORATION_ORIENTATION, SpongeRegistryLoaders::mapDecorationOrientation);
+        bootstrap.registry(RegistryTypes.MAP_DECORATION_TYPE, SpongeRegistryLoaders::mapDecorationType);
+        bootstrap.registry(RegistryTypes.MAP_SHADE, SpongeRegistryLoaders::mapShade);
+        bootstrap.registry(RegistryTypes.TAG_TYPES, SpongeRegistryLoaders::tagTypes);
+        bootstrap.then(() -> holder.wrapTagHelperAsRegistry(RegistryTypes.BLOCK_TYPE_TAGS, (StaticTagHelper<BlockType>) (Object) BlockTagsAccessor.accessor$HELPER()));
+        bootstrap.then(() -> holder.wrapTagHelperAsRegistry(RegistryTypes.ITEM_TYPE_TAGS, (StaticTagHelper<ItemType>) (Object) ItemTagsAccessor.accessor$HELPER()));
+        bootstrap.then(() -> holder.wrapTagHelperAsRegistry(RegistryTypes.ENTITY_TYPE_TAGS, (StaticTagHelper<EntityType<?>>) (Object) EntityTypeTagsAccessor.accessor$HELPER()));
+        bootstrap.then(() -> holder.wrapTagHelperAsRegistry(RegistryTypes.FLUID_TYPE_TAGS, (StaticTagHelper<FluidType>) (Object) FluidTagsAccessor.accessor$HELPER()));
+        bootstrap.identityRegistry(RegistryTypes.BOOLEAN_STATE_PROPERTY, SpongeRegistryLoaders::booleanStateProperties);
+        bootstrap.identityRegistry(RegistryTypes.INTEGER_STATE_PROPERTY, SpongeRegistryLoaders::integerStateProperties);
+        bootstrap.identityRegistry(RegistryTypes.ENUM_STATE_PROPERTY, SpongeRegistryLoaders::enumStateProperties);
+        bootstrap.complete();
     }
 
     public static void registerServerRegistries(final RegistryHolder holder) {
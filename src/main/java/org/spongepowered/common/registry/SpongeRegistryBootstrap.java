@@ -0,0 +1,136 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.registry;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.registry.RegistryType;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Builds the {@link RegistryLoader}s of a set of registries on a small
+ * worker pool, while the registries themselves are still created on the
+ * calling thread, in the order they were declared.
+ *
+ * <p>Creating a registry registers it into the root Minecraft registry,
+ * which is neither thread safe nor order independent, so only the
+ * construction of the initial values is done in parallel.</p>
+ */
+final class SpongeRegistryBootstrap {
+
+    private final SpongeRegistryHolder holder;
+    private final List<Runnable> steps = new ArrayList<>();
+    private final long start = System.nanoTime();
+    private final @Nullable ExecutorService executor;
+    private int registries;
+
+    SpongeRegistryBootstrap(final SpongeRegistryHolder holder) {
+        this.holder = holder;
+        this.executor = SpongeConfigs.getCommon().get().optimizations.parallelRegistryLoading ? SpongeRegistryBootstrap.createExecutor() : null;
+    }
+
+    private static ExecutorService createExecutor() {
+        final int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+        final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        final AtomicInteger count = new AtomicInteger();
+        final ThreadFactory factory = runnable -> {
+            final Thread thread = new Thread(runnable, "Sponge-RegistryLoader-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setContextClassLoader(loader);
+            return thread;
+        };
+        return Executors.newFixedThreadPool(threads, factory);
+    }
+
+    <T> void registry(final RegistryType<T> type, final Supplier<RegistryLoader<T>> loader) {
+        this.registry(type, loader, false);
+    }
+
+    <T> void registry(final RegistryType<T> type, final Supplier<RegistryLoader<T>> loader, final boolean isDynamic) {
+        final Supplier<RegistryLoader<T>> values = this.submit(loader);
+        this.registries++;
+        this.steps.add(() -> this.holder.createRegistry(type, values.get(), isDynamic));
+    }
+
+    <T> void identityRegistry(final RegistryType<T> type, final Supplier<RegistryLoader<T>> loader) {
+        final Supplier<RegistryLoader<T>> values = this.submit(loader);
+        this.registries++;
+        this.steps.add(() -> this.holder.createIdentityRegistry(type, values.get()));
+    }
+
+    /**
+     * Adds a step that must be run on the calling thread, in declaration order.
+     *
+     * @param step The step
+     */
+    void then(final Runnable step) {
+        this.registries++;
+        this.steps.add(step);
+    }
+
+    void complete() {
+        try {
+            this.steps.forEach(Runnable::run);
+        } finally {
+            if (this.executor != null) {
+                this.executor.shutdownNow();
+            }
+        }
+        SpongeCommon.logger().debug("Created {} registries in {} ms ({})", this.registries,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.start), this.executor == null ? "serial" : "parallel");
+    }
+
+    private <T> Supplier<RegistryLoader<T>> submit(final Supplier<RegistryLoader<T>> loader) {
+        if (this.executor == null) {
+            return loader;
+        }
+        final CompletableFuture<RegistryLoader<T>> future = CompletableFuture.supplyAsync(loader, this.executor);
+        return () -> {
+            try {
+                return future.join();
+            } catch (final CompletionException e) {
+                final Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw e;
+            }
+        };
+    }
+}
@@ -244,6 +244,7 @@
 import org.spongepowered.common.data.nbt.validation.SpongeValidationType;
 import org.spongepowered.common.data.nbt.validation.ValidationType;
 import org.spongepowered.common.data.nbt.validation.ValidationTypes;
+import org.spongepowered.common.data.persistence.BinaryDataFormat;
 import org.spongepowered.common.data.persistence.HoconDataFormat;
 import org.spongepowered.common.data.persistence.JsonDataFormat;
 import org.spongepowered.common.data.persistence.NBTDataFormat;
@@ -1004,6 +1005,7 @@ public static RegistryLoader<DataFormat> dataFormat() {
             l.add(DataFormats.HOCON, k -> new HoconDataFormat());
             l.add(DataFormats.SNBT, k -> new SNBTDataFormat());
             l.add(DataFormats.NBT, k -> new NBTDataFormat());
+            l.add(RegistryKey.of(RegistryTypes.DATA_FORMAT, ResourceKey.sponge("binary")), k -> new BinaryDataFormat());
         });
     }
 
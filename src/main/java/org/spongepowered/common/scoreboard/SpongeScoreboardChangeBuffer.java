@@ -0,0 +1,208 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scoreboard;
+
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientboundSetObjectivePacket;
+import net.minecraft.network.protocol.game.ClientboundSetPlayerTeamPacket;
+import net.minecraft.network.protocol.game.ClientboundSetScorePacket;
+import net.minecraft.server.ServerScoreboard;
+import org.spongepowered.common.accessor.network.protocol.game.ClientboundSetObjectivePacketAccessor;
+import org.spongepowered.common.accessor.network.protocol.game.ClientboundSetPlayerTeamPacketAccessor;
+import org.spongepowered.common.accessor.network.protocol.game.ClientboundSetScorePacketAccessor;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.util.Constants;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Buffers score and team info updates for the viewers of a single scoreboard
+ * until the end of the tick.
+ *
+ * <p>Updates to the same score or team replace each other while pending, and
+ * score updates matching the value viewers were last sent are dropped. Every
+ * other packet is a barrier: pending updates are flushed before it is sent,
+ * so viewers observe changes in the same order as without buffering. Packets
+ * sent to viewers without going through the buffer must be preceded by a
+ * {@link #flush()} for the same reason.</p>
+ */
+public final class SpongeScoreboardChangeBuffer {
+
+    private static int packetsSent;
+    private static int packetsSaved;
+    private static int lastTickPacketsSent;
+    private static int lastTickPacketsSaved;
+
+    private final Consumer<Packet<?>> sender;
+    private final Map<ScoreKey, ClientboundSetScorePacket> pendingScores = new LinkedHashMap<>();
+    private final Map<String, ClientboundSetPlayerTeamPacket> pendingTeams = new LinkedHashMap<>();
+    private final Map<ScoreKey, Integer> sentScores = new HashMap<>();
+
+    public SpongeScoreboardChangeBuffer(final Consumer<Packet<?>> sender) {
+        this.sender = sender;
+    }
+
+    /**
+     * Rolls the packet counters over to the next tick. Called once at the end
+     * of each server tick, after the scoreboards were flushed.
+     */
+    public static void endTick() {
+        SpongeScoreboardChangeBuffer.lastTickPacketsSent = SpongeScoreboardChangeBuffer.packetsSent;
+        SpongeScoreboardChangeBuffer.lastTickPacketsSaved = SpongeScoreboardChangeBuffer.packetsSaved;
+        SpongeScoreboardChangeBuffer.packetsSent = 0;
+        SpongeScoreboardChangeBuffer.packetsSaved = 0;
+    }
+
+    /**
+     * Gets the number of scoreboard packets broadcast to viewers during the
+     * last completed tick, counted once per broadcast rather than per viewer.
+     *
+     * @return The packets sent last tick
+     */
+    public static int lastTickPacketsSent() {
+        return SpongeScoreboardChangeBuffer.lastTickPacketsSent;
+    }
+
+    /**
+     * Gets the number of scoreboard packets that were coalesced or dropped
+     * during the last completed tick.
+     *
+     * @return The packets saved last tick
+     */
+    public static int lastTickPacketsSaved() {
+        return SpongeScoreboardChangeBuffer.lastTickPacketsSaved;
+    }
+
+    public void submit(final Packet<?> packet) {
+        if (!SpongeConfigs.getCommon().get().optimizations.batchScoreboardPackets) {
+            this.flush();
+            this.send(packet);
+            return;
+        }
+        if (packet instanceof ClientboundSetScorePacket) {
+            final ClientboundSetScorePacketAccessor accessor = (ClientboundSetScorePacketAccessor) packet;
+            final String objective = accessor.accessor$objectiveName();
+            if (accessor.accessor$method() == ServerScoreboard.Method.CHANGE && objective != null) {
+                this.bufferScore(new ScoreKey(objective, accessor.accessor$owner()), (ClientboundSetScorePacket) packet, accessor.accessor$score());
+                return;
+            }
+            if (objective != null) {
+                final ScoreKey key = new ScoreKey(objective, accessor.accessor$owner());
+                if (this.pendingScores.remove(key) != null) {
+                    SpongeScoreboardChangeBuffer.packetsSaved++;
+                }
+                this.sentScores.remove(key);
+            } else {
+                this.flush();
+                final String owner = accessor.accessor$owner();
+                this.sentScores.keySet().removeIf(key -> key.owner.equals(owner));
+            }
+        } else if (packet instanceof ClientboundSetPlayerTeamPacket
+                && ((ClientboundSetPlayerTeamPacketAccessor) packet).accessor$method() == Constants.Scoreboards.TEAM_PACKET_CHANGE) {
+            if (this.pendingTeams.put(((ClientboundSetPlayerTeamPacketAccessor) packet).accessor$name(), (ClientboundSetPlayerTeamPacket) packet) != null) {
+                SpongeScoreboardChangeBuffer.packetsSaved++;
+            }
+            return;
+        } else {
+            this.flush();
+            if (packet instanceof ClientboundSetObjectivePacket
+                    && ((ClientboundSetObjectivePacketAccessor) packet).accessor$method() != Constants.Scoreboards.OBJECTIVE_PACKET_CHANGE) {
+                // Objectives are (re)created empty on the client and removed along with their scores
+                final String objective = ((ClientboundSetObjectivePacketAccessor) packet).accessor$objectiveName();
+                this.sentScores.keySet().removeIf(key -> key.objective.equals(objective));
+            }
+        }
+        this.send(packet);
+    }
+
+    /**
+     * Sends all pending updates immediately.
+     */
+    public void flush() {
+        if (!this.pendingScores.isEmpty()) {
+            for (final Map.Entry<ScoreKey, ClientboundSetScorePacket> entry : this.pendingScores.entrySet()) {
+                this.sentScores.put(entry.getKey(), ((ClientboundSetScorePacketAccessor) entry.getValue()).accessor$score());
+                this.send(entry.getValue());
+            }
+            this.pendingScores.clear();
+        }
+        if (!this.pendingTeams.isEmpty()) {
+            for (final ClientboundSetPlayerTeamPacket packet : this.pendingTeams.values()) {
+                this.send(packet);
+            }
+            this.pendingTeams.clear();
+        }
+    }
+
+    private void bufferScore(final ScoreKey key, final ClientboundSetScorePacket packet, final int score) {
+        final Integer sent = this.sentScores.get(key);
+        if (sent != null && sent == score) {
+            // Viewers already display this value, anything pending for it is obsolete
+            this.pendingScores.remove(key);
+            SpongeScoreboardChangeBuffer.packetsSaved++;
+            return;
+        }
+        if (this.pendingScores.put(key, packet) != null) {
+            SpongeScoreboardChangeBuffer.packetsSaved++;
+        }
+    }
+
+    private void send(final Packet<?> packet) {
+        SpongeScoreboardChangeBuffer.packetsSent++;
+        this.sender.accept(packet);
+    }
+
+    private static final class ScoreKey {
+
+        final String objective;
+        final String owner;
+
+        ScoreKey(final String objective, final String owner) {
+            this.objective = objective;
+            this.owner = owner;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || this.getClass() != o.getClass()) {
+                return false;
+            }
+            final ScoreKey that = (ScoreKey) o;
+            return this.objective.equals(that.objective) && this.owner.equals(that.owner);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.objective, this.owner);
+        }
+    }
+}
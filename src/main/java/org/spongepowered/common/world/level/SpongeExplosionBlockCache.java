@@ -0,0 +1,110 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.level;
+
+import it.unimi.dsi.fastutil.longs.Long2FloatMap;
+import it.unimi.dsi.fastutil.longs.Long2FloatOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Explosion;
+import net.minecraft.world.level.ExplosionDamageCalculator;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Optional;
+
+/**
+ * Block states and explosion resistances looked up by the rays of a single
+ * explosion. Neighbouring rays cross the same blocks many times, so each
+ * block is resolved once, and the chunk of the previous lookup is kept to
+ * avoid going through the chunk source for every step.
+ */
+public final class SpongeExplosionBlockCache {
+
+    // Marks blocks the damage calculator reports no resistance for
+    private static final float NO_RESISTANCE = Float.NaN;
+
+    private final Explosion explosion;
+    private final Level level;
+    private final ExplosionDamageCalculator calculator;
+    private final Long2ObjectMap<BlockState> states = new Long2ObjectOpenHashMap<>();
+    private final Long2FloatMap resistances = new Long2FloatOpenHashMap();
+    private final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+    private int chunkX = Integer.MIN_VALUE;
+    private int chunkZ = Integer.MIN_VALUE;
+    private @Nullable ChunkAccess chunk;
+
+    public SpongeExplosionBlockCache(final Explosion explosion, final Level level, final ExplosionDamageCalculator calculator) {
+        this.explosion = explosion;
+        this.level = level;
+        this.calculator = calculator;
+    }
+
+    public BlockState state(final long packedPos) {
+        BlockState state = this.states.get(packedPos);
+        if (state == null) {
+            this.pos.set(packedPos);
+            if (Level.isOutsideBuildHeight(this.pos)) {
+                state = Blocks.VOID_AIR.defaultBlockState();
+            } else {
+                final int cx = this.pos.getX() >> 4;
+                final int cz = this.pos.getZ() >> 4;
+                if (this.chunk == null || cx != this.chunkX || cz != this.chunkZ) {
+                    this.chunk = this.level.getChunk(cx, cz);
+                    this.chunkX = cx;
+                    this.chunkZ = cz;
+                }
+                state = this.chunk.getBlockState(this.pos);
+            }
+            this.states.put(packedPos, state);
+        }
+        return state;
+    }
+
+    /**
+     * Gets the explosion resistance of the block, or {@link Float#NaN} if
+     * the damage calculator reports none.
+     */
+    public float resistance(final long packedPos) {
+        if (this.resistances.containsKey(packedPos)) {
+            return this.resistances.get(packedPos);
+        }
+        final BlockState state = this.state(packedPos);
+        final Optional<Float> resistance = this.calculator.getBlockExplosionResistance(this.explosion, this.level,
+            this.pos.set(packedPos), state, state.getFluidState());
+        final float value = resistance.orElse(SpongeExplosionBlockCache.NO_RESISTANCE);
+        this.resistances.put(packedPos, value);
+        return value;
+    }
+
+    public boolean shouldBlockExplode(final long packedPos, final float power) {
+        return this.calculator.shouldBlockExplode(this.explosion, this.level, this.pos.set(packedPos), this.state(packedPos), power);
+    }
+
+}
@@ -0,0 +1,175 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.level;
+
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.Explosion;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Per-tick, per-world results of explosion calculations that only depend on
+ * the blocks of the world, shared by every explosion in that world until a
+ * block in it changes or the tick ends.
+ */
+public final class SpongeExplosionCache {
+
+    private static final Map<Level, SpongeExplosionCache> CACHES = new IdentityHashMap<>();
+
+    private final Map<ExposureKey, Float> exposures = new HashMap<>();
+    private final Set<BlastKey> emptyBlasts = new HashSet<>();
+
+    public static SpongeExplosionCache of(final Level level) {
+        return SpongeExplosionCache.CACHES.computeIfAbsent(level, k -> new SpongeExplosionCache());
+    }
+
+    /**
+     * Discards everything cached for the level, called whenever a tracked
+     * block change is applied to it and once an explosion is about to
+     * destroy blocks.
+     */
+    public static void invalidate(final Level level) {
+        SpongeExplosionCache.CACHES.remove(level);
+    }
+
+    /**
+     * Discards all caches, called at the end of every tick.
+     */
+    public static void clear() {
+        if (!SpongeExplosionCache.CACHES.isEmpty()) {
+            SpongeExplosionCache.CACHES.clear();
+        }
+    }
+
+    /**
+     * Gets the fraction of the entity visible from the explosion origin, as
+     * {@link Explosion#getSeenPercent(Vec3, Entity)} would.
+     */
+    public float exposure(final Vec3 origin, final Entity entity) {
+        final ExposureKey key = new ExposureKey(origin, entity.getBoundingBox());
+        final Float cached = this.exposures.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        final float exposure = Explosion.getSeenPercent(origin, entity);
+        this.exposures.put(key, exposure);
+        return exposure;
+    }
+
+    public boolean isKnownEmpty(final double x, final double y, final double z, final float radius) {
+        return this.emptyBlasts.contains(new BlastKey(x, y, z, radius));
+    }
+
+    public void markEmpty(final double x, final double y, final double z, final float radius) {
+        this.emptyBlasts.add(new BlastKey(x, y, z, radius));
+    }
+
+    private static final class ExposureKey {
+
+        private final double x, y, z;
+        private final double minX, minY, minZ, maxX, maxY, maxZ;
+        private final int hash;
+
+        ExposureKey(final Vec3 origin, final AABB box) {
+            this.x = origin.x;
+            this.y = origin.y;
+            this.z = origin.z;
+            this.minX = box.minX;
+            this.minY = box.minY;
+            this.minZ = box.minZ;
+            this.maxX = box.maxX;
+            this.maxY = box.maxY;
+            this.maxZ = box.maxZ;
+            int hash = Double.hashCode(this.x);
+            hash = 31 * hash + Double.hashCode(this.y);
+            hash = 31 * hash + Double.hashCode(this.z);
+            hash = 31 * hash + Double.hashCode(this.minX);
+            hash = 31 * hash + Double.hashCode(this.minY);
+            hash = 31 * hash + Double.hashCode(this.minZ);
+            hash = 31 * hash + Double.hashCode(this.maxX);
+            hash = 31 * hash + Double.hashCode(this.maxY);
+            this.hash = 31 * hash + Double.hashCode(this.maxZ);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ExposureKey)) {
+                return false;
+            }
+            final ExposureKey that = (ExposureKey) o;
+            return this.x == that.x && this.y == that.y && this.z == that.z
+                && this.minX == that.minX && this.minY == that.minY && this.minZ == that.minZ
+                && this.maxX == that.maxX && this.maxY == that.maxY && this.maxZ == that.maxZ;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
+    private static final class BlastKey {
+
+        private final double x, y, z;
+        private final float radius;
+
+        BlastKey(final double x, final double y, final double z, final float radius) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.radius = radius;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof BlastKey)) {
+                return false;
+            }
+            final BlastKey that = (BlastKey) o;
+            return this.x == that.x && this.y == that.y && this.z == that.z && this.radius == that.radius;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = Double.hashCode(this.x);
+            hash = 31 * hash + Double.hashCode(this.y);
+            hash = 31 * hash + Double.hashCode(this.z);
+            return 31 * hash + Float.hashCode(this.radius);
+        }
+    }
+}
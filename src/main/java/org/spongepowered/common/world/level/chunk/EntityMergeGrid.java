@@ -0,0 +1,178 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.level.chunk;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minecraft.util.ClassInstanceMultiMap;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.phys.AABB;
+import org.spongepowered.common.bridge.optimization.EntityMergeGridBridge;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * A grid of the mergeable entities of one type in a chunk, such as dropped
+ * items or experience orbs, hashed by cell and by the identity of what the
+ * entity holds. Looking up the merge candidates of an entity only visits the
+ * entities holding the same thing in the neighbouring cells.
+ *
+ * <p>The grid is rebuilt at most once per tick, or when an entity enters or
+ * leaves the chunk. Lookups are widened by a margin to account for entities
+ * that moved since, before the exact bounding box test.</p>
+ *
+ * @param <T> The type of entity
+ */
+public final class EntityMergeGrid<T extends Entity> {
+
+    private static final double CELL_SIZE = 4.0D;
+    private static final double MOVEMENT_MARGIN = 2.0D;
+
+    private final Class<T> type;
+    private final ToIntFunction<? super T> identity;
+    private final Long2IntOpenHashMap heads = new Long2IntOpenHashMap();
+    private Entity[] entities = new Entity[16];
+    private int[] next = new int[16];
+    private int size;
+    private double maxExtent;
+    private long builtTick = Long.MIN_VALUE;
+
+    /**
+     * Creates a grid.
+     *
+     * @param type The type of entity to hold
+     * @param identity The identity of what an entity holds, only entities with
+     *     the same identity are merge candidates of each other
+     */
+    public EntityMergeGrid(final Class<T> type, final ToIntFunction<? super T> identity) {
+        this.type = type;
+        this.identity = identity;
+        this.heads.defaultReturnValue(-1);
+    }
+
+    /**
+     * Gets the entities of the given type and identity within the area, like
+     * {@link Level#getEntitiesOfClass(Class, AABB, Predicate)}.
+     *
+     * @param level The level
+     * @param type The type of entity
+     * @param identity The identity of the entities to find
+     * @param box The area to search
+     * @param filter The entity filter
+     * @param <T> The type of entity
+     * @return The entities found
+     */
+    public static <T extends Entity> List<T> getEntities(final Level level, final Class<T> type, final int identity, final AABB box,
+        final Predicate<? super T> filter) {
+        final List<T> found = new ArrayList<>();
+        final int minX = Mth.floor((box.minX - 2.0D) / 16.0D);
+        final int maxX = Mth.ceil((box.maxX + 2.0D) / 16.0D);
+        final int minZ = Mth.floor((box.minZ - 2.0D) / 16.0D);
+        final int maxZ = Mth.ceil((box.maxZ + 2.0D) / 16.0D);
+        final long tick = level.getGameTime();
+        for (int x = minX; x < maxX; x++) {
+            for (int z = minZ; z < maxZ; z++) {
+                final LevelChunk chunk = level.getChunkSource().getChunk(x, z, false);
+                if (chunk != null) {
+                    ((EntityMergeGridBridge) chunk).entityMergeBridge$grid(type).collect(chunk.getEntitySections(), tick, identity, box, filter, found);
+                }
+            }
+        }
+        return found;
+    }
+
+    public void invalidate() {
+        this.builtTick = Long.MIN_VALUE;
+    }
+
+    public void collect(final ClassInstanceMultiMap<Entity>[] sections, final long tick, final int identity, final AABB box,
+        final Predicate<? super T> filter, final List<T> found) {
+        this.ensureBuilt(sections, tick);
+        if (this.size == 0) {
+            return;
+        }
+        final double margin = this.maxExtent + EntityMergeGrid.MOVEMENT_MARGIN;
+        final int minX = EntityMergeGrid.cell(box.minX - margin);
+        final int maxX = EntityMergeGrid.cell(box.maxX + margin);
+        final int minY = EntityMergeGrid.cell(box.minY - margin);
+        final int maxY = EntityMergeGrid.cell(box.maxY + margin);
+        final int minZ = EntityMergeGrid.cell(box.minZ - margin);
+        final int maxZ = EntityMergeGrid.cell(box.maxZ + margin);
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    for (int i = this.heads.get(EntityMergeGrid.key(x, y, z, identity)); i != -1; i = this.next[i]) {
+                        final T entity = this.type.cast(this.entities[i]);
+                        if (entity.getBoundingBox().intersects(box) && filter.test(entity)) {
+                            found.add(entity);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void ensureBuilt(final ClassInstanceMultiMap<Entity>[] sections, final long tick) {
+        if (this.builtTick == tick) {
+            return;
+        }
+        this.builtTick = tick;
+        Arrays.fill(this.entities, 0, this.size, null);
+        this.heads.clear();
+        this.size = 0;
+        this.maxExtent = 0;
+        for (final ClassInstanceMultiMap<Entity> section : sections) {
+            for (final T entity : section.find(this.type)) {
+                if (this.size == this.entities.length) {
+                    this.entities = Arrays.copyOf(this.entities, this.size * 2);
+                    this.next = Arrays.copyOf(this.next, this.size * 2);
+                }
+                final long key = EntityMergeGrid.key(EntityMergeGrid.cell(entity.getX()), EntityMergeGrid.cell(entity.getY()),
+                    EntityMergeGrid.cell(entity.getZ()), this.identity.applyAsInt(entity));
+                this.entities[this.size] = entity;
+                this.next[this.size] = this.heads.put(key, this.size);
+                this.size++;
+                final AABB bb = entity.getBoundingBox();
+                this.maxExtent = Math.max(this.maxExtent, Math.max(bb.getYsize(), Math.max(bb.getXsize(), bb.getZsize())));
+            }
+        }
+    }
+
+    static int cell(final double coordinate) {
+        return Mth.floor(coordinate / EntityMergeGrid.CELL_SIZE);
+    }
+
+    static long key(final int x, final int y, final int z, final int identity) {
+        // A grid only holds the cells of one chunk, so truncating the coordinates is safe. Identities may collide,
+        // which is why lookups must still filter by what the entities hold
+        return ((long) x & 0xFFFFL) << 48 | ((long) y & 0xFFFFL) << 32 | ((long) z & 0xFFFFL) << 16 | (long) identity & 0xFFFFL;
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.level.chunk;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minecraft.util.ClassInstanceMultiMap;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.phys.AABB;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.bridge.optimization.EntityPushGridBridge;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A spatial hash of the entities in one chunk section, used to find the
+ * entities a living entity pushes without testing every entity of the
+ * section.
+ *
+ * <p>Entities are hashed into cells of {@link #CELL_SIZE} blocks by their
+ * position. The grid is rebuilt at most once per tick, or when an entity enters
+ * or leaves the section, and entities moving into another cell in between are
+ * moved to it through {@link #move(Entity, double, double, double, long)}.
+ * Lookups are widened by the largest entity in the section and by
+ * {@link #SIZE_MARGIN}, to account for entities that grew since, before the
+ * exact bounding box test.</p>
+ */
+public final class EntityPushGrid {
+
+    private static final double CELL_SIZE = 2.0D;
+    private static final double SIZE_MARGIN = 2.0D;
+
+    private final Long2IntOpenHashMap heads = new Long2IntOpenHashMap();
+    private Entity[] entities = new Entity[16];
+    private int[] next = new int[16];
+    private int size;
+    private double maxHalfWidth;
+    private double maxHeight;
+    private long builtTick = Long.MIN_VALUE;
+
+    public EntityPushGrid() {
+        this.heads.defaultReturnValue(-1);
+    }
+
+    /**
+     * Gets the entities the given entity pushes, like
+     * {@link Level#getEntities(Entity, AABB, Predicate)}, but stops once
+     * {@code limit} entities were collected.
+     *
+     * @param level The level
+     * @param entity The pushing entity
+     * @param box The area to search
+     * @param filter The entity filter
+     * @param limit The maximum amount of entities to collect
+     * @return The entities found
+     */
+    public static List<Entity> getPushableEntities(final Level level, final Entity entity, final AABB box, final Predicate<? super Entity> filter,
+        final int limit) {
+        final List<Entity> found = new ArrayList<>();
+        if (limit <= 0) {
+            return found;
+        }
+        final int minX = Mth.floor((box.minX - 2.0D) / 16.0D);
+        final int maxX = Mth.floor((box.maxX + 2.0D) / 16.0D);
+        final int minZ = Mth.floor((box.minZ - 2.0D) / 16.0D);
+        final int maxZ = Mth.floor((box.maxZ + 2.0D) / 16.0D);
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                final LevelChunk chunk = level.getChunkSource().getChunk(x, z, false);
+                if (chunk != null && ((EntityPushGridBridge) chunk).entityPushBridge$collect(entity, box, filter, found, limit)) {
+                    return found;
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Gets the amount of entities of the same type in the cell of the given
+     * entity.
+     *
+     * @param level The level
+     * @param entity The entity
+     * @return The amount of entities, including the given one
+     */
+    public static int countStacked(final Level level, final Entity entity) {
+        final LevelChunk chunk = level.getChunkSource().getChunk(Mth.floor(entity.getX()) >> 4, Mth.floor(entity.getZ()) >> 4, false);
+        return chunk == null ? 0 : ((EntityPushGridBridge) chunk).entityPushBridge$countStacked(entity);
+    }
+
+    /**
+     * Gets whether moving the given entity to the given position moves it
+     * into another cell.
+     *
+     * @param entity The entity, at its current position
+     * @param x The new x coordinate
+     * @param y The new y coordinate
+     * @param z The new z coordinate
+     * @return True if the cell of the entity changes
+     */
+    public static boolean changesCell(final Entity entity, final double x, final double y, final double z) {
+        return EntityPushGrid.cell(entity.getX()) != EntityPushGrid.cell(x)
+            || EntityPushGrid.cell(entity.getY()) != EntityPushGrid.cell(y)
+            || EntityPushGrid.cell(entity.getZ()) != EntityPushGrid.cell(z);
+    }
+
+    public void invalidate() {
+        this.builtTick = Long.MIN_VALUE;
+    }
+
+    /**
+     * Moves an entity of the section to the cell of its new position. This
+     * must be called before the position of the entity is updated.
+     *
+     * @param entity The entity, at its current position
+     * @param x The new x coordinate
+     * @param y The new y coordinate
+     * @param z The new z coordinate
+     * @param tick The current game time
+     */
+    public void move(final Entity entity, final double x, final double y, final double z, final long tick) {
+        if (this.builtTick != tick) {
+            // The grid is rebuilt from the current positions before the next lookup
+            return;
+        }
+        final long from = EntityPushGrid.key(EntityPushGrid.cell(entity.getX()), EntityPushGrid.cell(entity.getY()), EntityPushGrid.cell(entity.getZ()));
+        final long to = EntityPushGrid.key(EntityPushGrid.cell(x), EntityPushGrid.cell(y), EntityPushGrid.cell(z));
+        if (from == to) {
+            return;
+        }
+        for (int i = this.heads.get(from), previous = -1; i != -1; previous = i, i = this.next[i]) {
+            if (this.entities[i] != entity) {
+                continue;
+            }
+            if (previous != -1) {
+                this.next[previous] = this.next[i];
+            } else if (this.next[i] != -1) {
+                this.heads.put(from, this.next[i]);
+            } else {
+                this.heads.remove(from);
+            }
+            this.next[i] = this.heads.put(to, i);
+            return;
+        }
+    }
+
+    /**
+     * Collects the entities of the section matching the filter into the list.
+     *
+     * @return Whether the limit was reached
+     */
+    public boolean collect(final ClassInstanceMultiMap<Entity> section, final long tick, final @Nullable Entity except, final AABB box,
+        final @Nullable Predicate<? super Entity> filter, final List<Entity> found, final int limit) {
+        this.ensureBuilt(section, tick);
+        if (this.size == 0) {
+            return false;
+        }
+        final double xzMargin = this.maxHalfWidth + EntityPushGrid.SIZE_MARGIN;
+        final int minX = EntityPushGrid.cell(box.minX - xzMargin);
+        final int maxX = EntityPushGrid.cell(box.maxX + xzMargin);
+        final int minY = EntityPushGrid.cell(box.minY - this.maxHeight - EntityPushGrid.SIZE_MARGIN);
+        final int maxY = EntityPushGrid.cell(box.maxY + EntityPushGrid.SIZE_MARGIN);
+        final int minZ = EntityPushGrid.cell(box.minZ - xzMargin);
+        final int maxZ = EntityPushGrid.cell(box.maxZ + xzMargin);
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    for (int i = this.heads.get(EntityPushGrid.key(x, y, z)); i != -1; i = this.next[i]) {
+                        final Entity entity = this.entities[i];
+                        if (entity != except && entity.getBoundingBox().intersects(box) && (filter == null || filter.test(entity))) {
+                            found.add(entity);
+                            if (found.size() >= limit) {
+                                return true;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    public int countStacked(final ClassInstanceMultiMap<Entity> section, final long tick, final Entity entity) {
+        this.ensureBuilt(section, tick);
+        int count = 0;
+        final long key = EntityPushGrid.key(EntityPushGrid.cell(entity.getX()), EntityPushGrid.cell(entity.getY()), EntityPushGrid.cell(entity.getZ()));
+        for (int i = this.heads.get(key); i != -1; i = this.next[i]) {
+            if (this.entities[i].getType() == entity.getType()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void ensureBuilt(final ClassInstanceMultiMap<Entity> section, final long tick) {
+        if (this.builtTick == tick) {
+            return;
+        }
+        this.builtTick = tick;
+        Arrays.fill(this.entities, 0, this.size, null);
+        this.heads.clear();
+        this.size = 0;
+        this.maxHalfWidth = 0;
+        this.maxHeight = 0;
+        for (final Entity entity : section) {
+            if (this.size == this.entities.length) {
+                this.entities = Arrays.copyOf(this.entities, this.size * 2);
+                this.next = Arrays.copyOf(this.next, this.size * 2);
+            }
+            final long key = EntityPushGrid.key(EntityPushGrid.cell(entity.getX()), EntityPushGrid.cell(entity.getY()), EntityPushGrid.cell(entity.getZ()));
+            this.entities[this.size] = entity;
+            this.next[this.size] = this.heads.put(key, this.size);
+            this.size++;
+            final AABB bb = entity.getBoundingBox();
+            this.maxHalfWidth = Math.max(this.maxHalfWidth, Math.max(bb.getXsize(), bb.getZsize()) / 2.0D);
+            this.maxHeight = Math.max(this.maxHeight, bb.getYsize());
+        }
+    }
+
+    static int cell(final double coordinate) {
+        return Mth.floor(coordinate / EntityPushGrid.CELL_SIZE);
+    }
+
+    static long key(final int x, final int y, final int z) {
+        return ((long) x & 0x3FFFFFFL) << 38 | ((long) z & 0x3FFFFFFL) << 12 | (long) y & 0xFFFL;
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.server;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.TickableBlockEntity;
+import net.minecraft.world.level.chunk.LevelChunk;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.bridge.world.TrackedWorldBridge;
+import org.spongepowered.common.bridge.world.level.storage.PrimaryLevelDataBridge;
+import org.spongepowered.common.config.inheritable.TypeConfigSnapshot;
+import org.spongepowered.common.event.tracking.TrackingUtil;
+
+/**
+ * Ticks the block entities of a world which have a configured tick rate
+ * greater than one, in place of the tickable block entity list of the world.
+ *
+ * <p>Block entities are grouped into one bucket per tick rate, and each
+ * bucket is split into as many slots as its rate. A block entity is put into
+ * the slot with the fewest entries, and each tick only the due slot of every
+ * bucket is ticked, so block entities of the same rate are spread evenly over
+ * the ticks instead of all being ticked at once.</p>
+ *
+ * <p>The tick rate of a block entity is resolved once, when it is added to
+ * the world. Block entities which were removed, unloaded or replaced in their
+ * chunk are dropped the next time their slot is due.</p>
+ */
+public final class SpongeBlockEntityTickScheduler {
+
+    private final ServerLevel level;
+    private final Int2ObjectMap<Bucket> buckets = new Int2ObjectOpenHashMap<>();
+    private int tick;
+
+    public SpongeBlockEntityTickScheduler(final ServerLevel level) {
+        this.level = level;
+    }
+
+    /**
+     * Schedules the given block entity at the tick rate configured for its
+     * type, if that rate is greater than one.
+     *
+     * @param blockEntity The ticking block entity
+     * @return True if the block entity was scheduled, false if it should be
+     *     ticked every tick
+     */
+    public boolean schedule(final BlockEntity blockEntity) {
+        if (!SpongeConfigs.getCommon().get().modules.blockEntityActivationRange) {
+            return false;
+        }
+        final TypeConfigSnapshot.BlockEntitySettings settings =
+            ((PrimaryLevelDataBridge) this.level.getLevelData()).bridge$typeConfigs().blockEntity(blockEntity.getType());
+        if (settings.alwaysActive || settings.tickRate <= 1) {
+            return false;
+        }
+        this.buckets.computeIfAbsent(settings.tickRate, Bucket::new).add(blockEntity);
+        return true;
+    }
+
+    /**
+     * Ticks the block entities of every bucket which are due this tick.
+     */
+    public void tick() {
+        final int tick = this.tick++;
+        if (this.buckets.isEmpty()) {
+            return;
+        }
+        for (final Bucket bucket : this.buckets.values()) {
+            final ObjectArrayList<BlockEntity> slot = bucket.slots[tick % bucket.slots.length];
+            int kept = 0;
+            // Block entities may be scheduled while ticking, so the size is re-read every time
+            for (int i = 0; i < slot.size(); i++) {
+                final BlockEntity blockEntity = slot.get(i);
+                if (this.tickBlockEntity(blockEntity)) {
+                    slot.set(kept++, blockEntity);
+                }
+            }
+            slot.size(kept);
+        }
+    }
+
+    /**
+     * Gets the amount of scheduled block entities, including those which
+     * will be dropped the next time their slot is due.
+     *
+     * @return The amount of scheduled block entities
+     */
+    public int size() {
+        int size = 0;
+        for (final Bucket bucket : this.buckets.values()) {
+            for (final ObjectArrayList<BlockEntity> slot : bucket.slots) {
+                size += slot.size();
+            }
+        }
+        return size;
+    }
+
+    private boolean tickBlockEntity(final BlockEntity blockEntity) {
+        if (blockEntity.isRemoved() || !blockEntity.hasLevel()) {
+            this.level.blockEntityList.remove(blockEntity);
+            return false;
+        }
+        final BlockPos pos = blockEntity.getBlockPos();
+        if (!this.level.hasChunkAt(pos)) {
+            return false;
+        }
+        final LevelChunk chunk = this.level.getChunkAt(pos);
+        if (chunk.getBlockEntities().get(pos) != blockEntity) {
+            return false;
+        }
+        if (this.level.getChunkSource().isTickingChunk(pos) && this.level.getWorldBorder().isWithinBounds(pos)
+            && blockEntity.getType().isValid(chunk.getBlockState(pos).getBlock())) {
+            TrackingUtil.tickTileEntity((TrackedWorldBridge) this.level, (TickableBlockEntity) blockEntity);
+        }
+        if (blockEntity.isRemoved()) {
+            this.level.blockEntityList.remove(blockEntity);
+            if (chunk.getBlockEntities().get(pos) == blockEntity) {
+                chunk.removeBlockEntity(pos);
+            }
+            return false;
+        }
+        return true;
+    }
+
+    static final class Bucket {
+
+        final ObjectArrayList<BlockEntity>[] slots;
+
+        @SuppressWarnings("unchecked")
+        Bucket(final int tickRate) {
+            this.slots = new ObjectArrayList[tickRate];
+            for (int i = 0; i < tickRate; i++) {
+                this.slots[i] = new ObjectArrayList<>();
+            }
+        }
+
+        void add(final BlockEntity blockEntity) {
+            ObjectArrayList<BlockEntity> smallest = this.slots[0];
+            for (final ObjectArrayList<BlockEntity> slot : this.slots) {
+                if (slot.size() < smallest.size()) {
+                    smallest = slot;
+                }
+            }
+            smallest.add(blockEntity);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.server;
+
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.server.level.ChunkHolder;
+import net.minecraft.server.level.ChunkMap;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.ImposterProtoChunk;
+import net.minecraft.world.level.chunk.LevelChunk;
+import org.spongepowered.common.accessor.server.level.ChunkMapAccessor;
+
+/**
+ * Spreads the auto-save of a world's chunks over several ticks.
+ *
+ * <p>When an auto-save is due, every chunk that was accessible since it was
+ * last saved is queued, the chunks saved the longest time ago first. Each
+ * tick, queued chunks are then saved until either the chunk limit or the time
+ * budget of that tick is reached. A full save discards the queue, as it saves
+ * every chunk anyway, and so does turning saving off for the world.</p>
+ */
+public final class SpongeIncrementalChunkSaver {
+
+    private static final int THROUGHPUT_WINDOW = 20;
+
+    private final ChunkMap chunkMap;
+    private final LongLinkedOpenHashSet queue = new LongLinkedOpenHashSet();
+    private final Long2LongOpenHashMap lastSaved = new Long2LongOpenHashMap();
+    private final int[] savedPerTick = new int[SpongeIncrementalChunkSaver.THROUGHPUT_WINDOW];
+    private int tickIndex;
+    private long totalSaved;
+    private long totalSaveNanos;
+    private long time;
+
+    public SpongeIncrementalChunkSaver(final ChunkMap chunkMap) {
+        this.chunkMap = chunkMap;
+        this.lastSaved.defaultReturnValue(Long.MIN_VALUE);
+    }
+
+    /**
+     * Queues every chunk which was accessible since it was last saved. Chunks
+     * still queued from a previous auto-save keep their position.
+     */
+    public void schedule() {
+        final ChunkMapAccessor accessor = (ChunkMapAccessor) this.chunkMap;
+        final LongArrayList dirty = new LongArrayList();
+        for (final ChunkHolder holder : accessor.invoker$getChunks()) {
+            final long pos = holder.getPos().toLong();
+            if (holder.wasAccessibleSinceLastSave() && !this.queue.contains(pos)) {
+                dirty.add(pos);
+            }
+        }
+        dirty.unstableSort((a, b) -> Long.compare(this.lastSaved.get(a), this.lastSaved.get(b)));
+        this.queue.addAll(dirty);
+
+        // Forget chunks which have since been unloaded, these were saved when unloading
+        final ObjectIterator<Long2LongMap.Entry> iterator = this.lastSaved.long2LongEntrySet().fastIterator();
+        while (iterator.hasNext()) {
+            if (accessor.invoker$getVisibleChunkIfPresent(iterator.next().getLongKey()) == null) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Saves queued chunks until either limit is reached. At least one chunk is
+     * saved if any is queued, so that the queue always drains.
+     *
+     * @param maxChunks The maximum amount of chunks to save
+     * @param maxNanos The maximum amount of time to spend saving
+     */
+    public void tick(final int maxChunks, final long maxNanos) {
+        this.time++;
+        this.tickIndex = (this.tickIndex + 1) % SpongeIncrementalChunkSaver.THROUGHPUT_WINDOW;
+        this.savedPerTick[this.tickIndex] = 0;
+        if (this.queue.isEmpty()) {
+            return;
+        }
+
+        final ChunkMapAccessor accessor = (ChunkMapAccessor) this.chunkMap;
+        final long start = System.nanoTime();
+        int saved = 0;
+        long now = start;
+        while (!this.queue.isEmpty() && saved < Math.max(1, maxChunks) && (saved == 0 || now - start < maxNanos)) {
+            final long pos = this.queue.removeFirstLong();
+            final ChunkHolder holder = accessor.invoker$getVisibleChunkIfPresent(pos);
+            if (holder == null) {
+                this.lastSaved.remove(pos);
+                continue;
+            }
+            final ChunkAccess chunk = holder.getChunkToSave().getNow(null);
+            if (chunk instanceof ImposterProtoChunk || chunk instanceof LevelChunk) {
+                if (accessor.invoker$save(chunk)) {
+                    saved++;
+                }
+                holder.refreshAccessibility();
+                this.lastSaved.put(pos, this.time);
+            }
+            now = System.nanoTime();
+        }
+
+        this.savedPerTick[this.tickIndex] = saved;
+        this.totalSaved += saved;
+        this.totalSaveNanos += now - start;
+    }
+
+    /**
+     * Discards the queue after all chunks of the world have been saved.
+     */
+    public void onFullSave() {
+        this.queue.clear();
+    }
+
+    /**
+     * Discards the queue while saving is turned off for the world. The chunks
+     * are not marked as saved, so the next auto-save queues them again.
+     */
+    public void cancel() {
+        this.queue.clear();
+    }
+
+    public int backlog() {
+        return this.queue.size();
+    }
+
+    /**
+     * Gets the amount of chunks saved per second, averaged over the last
+     * second of ticks.
+     *
+     * @return The chunks saved per second
+     */
+    public int chunksPerSecond() {
+        int sum = 0;
+        for (final int saved : this.savedPerTick) {
+            sum += saved;
+        }
+        return sum;
+    }
+
+    public long totalSaved() {
+        return this.totalSaved;
+    }
+
+    public double averageSaveMillis() {
+        return this.totalSaved == 0 ? 0 : this.totalSaveNanos / (double) this.totalSaved * 1.0E-6D;
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.server;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.common.SpongeCommon;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Copies, moves and deletes world directories on a dedicated I/O pool.
+ *
+ * <p>Files are processed in parallel, one task per file, and copies go
+ * through {@link FileChannel#transferTo}, which lets the operating system
+ * copy in kernel space or share extents on filesystems that support it.
+ * Cancelling a returned future stops the remaining work; a cancelled or
+ * failed copy removes whatever it had already written.</p>
+ */
+public final class SpongeWorldFileOperations {
+
+    static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+            Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors())),
+            new ThreadFactoryBuilder()
+                    .setNameFormat("Sponge-WorldIO-%d")
+                    .setDaemon(true)
+                    .build());
+
+    /**
+     * Copies a directory tree.
+     *
+     * @param key The world being copied, used for logging
+     * @param source The directory to copy
+     * @param target The directory to copy to
+     * @param skip Tests whether a path should be left out, given the path and
+     *     whether it is a directory
+     * @return A future completing once every file has been copied
+     */
+    static CompletableFuture<Void> copy(final ResourceKey key, final Path source, final Path target, final BiPredicate<Path, Boolean> skip) {
+        final Progress progress = new Progress("copy");
+        final CompletableFuture<Void> result = new CompletableFuture<>();
+        CompletableFuture.supplyAsync(() -> {
+            final List<Path> files = new ArrayList<>();
+            try {
+                Files.walkFileTree(source, new SimpleFileVisitor<Path>() {
+                    @Override
+                    public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) throws IOException {
+                        if (skip.test(dir, true)) {
+                            return FileVisitResult.SKIP_SUBTREE;
+                        }
+                        Files.createDirectories(target.resolve(source.relativize(dir)));
+                        return result.isDone() ? FileVisitResult.TERMINATE : FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                        if (!skip.test(file, false)) {
+                            files.add(file);
+                        }
+                        return result.isDone() ? FileVisitResult.TERMINATE : FileVisitResult.CONTINUE;
+                    }
+                });
+            } catch (final IOException e) {
+                throw new CompletionException(e);
+            }
+            return files;
+        }, SpongeWorldFileOperations.EXECUTOR)
+            .thenCompose(files -> CompletableFuture.allOf(files.stream()
+                .map(file -> CompletableFuture.runAsync(() -> {
+                    SpongeWorldFileOperations.checkCancelled(result);
+                    SpongeWorldFileOperations.copyFile(file, target.resolve(source.relativize(file)), progress, result);
+                    progress.filesDone.incrementAndGet();
+                }, SpongeWorldFileOperations.EXECUTOR))
+                .toArray(CompletableFuture[]::new)))
+            .whenComplete((v, t) -> {
+                if (t == null && !result.isDone()) {
+                    SpongeWorldFileOperations.finish(key, progress);
+                    result.complete(null);
+                    return;
+                }
+                // Leave nothing half copied behind
+                try {
+                    SpongeWorldFileOperations.deleteTree(target);
+                } catch (final IOException e) {
+                    SpongeCommon.logger().warn("Unable to clean up partial copy of world '{}' at '{}'", key, target, e);
+                }
+                result.completeExceptionally(SpongeWorldFileOperations.unwrap(t));
+            });
+        return result;
+    }
+
+    /**
+     * Moves a directory tree, renaming it when both paths are on the same
+     * filesystem and copying then deleting it otherwise.
+     */
+    static CompletableFuture<Void> move(final ResourceKey key, final Path source, final Path target) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                Files.createDirectories(target.getParent());
+                Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+                return true;
+            } catch (final AtomicMoveNotSupportedException e) {
+                return false;
+            } catch (final IOException e) {
+                throw new CompletionException(e);
+            }
+        }, SpongeWorldFileOperations.EXECUTOR).thenCompose(moved -> moved
+            ? CompletableFuture.completedFuture(null)
+            : SpongeWorldFileOperations.copy(key, source, target, (path, directory) -> false)
+                .thenCompose(copied -> SpongeWorldFileOperations.delete(key, source)));
+    }
+
+    /**
+     * Deletes a directory tree, removing files in parallel and directories
+     * once they are empty.
+     */
+    static CompletableFuture<Void> delete(final ResourceKey key, final Path directory) {
+        final Progress progress = new Progress("delete");
+        final CompletableFuture<Void> result = new CompletableFuture<>();
+        CompletableFuture.supplyAsync(() -> {
+            if (!Files.exists(directory)) {
+                return new ArrayList<Path>();
+            }
+            try (final Stream<Path> paths = Files.walk(directory)) {
+                return paths.collect(Collectors.toList());
+            } catch (final IOException e) {
+                throw new CompletionException(e);
+            }
+        }, SpongeWorldFileOperations.EXECUTOR)
+            .thenCompose(paths -> {
+                final List<Path> files = paths.stream().filter(path -> !Files.isDirectory(path)).collect(Collectors.toList());
+                return CompletableFuture.allOf(files.stream()
+                    .map(file -> CompletableFuture.runAsync(() -> {
+                        SpongeWorldFileOperations.checkCancelled(result);
+                        try {
+                            Files.deleteIfExists(file);
+                        } catch (final IOException e) {
+                            throw new CompletionException(e);
+                        }
+                        progress.filesDone.incrementAndGet();
+                    }, SpongeWorldFileOperations.EXECUTOR))
+                    .toArray(CompletableFuture[]::new))
+                    .thenRun(() -> {
+                        SpongeWorldFileOperations.checkCancelled(result);
+                        try {
+                            SpongeWorldFileOperations.deleteTree(directory);
+                        } catch (final IOException e) {
+                            throw new CompletionException(e);
+                        }
+                    });
+            })
+            .whenComplete((v, t) -> {
+                if (t == null && !result.isDone()) {
+                    SpongeWorldFileOperations.finish(key, progress);
+                    result.complete(null);
+                } else {
+                    result.completeExceptionally(SpongeWorldFileOperations.unwrap(t));
+                }
+            });
+        return result;
+    }
+
+    /**
+     * Cancels {@code operation} when {@code result} is cancelled, so that
+     * cancelling a future handed to a plugin stops the underlying I/O.
+     */
+    static <T> CompletableFuture<T> cancelling(final CompletableFuture<T> result, final CompletableFuture<?> operation) {
+        result.whenComplete((v, t) -> {
+            if (result.isCancelled()) {
+                operation.cancel(false);
+            }
+        });
+        return result;
+    }
+
+    private static void copyFile(final Path from, final Path to, final Progress progress, final CompletableFuture<?> result) {
+        try (final FileChannel in = FileChannel.open(from, StandardOpenOption.READ);
+             final FileChannel out = FileChannel.open(to, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                 StandardOpenOption.WRITE)) {
+            final long size = in.size();
+            long position = 0;
+            while (position < size) {
+                SpongeWorldFileOperations.checkCancelled(result);
+                final long transferred = in.transferTo(position, size - position, out);
+                if (transferred <= 0) {
+                    // The file shrank while we were copying it
+                    break;
+                }
+                position += transferred;
+                progress.bytesDone.addAndGet(transferred);
+            }
+            Files.setLastModifiedTime(to, Files.getLastModifiedTime(from));
+        } catch (final IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    static void deleteTree(final Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (final Stream<Path> paths = Files.walk(directory)) {
+            for (final Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private static Throwable unwrap(final @Nullable Throwable t) {
+        if (t == null) {
+            return new CancellationException();
+        }
+        return t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+    }
+
+    private static void checkCancelled(final CompletableFuture<?> result) {
+        if (result.isCancelled()) {
+            throw new CancellationException();
+        }
+    }
+
+    private static void finish(final ResourceKey key, final Progress progress) {
+        SpongeCommon.logger().info("Finished world {} of '{}': {} files, {} KiB in {} ms", progress.operation, key,
+            progress.filesDone.get(), progress.bytesDone.get() / 1024, System.currentTimeMillis() - progress.started);
+    }
+
+    /**
+     * Counters of a running world file operation, logged once it finishes.
+     */
+    private static final class Progress {
+
+        final String operation;
+        final long started = System.currentTimeMillis();
+        final AtomicInteger filesDone = new AtomicInteger();
+        final AtomicLong bytesDone = new AtomicLong();
+
+        Progress(final String operation) {
+            this.operation = operation;
+        }
+    }
+
+    private SpongeWorldFileOperations() {
+    }
+}
@@ -74,6 +74,7 @@
 import net.minecraft.world.level.storage.PrimaryLevelData;
 import net.minecraft.world.level.storage.WorldData;
 import org.apache.commons.io.FilenameUtils;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.ResourceKey;
 import org.spongepowered.api.Server;
 import org.spongepowered.api.Sponge;
@@ -94,13 +95,17 @@
 import org.spongepowered.common.SpongeServer;
 import org.spongepowered.common.accessor.server.MinecraftServerAccessor;
 import org.spongepowered.common.accessor.world.gen.DimensionGeneratorSettingsAccessor;
+import org.spongepowered.common.accessor.world.level.chunk.storage.ChunkStorageAccessor;
+import org.spongepowered.common.accessor.world.level.chunk.storage.SectionStorageAccessor;
 import org.spongepowered.common.accessor.world.level.storage.LevelStorageSource_LevelStorageAccessAccessor;
 import org.spongepowered.common.accessor.world.level.storage.PrimaryLevelDataAccessor;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.bridge.ResourceKeyBridge;
 import org.spongepowered.common.bridge.server.level.ServerLevelBridge;
 import org.spongepowered.common.bridge.world.level.dimension.LevelStemBridge;
 import org.spongepowered.common.bridge.world.level.levelgen.WorldGenSettingsBridge;
 import org.spongepowered.common.bridge.world.level.storage.PrimaryLevelDataBridge;
+import org.spongepowered.common.bridge.world.server.ChunkMapBridge;
 import org.spongepowered.common.config.SpongeGameConfigs;
 import org.spongepowered.common.config.inheritable.InheritableConfigHandle;
 import org.spongepowered.common.config.inheritable.WorldConfig;
@@ -118,16 +123,12 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
-import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -135,6 +136,7 @@
 import java.util.OptionalInt;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -147,6 +149,7 @@ public abstract class SpongeWorldManager implements WorldManager {
     private final Map<net.minecraft.resources.ResourceKey<Level>, ServerLevel> worlds;
 
     private static final TicketType<ResourceLocation> SPAWN_CHUNKS = TicketType.create("spawn_chunks", (i, o) -> i.compareTo(o));
+    private static final Object LEVEL_DATA_LOCK = new Object();
 
     public SpongeWorldManager(final MinecraftServer server) {
         this.server = server;
@@ -648,6 +651,10 @@ public CompletableFuture<Boolean> copyWorld(final ResourceKey key, final Resourc
             disableLevelSaving = loadedWorld.noSave;
             loadedWorld.save(null, true, loadedWorld.noSave);
             loadedWorld.noSave = true;
+            // Unloading chunks still writes them, and the I/O workers may not have written everything saved so far
+            ((ChunkMapBridge) loadedWorld.getChunkSource().chunkMap).bridge$setWritesPaused(true);
+            ((SectionStorageAccessor) loadedWorld.getPoiManager()).accessor$worker().synchronize().join();
+            ((ChunkStorageAccessor) loadedWorld.getChunkSource().chunkMap).accessor$worker().synchronize().join();
         }
 
         final boolean isDefaultWorld = this.isDefaultWorld(key);
@@ -663,89 +670,66 @@ public CompletableFuture<Boolean> copyWorld(final ResourceKey key, final Resourc
         final Path copyDirectory = isVanillaCopyWorld ? this.defaultWorldDirectory
                 .resolve(copyDirectoryName) : this.customWorldsDirectory.resolve(copyKey.namespace()).resolve(copyKey.value());
 
-        try {
-            Files.walkFileTree(originalDirectory, new SimpleFileVisitor<Path>() {
-                @Override
-                public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) throws IOException {
-                    // Silly recursion if the default world is being copied
-                    if (dir.getFileName().toString().equals(Constants.Sponge.World.DIMENSIONS_DIRECTORY)) {
-                        return FileVisitResult.SKIP_SUBTREE;
-                    }
-
-                    // Silly copying of vanilla sub worlds if the default world is being copied
-                    if (isDefaultWorld && SpongeWorldManager.this.isVanillaSubWorld(dir.getFileName().toString())) {
-                        return FileVisitResult.SKIP_SUBTREE;
-                    }
-
-                    final Path relativize = originalDirectory.relativize(dir);
-                    final Path directory = copyDirectory.resolve(relativize);
-                    Files.createDirectories(directory);
-
-                    return FileVisitResult.CONTINUE;
+        final CompletableFuture<Void> files = SpongeWorldFileOperations.copy(key, originalDirectory, copyDirectory, (path, directory) -> {
+            final String fileName = path.getFileName().toString();
+            if (directory) {
+                // Silly recursion if the default world is being copied
+                if (fileName.equals(Constants.Sponge.World.DIMENSIONS_DIRECTORY)) {
+                    return true;
                 }
 
-                @Override
-                public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
-                    final String fileName = file.getFileName().toString();
-                    // Do not copy backups (not relevant anymore)
-                    if (fileName.equals(Constants.Sponge.World.LEVEL_SPONGE_DAT_OLD)) {
-                        return FileVisitResult.CONTINUE;
-                    }
-                    if (fileName.equals(Constants.World.LEVEL_DAT_OLD)) {
-                        return FileVisitResult.CONTINUE;
-                    }
-                    Files.copy(file, copyDirectory.resolve(originalDirectory.relativize(file)), StandardCopyOption.COPY_ATTRIBUTES,
-                            StandardCopyOption.REPLACE_EXISTING);
+                // Silly copying of vanilla sub worlds if the default world is being copied
+                return isDefaultWorld && this.isVanillaSubWorld(fileName);
+            }
+            // Do not copy backups (not relevant anymore), nor the lock held by the running server
+            return fileName.equals(Constants.Sponge.World.LEVEL_SPONGE_DAT_OLD) || fileName.equals(Constants.World.LEVEL_DAT_OLD)
+                || fileName.equals("session.lock");
+        });
 
-                    return FileVisitResult.CONTINUE;
-                }
-            });
-        } catch (final IOException e) {
-            // Bail the whole deal if we hit IO problems!
+        final Path dimensionTemplate = this.getDataPackFile(key);
+        final Path copiedDimensionTemplate = this.getDataPackFile(copyKey);
+
+        final CompletableFuture<Boolean> result = files.thenApplyAsync(v -> {
             try {
-                Files.deleteIfExists(copyDirectory);
-            } catch (final IOException ignore) {
+                SpongeWorldManager.copyDimensionTemplate(dimensionTemplate, copiedDimensionTemplate);
+            } catch (final IOException | RuntimeException e) {
+                // Leave no world behind that has no template
+                try {
+                    Files.deleteIfExists(copiedDimensionTemplate);
+                    SpongeWorldFileOperations.deleteTree(copyDirectory);
+                } catch (final IOException ex) {
+                    e.addSuppressed(ex);
+                }
+                throw new CompletionException(e);
             }
-
-            return FutureUtil.completedWithException(e);
-        }
+            return true;
+        }, SpongeWorldFileOperations.EXECUTOR);
 
         if (loadedWorld != null) {
-            loadedWorld.noSave = disableLevelSaving;
+            // Saving stays disabled until the copy is done so region files are not rewritten underneath it
+            final boolean restoreLevelSaving = disableLevelSaving;
+            result.whenCompleteAsync((copied, t) -> {
+                loadedWorld.noSave = restoreLevelSaving;
+                ((ChunkMapBridge) loadedWorld.getChunkSource().chunkMap).bridge$setWritesPaused(false);
+            }, this.server);
         }
 
-        final Path dimensionTemplate = this.getDataPackFile(key);
-        final Path copiedDimensionTemplate = this.getDataPackFile(copyKey);
-
-        try {
-            Files.createDirectories(copiedDimensionTemplate.getParent());
-            Files.copy(dimensionTemplate, copiedDimensionTemplate);
-        } catch (final IOException e) {
-            FutureUtil.completedWithException(e);
-        }
+        return SpongeWorldFileOperations.cancelling(result, files);
+    }
 
-        final JsonObject fixedObject;
-        try (final InputStream stream = Files.newInputStream(copiedDimensionTemplate); final InputStreamReader reader = new InputStreamReader(stream)) {
-            final JsonParser parser = new JsonParser();
-            final JsonElement element = parser.parse(reader);
+    private static void copyDimensionTemplate(final Path template, final Path copiedTemplate) throws IOException {
+        Files.createDirectories(copiedTemplate.getParent());
+        Files.copy(template, copiedTemplate);
 
-            final JsonObject root = element.getAsJsonObject();
-            final JsonObject spongeData = root.getAsJsonObject("#sponge");
-            spongeData.remove("unique_id");
-            fixedObject = root;
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
+        final JsonObject root;
+        try (final InputStream stream = Files.newInputStream(copiedTemplate); final InputStreamReader reader = new InputStreamReader(stream)) {
+            root = new JsonParser().parse(reader).getAsJsonObject();
         }
+        root.getAsJsonObject("#sponge").remove("unique_id");
 
-        if (fixedObject != null) {
-            try (final BufferedWriter writer = Files.newBufferedWriter(copiedDimensionTemplate)) {
-                writer.write(fixedObject.toString());
-            } catch (final IOException e) {
-                FutureUtil.completedWithException(e);
-            }
+        try (final BufferedWriter writer = Files.newBufferedWriter(copiedTemplate)) {
+            writer.write(root.toString());
         }
-
-        return CompletableFuture.completedFuture(true);
     }
 
     @Override
@@ -783,14 +767,7 @@ public CompletableFuture<Boolean> moveWorld(final ResourceKey key, final Resourc
         final String moveDirectoryName = this.getDirectoryName(movedKey);
 
         final Path moveDirectory = isVanillaMoveWorld ? this.defaultWorldDirectory
-                .resolve(moveDirectoryName) : this.customWorldsDirectory.resolve(key.namespace()).resolve(key.value());
-
-        try {
-            Files.createDirectories(moveDirectory);
-            Files.move(originalDirectory, moveDirectory, StandardCopyOption.REPLACE_EXISTING);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
+                .resolve(moveDirectoryName) : this.customWorldsDirectory.resolve(movedKey.namespace()).resolve(movedKey.value());
 
         final Path configFile = SpongeCommon.spongeConfigDirectory().resolve(Launch.instance().id()).resolve("worlds").resolve(key
                 .namespace()).resolve(key.value() + ".conf");
@@ -798,24 +775,22 @@ public CompletableFuture<Boolean> moveWorld(final ResourceKey key, final Resourc
         final Path copiedConfigFile = SpongeCommon.spongeConfigDirectory().resolve(Launch.instance().id()).resolve("worlds")
                 .resolve(movedKey.namespace()).resolve(movedKey.value() + ".conf");
 
-        try {
-            Files.createDirectories(copiedConfigFile.getParent());
-            Files.move(configFile, copiedConfigFile, StandardCopyOption.REPLACE_EXISTING);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
-
         final Path dimensionTemplate = this.getDataPackFile(key);
         final Path copiedDimensionTemplate = this.getDataPackFile(movedKey);
 
-        try {
-            Files.createDirectories(copiedDimensionTemplate.getParent());
-            Files.move(dimensionTemplate, copiedDimensionTemplate, StandardCopyOption.REPLACE_EXISTING);
-        } catch (final IOException e) {
-            FutureUtil.completedWithException(e);
-        }
-
-        return CompletableFuture.completedFuture(true);
+        final CompletableFuture<Void> files = SpongeWorldFileOperations.move(key, originalDirectory, moveDirectory);
+        final CompletableFuture<Boolean> result = files.thenApplyAsync(v -> {
+            try {
+                Files.createDirectories(copiedConfigFile.getParent());
+                Files.move(configFile, copiedConfigFile, StandardCopyOption.REPLACE_EXISTING);
+                Files.createDirectories(copiedDimensionTemplate.getParent());
+                Files.move(dimensionTemplate, copiedDimensionTemplate, StandardCopyOption.REPLACE_EXISTING);
+            } catch (final IOException e) {
+                throw new CompletionException(e);
+            }
+            return true;
+        }, SpongeWorldFileOperations.EXECUTOR);
+        return SpongeWorldFileOperations.cancelling(result, files);
     }
 
     @Override
@@ -847,34 +822,22 @@ public CompletableFuture<Boolean> deleteWorld(final ResourceKey key) {
 
         final Path directory = isVanillaWorld ? this.defaultWorldDirectory.resolve(directoryName) : this.customWorldsDirectory.resolve(key.namespace()).resolve(key.value());
 
-        if (Files.exists(directory)) {
-            try {
-                for (final Path path : Files.walk(directory).sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
-                    Files.deleteIfExists(path);
-                }
-            } catch (final IOException e) {
-                return FutureUtil.completedWithException(e);
-            }
-        }
-
         final Path configFile = SpongeCommon.spongeConfigDirectory().resolve(Launch.instance().id()).resolve("worlds").resolve(key.namespace())
             .resolve(key.value() + ".conf");
 
-        try {
-            Files.deleteIfExists(configFile);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
-
         final Path dimensionTemplate = this.getDataPackFile(key);
 
-        try {
-            Files.deleteIfExists(dimensionTemplate);
-        } catch (final IOException e) {
-            FutureUtil.completedWithException(e);
-        }
-
-        return CompletableFuture.completedFuture(true);
+        final CompletableFuture<Void> files = SpongeWorldFileOperations.delete(key, directory);
+        final CompletableFuture<Boolean> result = files.thenApplyAsync(v -> {
+            try {
+                Files.deleteIfExists(configFile);
+                Files.deleteIfExists(dimensionTemplate);
+            } catch (final IOException e) {
+                throw new CompletionException(e);
+            }
+            return true;
+        }, SpongeWorldFileOperations.EXECUTOR);
+        return SpongeWorldFileOperations.cancelling(result, files);
     }
 
     private void unloadWorld0(final ServerLevel world) throws IOException {
@@ -909,10 +872,7 @@ private void unloadWorld0(final ServerLevel world) throws IOException {
 
     public void loadLevel() {
         final PrimaryLevelData defaultLevelData = (PrimaryLevelData) this.server.getWorldData();
-        final WorldGenSettings defaultGenerationSettings = defaultLevelData.worldGenSettings();
-        final LevelSettings defaultLevelSettings = ((PrimaryLevelDataAccessor) defaultLevelData).accessor$settings();
-
-        final MappedRegistry<LevelStem> templates = defaultGenerationSettings.dimensions();
+        final MappedRegistry<LevelStem> templates = defaultLevelData.worldGenSettings().dimensions();
 
         final boolean multiworldEnabled = this.server.isSingleplayer() || this.server.isNetherEnabled();
         if (!multiworldEnabled) {
@@ -920,6 +880,8 @@ public void loadLevel() {
                     + "Multi-World support has been disabled and no worlds besides the default world will be loaded.");
         }
 
+        final boolean concurrent = SpongeConfigs.getCommon().get().world.concurrentWorldLoading;
+        final List<StartupWorld> startupWorlds = new ArrayList<>();
         for (final RegistryEntry<LevelStem> entry : ((Registry<LevelStem>) (Object) templates).streamEntries().collect(Collectors.toList())) {
             final ResourceKey worldKey = entry.key();
             final LevelStem template = entry.value();
@@ -931,7 +893,6 @@ public void loadLevel() {
                 continue;
             }
 
-            final WorldType worldType = (WorldType) template.type();
             final Optional<ResourceKey> worldTypeKey = RegistryTypes.WORLD_TYPE.get().findValueKey((WorldType) template.type());
 
             MinecraftServerAccessor.accessor$LOGGER().info("Loading world '{}' ({})", worldKey, worldTypeKey.map(ResourceKey::toString).orElse("inline"));
@@ -940,31 +901,121 @@ public void loadLevel() {
                 continue;
             }
 
-            final String directoryName = this.getDirectoryName(worldKey);
-            final boolean isVanillaSubLevel = this.isVanillaSubWorld(directoryName);
-            final LevelStorageSource.LevelStorageAccess storageSource;
+            startupWorlds.add(new StartupWorld(worldKey, template, worldTypeKey.orElse(null), isDefaultWorld));
+        }
 
-            if (isDefaultWorld) {
-                storageSource = ((MinecraftServerAccessor) this.server).accessor$storageSource();
+        // Level data and configs are read concurrently if enabled, worlds are still created in registry order below
+        if (concurrent) {
+            final List<CompletableFuture<Void>> reads = new ArrayList<>();
+            for (final StartupWorld startupWorld : startupWorlds) {
+                reads.add(CompletableFuture.runAsync(() -> this.readLevelData(startupWorld, defaultLevelData), SpongeWorldFileOperations.EXECUTOR));
+            }
+            try {
+                CompletableFuture.allOf(reads.toArray(new CompletableFuture[0])).join();
+            } catch (final CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        } else {
+            for (final StartupWorld startupWorld : startupWorlds) {
+                this.readLevelData(startupWorld, defaultLevelData);
+            }
+        }
+
+        for (final StartupWorld startupWorld : startupWorlds) {
+            final long start = System.nanoTime();
+            final PrimaryLevelData levelData = startupWorld.levelData;
+            ((PrimaryLevelDataBridge) levelData).bridge$populateFromDimension(startupWorld.template);
+            ((PrimaryLevelDataBridge) levelData).bridge$configAdapter(startupWorld.configAdapter);
+
+            levelData.setModdedInfo(this.server.getServerModName(), this.server.getModdedStatus().isPresent());
+            final long seed = BiomeManager.obfuscateSeed(levelData.worldGenSettings().seed());
+
+            final net.minecraft.resources.ResourceKey<Level> registryKey = SpongeWorldManager.createRegistryKey(startupWorld.key);
+            final ChunkProgressListener chunkStatusListener = ((MinecraftServerAccessor) this.server).accessor$progressListenerFactory().create(11);
+            final List<CustomSpawner> spawners;
+            if (startupWorld.isDefaultWorld) {
+                spawners = ImmutableList.of(new PhantomSpawner(), new PatrolSpawner(), new CatSpawner(), new VillageSiege(), new WanderingTraderSpawner(levelData));
             } else {
+                spawners = ImmutableList.of();
+            }
+
+            final ServerLevel world = new ServerLevel(this.server, ((MinecraftServerAccessor) this.server).accessor$executor(), startupWorld.storageSource,
+                    levelData, registryKey, (DimensionType) startupWorld.template.type(), chunkStatusListener, startupWorld.template.generator(),
+                    startupWorld.isDebugGeneration, seed, spawners, true);
+            // Ensure that the world border is registered.
+            world.getWorldBorder().applySettings(levelData.getWorldBorder());
+
+            this.worlds.put(registryKey, world);
+
+            this.prepareWorld(world, startupWorld.isDebugGeneration);
+            startupWorld.world = world;
+            startupWorld.initNanos = System.nanoTime() - start;
+        }
+
+        ((MinecraftServerAccessor) this.server).invoker$forceDifficulty();
+
+        if (concurrent) {
+            this.loadSpawnChunks(startupWorlds);
+        } else {
+            for (final StartupWorld startupWorld : startupWorlds) {
+                final long start = System.nanoTime();
                 try {
-                    if (isVanillaSubLevel) {
-                        storageSource = LevelStorageSource.createDefault(this.defaultWorldDirectory).createAccess(directoryName);
-                    } else {
-                        storageSource = LevelStorageSource.createDefault(this.customWorldsDirectory).createAccess(worldKey.namespace() + File.separator + worldKey.value());
-                    }
-                } catch (final IOException e) {
-                    throw new RuntimeException(String.format("Failed to create level data for world '%s'!", worldKey), e);
+                    this.postWorldLoad(startupWorld.world, true).get();
+                } catch (final InterruptedException | ExecutionException e) {
+                    throw new IllegalStateException(e);
                 }
+                startupWorld.spawnNanos = System.nanoTime() - start;
             }
+        }
 
-            PrimaryLevelData levelData;
-            final boolean isDebugGeneration;
+        for (final StartupWorld startupWorld : startupWorlds) {
+            MinecraftServerAccessor.accessor$LOGGER().info("Loaded world '{}' in {} ms (level data: {} ms, initialization: {} ms, start region: {} ms)",
+                    startupWorld.key, TimeUnit.NANOSECONDS.toMillis(startupWorld.dataNanos + startupWorld.initNanos + startupWorld.spawnNanos),
+                    TimeUnit.NANOSECONDS.toMillis(startupWorld.dataNanos), TimeUnit.NANOSECONDS.toMillis(startupWorld.initNanos),
+                    TimeUnit.NANOSECONDS.toMillis(startupWorld.spawnNanos));
+        }
 
-            if (isDefaultWorld) {
-                levelData = defaultLevelData;
-                isDebugGeneration = defaultGenerationSettings.isDebug();
-            } else {
+        ((SpongeUserManager) Sponge.server().userManager()).init();
+        ((SpongeServer) SpongeCommon.server()).getPlayerDataManager().load();
+    }
+
+    private void readLevelData(final StartupWorld startupWorld, final PrimaryLevelData defaultLevelData) {
+        final long start = System.nanoTime();
+        final ResourceKey worldKey = startupWorld.key;
+        final LevelStemBridge templateBridge = (LevelStemBridge) (Object) startupWorld.template;
+        final WorldGenSettings defaultGenerationSettings = defaultLevelData.worldGenSettings();
+        final LevelSettings defaultLevelSettings = ((PrimaryLevelDataAccessor) defaultLevelData).accessor$settings();
+
+        final String directoryName = this.getDirectoryName(worldKey);
+        final boolean isVanillaSubLevel = this.isVanillaSubWorld(directoryName);
+        final LevelStorageSource.LevelStorageAccess storageSource;
+
+        if (startupWorld.isDefaultWorld) {
+            storageSource = ((MinecraftServerAccessor) this.server).accessor$storageSource();
+        } else {
+            try {
+                if (isVanillaSubLevel) {
+                    storageSource = LevelStorageSource.createDefault(this.defaultWorldDirectory).createAccess(directoryName);
+                } else {
+                    storageSource = LevelStorageSource.createDefault(this.customWorldsDirectory).createAccess(worldKey.namespace() + File.separator + worldKey.value());
+                }
+            } catch (final IOException e) {
+                throw new RuntimeException(String.format("Failed to create level data for world '%s'!", worldKey), e);
+            }
+        }
+
+        PrimaryLevelData levelData;
+        final boolean isDebugGeneration;
+
+        if (startupWorld.isDefaultWorld) {
+            levelData = defaultLevelData;
+            isDebugGeneration = defaultGenerationSettings.isDebug();
+        } else {
+            // The registry ops cache the registry entries they read and are not thread-safe, so level data is decoded one world at a time
+            synchronized (SpongeWorldManager.LEVEL_DATA_LOCK) {
                 levelData = (PrimaryLevelData) storageSource
                         .getDataTag((DynamicOps<Tag>) BootstrapProperties.worldSettingsAdapter, defaultLevelSettings.getDataPackConfig());
                 if (levelData == null) {
@@ -993,46 +1044,75 @@ public void loadLevel() {
                     isDebugGeneration = levelData.worldGenSettings().isDebug();
                 }
             }
+        }
 
-            ((PrimaryLevelDataBridge) levelData).bridge$populateFromDimension(template);
-
-            final InheritableConfigHandle<WorldConfig> configAdapter = SpongeGameConfigs.createWorld(worldTypeKey.orElse(null), worldKey);
-            ((PrimaryLevelDataBridge) levelData).bridge$configAdapter(configAdapter);
-
-            levelData.setModdedInfo(this.server.getServerModName(), this.server.getModdedStatus().isPresent());
-            final long seed = BiomeManager.obfuscateSeed(levelData.worldGenSettings().seed());
+        startupWorld.storageSource = storageSource;
+        startupWorld.levelData = levelData;
+        startupWorld.isDebugGeneration = isDebugGeneration;
+        startupWorld.configAdapter = SpongeGameConfigs.createWorld(startupWorld.worldTypeKey, worldKey);
+        startupWorld.dataNanos = System.nanoTime() - start;
+    }
 
-            final net.minecraft.resources.ResourceKey<Level> registryKey = SpongeWorldManager.createRegistryKey(worldKey);
-            final ChunkProgressListener chunkStatusListener = ((MinecraftServerAccessor) this.server).accessor$progressListenerFactory().create(11);
-            final List<CustomSpawner> spawners;
-            if (isDefaultWorld) {
-                spawners = ImmutableList.of(new PhantomSpawner(), new PatrolSpawner(), new CatSpawner(), new VillageSiege(), new WanderingTraderSpawner(levelData));
-            } else {
-                spawners = ImmutableList.of();
+    /**
+     * Prepares the start regions of all given worlds at once, so that their
+     * chunks are generated concurrently on the chunk worker threads.
+     *
+     * @param startupWorlds The worlds to prepare the start regions of
+     */
+    private void loadSpawnChunks(final List<StartupWorld> startupWorlds) {
+        final List<StartupWorld> pending = new ArrayList<>();
+        final long start = System.nanoTime();
+        ((MinecraftServerAccessor) this.server).accessor$nextTickTime(Util.getMillis());
+        for (final StartupWorld startupWorld : startupWorlds) {
+            final ServerLevel world = startupWorld.world;
+            if (!startupWorld.isDefaultWorld && !((PrimaryLevelDataBridge) world.getLevelData()).bridge$performsSpawnLogic()) {
+                continue;
             }
+            final Optional<ResourceKey> worldTypeKey = RegistryTypes.WORLD_TYPE.get().findValueKey((WorldType) world.dimensionType());
+            MinecraftServerAccessor.accessor$LOGGER().info("Preparing start region for world '{}' ({})", world.dimension().location(),
+                    worldTypeKey.map(ResourceKey::toString).orElse("inline"));
 
-            final ServerLevel world = new ServerLevel(this.server, ((MinecraftServerAccessor) this.server).accessor$executor(), storageSource, levelData,
-                    registryKey, (DimensionType) worldType, chunkStatusListener, template.generator(), isDebugGeneration, seed, spawners, true);
-            // Ensure that the world border is registered.
-            world.getWorldBorder().applySettings(levelData.getWorldBorder());
+            final ChunkPos chunkPos = new ChunkPos(world.getSharedSpawnPos());
+            ((ServerLevelBridge) world).bridge$getChunkStatusListener().updateSpawnPos(chunkPos);
+            world.getChunkSource().getLightEngine().setTaskPerBatch(500);
+            world.getChunkSource().addRegionTicket(SpongeWorldManager.SPAWN_CHUNKS, chunkPos, 11, world.dimension().location());
+            startupWorld.spawnChunk = chunkPos;
+            pending.add(startupWorld);
+        }
 
-            this.worlds.put(registryKey, world);
+        final List<StartupWorld> generating = new ArrayList<>(pending);
+        while (!generating.isEmpty()) {
+            ((MinecraftServerAccessor) this.server).accessor$nextTickTime(Util.getMillis() + 10L);
+            ((MinecraftServerAccessor) this.server).accessor$waitUntilNextTick();
+            generating.removeIf(startupWorld -> {
+                if (startupWorld.world.getChunkSource().getTickingGenerated() != 441) {
+                    return false;
+                }
+                startupWorld.spawnNanos = System.nanoTime() - start;
+                return true;
+            });
+        }
 
-            this.prepareWorld(world, isDebugGeneration);
+        ((MinecraftServerAccessor) this.server).accessor$nextTickTime(Util.getMillis() + 10L);
+        ((MinecraftServerAccessor) this.server).accessor$waitUntilNextTick();
+
+        for (final StartupWorld startupWorld : pending) {
+            this.updateForcedChunks(startupWorld.world, startupWorld.world.getChunkSource());
         }
 
-        ((MinecraftServerAccessor) this.server).invoker$forceDifficulty();
+        ((MinecraftServerAccessor) this.server).accessor$nextTickTime(Util.getMillis() + 10L);
+        ((MinecraftServerAccessor) this.server).accessor$waitUntilNextTick();
 
-        for (final Map.Entry<net.minecraft.resources.ResourceKey<Level>, ServerLevel> entry : this.worlds.entrySet()) {
-            try {
-                this.postWorldLoad(entry.getValue(), true).get();
-            } catch (final InterruptedException | ExecutionException e) {
-                throw new IllegalStateException(e);
+        for (final StartupWorld startupWorld : pending) {
+            final ServerLevel world = startupWorld.world;
+            ((ServerLevelBridge) world).bridge$getChunkStatusListener().stop();
+            world.getChunkSource().getLightEngine().setTaskPerBatch(5);
+
+            // Sponge Start - Release the chunk ticket if spawn is not set to be kept loaded...
+            if (!((PrimaryLevelDataBridge) world.getLevelData()).bridge$performsSpawnLogic()) {
+                world.getChunkSource().removeRegionTicket(SpongeWorldManager.SPAWN_CHUNKS, startupWorld.spawnChunk, 11, world.dimension().location());
             }
         }
-
-        ((SpongeUserManager) Sponge.server().userManager()).init();
-        ((SpongeServer) SpongeCommon.server()).getPlayerDataManager().load();
     }
 
     private ServerLevel prepareWorld(final ServerLevel world, final boolean isDebugGeneration) {
@@ -1251,6 +1331,35 @@ Path getDataPackFile(final ResourceKey key) {
         return this.getDimensionDataPackDirectory().resolve(key.namespace()).resolve("dimension").resolve(key.value() + ".json");
     }
 
+    /**
+     * The state of a world being loaded during server startup.
+     */
+    private static final class StartupWorld {
+
+        final ResourceKey key;
+        final LevelStem template;
+        final @Nullable ResourceKey worldTypeKey;
+        final boolean isDefaultWorld;
+
+        LevelStorageSource.LevelStorageAccess storageSource;
+        PrimaryLevelData levelData;
+        boolean isDebugGeneration;
+        InheritableConfigHandle<WorldConfig> configAdapter;
+        ServerLevel world;
+        ChunkPos spawnChunk;
+
+        long dataNanos;
+        long initNanos;
+        long spawnNanos;
+
+        StartupWorld(final ResourceKey key, final LevelStem template, final @Nullable ResourceKey worldTypeKey, final boolean isDefaultWorld) {
+            this.key = key;
+            this.template = template;
+            this.worldTypeKey = worldTypeKey;
+            this.isDefaultWorld = isDefaultWorld;
+        }
+    }
+
     private static final class SingleTemplateAccess implements RegistryReadOps.ResourceAccess {
 
         private final net.minecraft.resources.ResourceKey<?> key;
@@ -26,11 +26,9 @@
 
 import com.google.common.collect.Sets;
 import com.google.inject.Singleton;
-import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.util.Tristate;
 import org.spongepowered.api.world.server.ServerLocation;
 import org.spongepowered.api.world.teleport.TeleportHelper;
-import org.spongepowered.api.world.World;
 import org.spongepowered.api.world.server.ServerWorld;
 import org.spongepowered.api.world.teleport.TeleportHelperFilter;
 import org.spongepowered.api.world.teleport.TeleportHelperFilters;
@@ -40,13 +38,10 @@
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Stream;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.border.WorldBorder;
 
 @Singleton
@@ -71,7 +66,7 @@ public Optional<ServerLocation> findSafeLocation(ServerLocation location, int he
         return result.map(vector3i -> ServerLocation.of(world, vector3i.toDouble().add(0.5, 0, 0.5)));
     }
 
-    private Stream<Vector3i> getBlockLocations(ServerLocation worldLocation, int height, int width) {
+    private TeleportCandidateIterator getBlockLocations(ServerLocation worldLocation, int height, int width) {
         // We don't want to warp outside of the world border, so we want to check that we're within it.
         final WorldBorder.Settings worldBorder = (WorldBorder.Settings) worldLocation.world().properties().worldBorder();
         final double radius = worldBorder.getSize() / 2.0D;
@@ -96,39 +91,27 @@ private Stream<Vector3i> getBlockLocations(ServerLocation worldLocation, int hei
         int minZ = GenericMath.clamp(vectorLocation.z() - width, worldBorderMinZ, worldBorderMaxZ);
         int maxZ = GenericMath.clamp(vectorLocation.z() + width, worldBorderMinZ, worldBorderMaxZ);
 
-        // We now iterate over all possible x, y and z positions to get all possible vectors.
-        List<Vector3i> vectors = new ArrayList<>();
-        for (int y = minY; y <= maxY; y++) {
-            for (int x = minX; x <= maxX; x++) {
-                for (int z = minZ; z <= maxZ; z++) {
-                    vectors.add(new Vector3i(x, y, z));
-                }
-            }
-        }
-
-        Comparator<Vector3i> c = Comparator.comparingInt(vectorLocation::distanceSquared);
-
-        // The compiler seems to need this to be a new line.
-        // We check to see what the y location is, preferring changes in Y over X and Z, and higher over lower locations.
-        c = c.thenComparing(x -> -Math.abs(vectorLocation.y() - x.y())).thenComparing(x -> -x.y());
-
-        // Sort them according to the distance to the provided worldLocation.
-        return vectors.stream().sorted(c);
+        // Positions are generated on demand, closest first, preferring changes in Y over X and Z, and higher over
+        // lower locations. Most searches succeed close to the centre, so we never build the whole cuboid.
+        return new TeleportCandidateIterator(vectorLocation, minX, maxX, minY, maxY, minZ, maxZ);
     }
 
-    private Optional<Vector3i> getSafeLocation(ServerWorld world, Stream<Vector3i> positionsToCheck, int floorDistanceCheck,
+    private Optional<Vector3i> getSafeLocation(ServerWorld world, TeleportCandidateIterator positionsToCheck, int floorDistanceCheck,
             Collection<TeleportHelperFilter> filters) {
         // We cache the various block lookup results so we don't check a block twice.
-        final Map<Vector3i, BlockData> blockCache = new HashMap<>();
+        final TeleportColumnCache blockCache = new TeleportColumnCache((ServerLevel) world, 0, world.max().y() + 1);
+        final List<TeleportHelperFilter> undefinedResults = new ArrayList<>();
 
-        return positionsToCheck.filter(currentTarget -> {
-            List<TeleportHelperFilter> undefinedResults = new ArrayList<>();
+        candidates:
+        while (positionsToCheck.hasNext()) {
+            final Vector3i currentTarget = positionsToCheck.next();
+            undefinedResults.clear();
             for (TeleportHelperFilter filter : filters) {
                 // If any return Tristate.FALSE, we're not safe.
                 Tristate isValid = filter.isValidLocation(world, currentTarget);
                 if (isValid == Tristate.FALSE) {
                     // Completely fails the AND check at this point.
-                    return false;
+                    continue candidates;
                 }
 
                 if (isValid == Tristate.UNDEFINED) {
@@ -138,79 +121,57 @@ private Optional<Vector3i> getSafeLocation(ServerWorld world, Stream<Vector3i> p
 
             // If we don't have any undefined results, then we return true here.
             if (undefinedResults.isEmpty()) {
-                return true;
+                return Optional.of(currentTarget);
             }
 
-            // Get the block, add it to the cache.
-            BlockData block = this.getBlockData(currentTarget, world, blockCache, undefinedResults);
+            final int x = currentTarget.x();
+            final int y = currentTarget.y();
+            final int z = currentTarget.z();
 
-            // If the block isn't safe, no point in continuing on this run.
-            if (block.isSafeBody) {
+            // Columns topped with something that is neither floor nor passable, such as lava, can't be stood on.
+            if (floorDistanceCheck > 0 && blockCache.isUnsafeAboveSurface(x, y, z, undefinedResults)) {
+                continue;
+            }
 
-                // Check the block ABOVE is safe for the body, and the two BELOW are safe too.
-                if (this.getBlockData(
-                    currentTarget.add(0, 1, 0), world, blockCache, undefinedResults).isSafeBody
-                        && (floorDistanceCheck <= 0 || this.isFloorSafe(currentTarget, world, blockCache, undefinedResults, floorDistanceCheck))) {
+            // If the block isn't safe, no point in continuing on this run.
+            // Check the block ABOVE is safe for the body, and the two BELOW are safe too.
+            if (SpongeTeleportHelper.isSafeBody(blockCache.get(x, y, z, undefinedResults))
+                    && SpongeTeleportHelper.isSafeBody(blockCache.get(x, y + 1, z, undefinedResults))
+                    && (floorDistanceCheck <= 0 || this.isFloorSafe(x, y, z, blockCache, undefinedResults, floorDistanceCheck))) {
 
-                    // This position should be safe. Get the center of the block to spawn into.
-                    return true;
-                }
+                // This position should be safe. Get the center of the block to spawn into.
+                return Optional.of(currentTarget);
             }
-
-            return false;
-        }).findFirst();
+        }
+        return Optional.empty();
     }
 
-    private boolean isFloorSafe(Vector3i currentTarget, World world, Map<Vector3i, BlockData> blockCache, Collection<TeleportHelperFilter> filters,
+    private boolean isFloorSafe(int x, int y, int z, TeleportColumnCache blockCache, Collection<TeleportHelperFilter> filters,
             int floorDistanceCheck) {
         for (int i = 1; i < floorDistanceCheck; ++i) {
-            BlockData data = this.getBlockData(currentTarget.sub(0, i, 0), world, blockCache, filters);
+            byte data = blockCache.get(x, y - i, z, filters);
 
             // If it's a safe floor, we can just say yes now.
-            if (data.isSafeFloor) {
+            if (SpongeTeleportHelper.isSafeFloor(data)) {
                 return true;
             }
 
             // If it's not safe for the body, then we don't want to go through it anyway.
-            if (!data.isSafeBody) {
+            if (!SpongeTeleportHelper.isSafeBody(data)) {
                 return false;
             }
         }
 
         // Check the next block down, if it's a floor, then we're good to go, otherwise we'd fall too far for our liking.
-        return this.getBlockData(currentTarget.sub(0, floorDistanceCheck, 0), world, blockCache, filters).isSafeFloor;
+        return SpongeTeleportHelper.isSafeFloor(blockCache.get(x, y - floorDistanceCheck, z, filters));
     }
 
-    private BlockData getBlockData(Vector3i vector3i, World world, Map<Vector3i, BlockData> cache, Collection<TeleportHelperFilter> filters) {
-        if (vector3i.y() < 0) {
-            // Anything below this isn't safe, no point going further.
-            return new BlockData();
-        }
-
-        if (cache.containsKey(vector3i)) {
-            return cache.get(vector3i);
-        }
-
-        BlockData data = new BlockData(world.block(vector3i), filters);
-        cache.put(vector3i, data);
-        return data;
+    private static boolean isSafeFloor(byte data) {
+        return (data & TeleportColumnCache.SAFE_FLOOR) != 0;
     }
 
-    private class BlockData {
-
-        private final boolean isSafeFloor;
-        private final boolean isSafeBody;
-
-        private BlockData() {
-            this.isSafeFloor = false;
-            this.isSafeBody = false;
-        }
-
-        private BlockData(BlockState blockState, Collection<TeleportHelperFilter> filters) {
-            this.isSafeFloor = filters.stream().allMatch(x -> x.isSafeFloorMaterial(blockState));
-            this.isSafeBody = filters.stream().allMatch(x -> x.isSafeBodyMaterial(blockState));
-        }
-
+    private static boolean isSafeBody(byte data) {
+        return (data & TeleportColumnCache.SAFE_BODY) != 0;
     }
 
 }
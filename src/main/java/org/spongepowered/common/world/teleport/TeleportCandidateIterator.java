@@ -0,0 +1,126 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.teleport;
+
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Lazily yields the positions of a cuboid in expanding distance shells
+ * around its centre.
+ *
+ * <p>The order matches sorting the whole cuboid by squared distance, then by
+ * larger vertical offset, then by higher y, then by x and z. Every (x, y)
+ * line of the cuboid keeps a cursor walking outwards along z, whose distance
+ * only grows, so a heap of those cursors produces the global order while
+ * only ever holding one pending position per line.</p>
+ */
+final class TeleportCandidateIterator implements Iterator<Vector3i> {
+
+    private static final Comparator<Cursor> ORDER = Comparator.<Cursor>comparingInt(c -> c.distanceSquared)
+        .thenComparingInt(c -> -Math.abs(c.dy))
+        .thenComparingInt(c -> -c.dy)
+        .thenComparingInt(c -> c.dx)
+        .thenComparingInt(c -> c.dz);
+
+    private final Vector3i centre;
+    private final PriorityQueue<Cursor> cursors;
+
+    TeleportCandidateIterator(final Vector3i centre, final int minX, final int maxX, final int minY, final int maxY, final int minZ,
+            final int maxZ) {
+        this.centre = centre;
+        final int lines = Math.max(0, maxX - minX + 1) * Math.max(0, maxY - minY + 1);
+        this.cursors = new PriorityQueue<>(Math.max(1, lines), TeleportCandidateIterator.ORDER);
+        if (minZ > maxZ) {
+            return;
+        }
+        for (int y = minY; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
+                final Cursor cursor = new Cursor(x - centre.x(), y - centre.y(), minZ - centre.z(), maxZ - centre.z());
+                cursor.advance();
+                this.cursors.add(cursor);
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !this.cursors.isEmpty();
+    }
+
+    @Override
+    public Vector3i next() {
+        final Cursor cursor = this.cursors.poll();
+        if (cursor == null) {
+            throw new NoSuchElementException();
+        }
+        final Vector3i next = this.centre.add(cursor.dx, cursor.dy, cursor.dz);
+        if (cursor.advance()) {
+            this.cursors.add(cursor);
+        }
+        return next;
+    }
+
+    private static final class Cursor {
+
+        final int dx;
+        final int dy;
+        private final int minDz;
+        private final int maxDz;
+        // Next unvisited offsets on the negative and non-negative side of the centre
+        private int below;
+        private int above;
+
+        int dz;
+        int distanceSquared;
+
+        Cursor(final int dx, final int dy, final int minDz, final int maxDz) {
+            this.dx = dx;
+            this.dy = dy;
+            this.minDz = minDz;
+            this.maxDz = maxDz;
+            this.below = Math.min(-1, maxDz);
+            this.above = Math.max(0, minDz);
+        }
+
+        boolean advance() {
+            final boolean hasBelow = this.below >= this.minDz;
+            final boolean hasAbove = this.above <= this.maxDz;
+            if (hasBelow && (!hasAbove || -this.below <= this.above)) {
+                this.dz = this.below--;
+            } else if (hasAbove) {
+                this.dz = this.above++;
+            } else {
+                return false;
+            }
+            this.distanceSquared = this.dx * this.dx + this.dy * this.dy + this.dz * this.dz;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.teleport;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.levelgen.Heightmap;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.world.teleport.TeleportHelperFilter;
+
+import java.util.Collection;
+
+/**
+ * Caches the floor and body safety of blocks for a single safe location
+ * search, one column per (x, z) pair.
+ *
+ * <p>Each column reads the {@link Heightmap.Types#WORLD_SURFACE} height once.
+ * Everything at or above it is air, so those blocks share a single result
+ * and are never looked up.</p>
+ */
+final class TeleportColumnCache {
+
+    static final byte SAFE_FLOOR = 1;
+    static final byte SAFE_BODY = 2;
+    private static final byte KNOWN = 4;
+
+    private final ServerLevel level;
+    private final int minY;
+    private final int height;
+    private final Long2ObjectMap<Column> columns = new Long2ObjectOpenHashMap<>();
+    private final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+    private byte air;
+
+    /**
+     * @param level The level being searched
+     * @param minY The lowest y that will be queried
+     * @param maxY The highest y that will be queried
+     */
+    TeleportColumnCache(final ServerLevel level, final int minY, final int maxY) {
+        this.level = level;
+        this.minY = minY;
+        this.height = Math.max(0, maxY - minY + 1);
+    }
+
+    /**
+     * Gets the safety flags of a block, evaluating the filters the first
+     * time each block is seen.
+     */
+    byte get(final int x, final int y, final int z, final Collection<TeleportHelperFilter> filters) {
+        if (y < 0) {
+            // Anything below this isn't safe, no point going further.
+            return TeleportColumnCache.KNOWN;
+        }
+        final Column column = this.column(x, z);
+        if (y >= column.surface) {
+            return this.air(filters);
+        }
+        final int index = y - this.minY;
+        if (index < 0 || index >= this.height) {
+            return this.evaluate(x, y, z, filters);
+        }
+        byte flags = column.flags[index];
+        if (flags == 0) {
+            flags = this.evaluate(x, y, z, filters);
+            column.flags[index] = flags;
+        }
+        return flags;
+    }
+
+    /**
+     * Gets whether every position at or above the surface of the column is
+     * known to lack a safe floor, such as when the surface is lava or water
+     * and air is not a floor.
+     */
+    boolean isUnsafeAboveSurface(final int x, final int y, final int z, final Collection<TeleportHelperFilter> filters) {
+        final Column column = this.column(x, z);
+        if (y < column.surface) {
+            return false;
+        }
+        if ((this.air(filters) & TeleportColumnCache.SAFE_FLOOR) != 0) {
+            return false;
+        }
+        final byte surface = this.get(x, column.surface - 1, z, filters);
+        return (surface & (TeleportColumnCache.SAFE_FLOOR | TeleportColumnCache.SAFE_BODY)) == 0;
+    }
+
+    private Column column(final int x, final int z) {
+        final long key = ChunkPos.asLong(x, z);
+        Column column = this.columns.get(key);
+        if (column == null) {
+            column = new Column(this.level.getHeight(Heightmap.Types.WORLD_SURFACE, x, z), this.height);
+            this.columns.put(key, column);
+        }
+        return column;
+    }
+
+    private byte air(final Collection<TeleportHelperFilter> filters) {
+        if (this.air == 0) {
+            this.air = TeleportColumnCache.flags((BlockState) Blocks.AIR.defaultBlockState(), filters);
+        }
+        return this.air;
+    }
+
+    private byte evaluate(final int x, final int y, final int z, final Collection<TeleportHelperFilter> filters) {
+        return TeleportColumnCache.flags((BlockState) this.level.getBlockState(this.pos.set(x, y, z)), filters);
+    }
+
+    private static byte flags(final BlockState state, final Collection<TeleportHelperFilter> filters) {
+        byte flags = TeleportColumnCache.KNOWN;
+        if (filters.stream().allMatch(x -> x.isSafeFloorMaterial(state))) {
+            flags |= TeleportColumnCache.SAFE_FLOOR;
+        }
+        if (filters.stream().allMatch(x -> x.isSafeBodyMaterial(state))) {
+            flags |= TeleportColumnCache.SAFE_BODY;
+        }
+        return flags;
+    }
+
+    private static final class Column {
+
+        final int surface;
+        final byte[] flags;
+
+        Column(final int surface, final int height) {
+            this.surface = surface;
+            this.flags = new byte[height];
+        }
+    }
+}
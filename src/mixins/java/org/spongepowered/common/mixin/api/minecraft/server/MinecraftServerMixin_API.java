@@ -34,8 +34,10 @@
 import net.kyori.adventure.identity.Identity;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import net.kyori.adventure.title.Title;
 import net.minecraft.commands.Commands;
 import net.minecraft.core.RegistryAccess;
+import net.minecraft.network.protocol.game.ClientboundSetTitlesPacket;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.ServerResources;
 import net.minecraft.server.ServerScoreboard;
@@ -82,6 +84,7 @@
 import org.spongepowered.common.command.manager.SpongeCommandManager;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.map.SpongeMapStorage;
+import org.spongepowered.common.network.packet.broadcast.PacketBroadcaster;
 import org.spongepowered.common.profile.SpongeGameProfileManager;
 import org.spongepowered.common.registry.RegistryHolderLogic;
 import org.spongepowered.common.registry.SpongeRegistryHolder;
@@ -440,6 +443,23 @@ public void sendMessage(final Identity identity, final Component message, final
         this.shadow$getPlayerList().broadcastMessage(SpongeAdventure.asVanilla(message), SpongeAdventure.asVanilla(type), identity.uuid());
     }
 
+    @Override
+    public void sendActionBar(final Component message) {
+        PacketBroadcaster.broadcast(this.shadow$getPlayerList().getPlayers(),
+                new ClientboundSetTitlesPacket(ClientboundSetTitlesPacket.Type.ACTIONBAR, SpongeAdventure.asVanilla(Objects.requireNonNull(message, "message"))));
+    }
+
+    @Override
+    public void showTitle(final Title title) {
+        final List<net.minecraft.server.level.ServerPlayer> players = this.shadow$getPlayerList().getPlayers();
+        final Title.Times times = Objects.requireNonNull(title, "title").times();
+        if (times != null) {
+            PacketBroadcaster.broadcast(players, SpongeAdventure.asVanilla(times));
+        }
+        PacketBroadcaster.broadcast(players, new ClientboundSetTitlesPacket(ClientboundSetTitlesPacket.Type.SUBTITLE, SpongeAdventure.asVanilla(title.subtitle())));
+        PacketBroadcaster.broadcast(players, new ClientboundSetTitlesPacket(ClientboundSetTitlesPacket.Type.TITLE, SpongeAdventure.asVanilla(title.title())));
+    }
+
     @Override
     public ServiceProvider.ServerScoped serviceProvider() {
         return ((MinecraftServerBridge) this).bridge$getServiceProvider();
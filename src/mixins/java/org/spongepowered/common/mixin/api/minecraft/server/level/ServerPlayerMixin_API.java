@@ -482,7 +482,7 @@ public void showTitle(final Title title) {
         }
         final Title.Times times = Objects.requireNonNull(title, "title").times();
         if (times != null) {
-            this.connection.send(new ClientboundSetTitlesPacket(this.api$durationToTicks(times.fadeIn()), this.api$durationToTicks(times.stay()), this.api$durationToTicks(times.fadeOut())));
+            this.connection.send(SpongeAdventure.asVanilla(times));
         }
         this.connection.send(new ClientboundSetTitlesPacket(ClientboundSetTitlesPacket.Type.SUBTITLE, SpongeAdventure.asVanilla(title.subtitle())));
         this.connection.send(new ClientboundSetTitlesPacket(ClientboundSetTitlesPacket.Type.TITLE, SpongeAdventure.asVanilla(title.title())));
@@ -500,7 +500,7 @@ public <T> void sendTitlePart(final @NotNull TitlePart<T> part, final @NotNull T
             this.connection.send(new ClientboundSetTitlesPacket(ClientboundSetTitlesPacket.Type.SUBTITLE, SpongeAdventure.asVanilla((Component) value)));
         } else if (part == TitlePart.TIMES) {
             final Title.Times times = (Title.Times) value;
-            this.connection.send(new ClientboundSetTitlesPacket(this.api$durationToTicks(times.fadeIn()), this.api$durationToTicks(times.stay()), this.api$durationToTicks(times.fadeOut())));
+            this.connection.send(SpongeAdventure.asVanilla(times));
         } else {
             throw new IllegalArgumentException("Unknown TitlePart '" + part + "'");
         }
@@ -602,8 +602,4 @@ public void openBook(@NonNull final Book book) {
     public @NonNull Locale locale() {
         return ((ServerPlayerBridge) this).bridge$getLanguage();
     }
-
-    private int api$durationToTicks(final Duration duration) {
-        return (int) (duration.toMillis() / 50L);
-    }
 }
@@ -84,8 +84,14 @@ public MapItemSavedDataMixin(final String name) {
 
     @Override
     public void bridge$updateWholeMap() {
-        this.shadow$setDirty(0,0);
-        this.shadow$setDirty(Constants.Map.MAP_MAX_INDEX, Constants.Map.MAP_MAX_INDEX);
+        this.bridge$markRegionDirty(0, 0, Constants.Map.MAP_MAX_INDEX, Constants.Map.MAP_MAX_INDEX);
+    }
+
+    @Override
+    public void bridge$markRegionDirty(final int minX, final int minY, final int maxX, final int maxY) {
+        // Each holder grows its dirty rectangle to contain both corners
+        this.shadow$setDirty(minX, minY);
+        this.shadow$setDirty(maxX, maxY);
     }
 
     @SuppressWarnings("SuspiciousMethodCalls")
@@ -36,8 +36,11 @@
 import net.minecraft.commands.Commands;
 import net.minecraft.commands.SharedSuggestionProvider;
 import net.minecraft.commands.synchronization.SuggestionProviders;
+import net.minecraft.network.protocol.Packet;
 import net.minecraft.server.commands.AdvancementCommands;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.server.network.ServerGamePacketListenerImpl;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.command.CommandCause;
 import org.spongepowered.api.event.CauseStackManager;
 import org.spongepowered.api.event.EventContextKeys;
@@ -58,6 +61,7 @@
 import org.spongepowered.common.command.brigadier.tree.SpongeNode;
 import org.spongepowered.common.command.brigadier.tree.SuggestionArgumentNode;
 import org.spongepowered.common.command.manager.SpongeCommandManager;
+import org.spongepowered.common.command.manager.SpongeCommandTreeCache;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.launch.Launch;
 import org.spongepowered.common.util.CommandUtil;
@@ -87,6 +91,7 @@ public abstract class CommandsMixin implements CommandsBridge {
     private final WeakHashMap<ServerPlayer, Map<CommandNode<CommandSourceStack>, List<CommandNode<SharedSuggestionProvider>>>> impl$playerNodeCache =
             new WeakHashMap<>();
     private SpongeCommandManager impl$commandManager;
+    private SpongeCommandTreeCache.@Nullable Fingerprint impl$pendingFingerprint;
 
     // We prepare our own dispatcher and commands manager, to redirect registrations to our system
     @Redirect(method = "<init>", at = @At(
@@ -315,6 +320,36 @@ public abstract class CommandsMixin implements CommandsBridge {
         }
     }
 
+    @Inject(method = "sendCommands", at = @At("HEAD"), cancellable = true)
+    private void impl$sendCachedCommandTree(final ServerPlayer player, final CallbackInfo ci) {
+        final SpongeCommandTreeCache cache = this.impl$commandManager.getCommandTreeCache();
+        final SpongeCommandTreeCache.Fingerprint fingerprint;
+        try (final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame()) {
+            frame.pushCause(player);
+            frame.addContext(EventContextKeys.SUBJECT, (Subject) player);
+            final CommandCause cause = ((CommandSourceStackBridge) player.createCommandSourceStack()).bridge$withCurrentCause();
+            fingerprint = cache.fingerprint((CommandSourceStack) cause);
+        }
+        final Packet<?> cached = cache.get(fingerprint);
+        if (cached != null) {
+            player.connection.send(cached);
+            ci.cancel();
+            return;
+        }
+        this.impl$pendingFingerprint = fingerprint;
+    }
+
+    @Redirect(method = "sendCommands", at = @At(value = "INVOKE", target = "Lnet/minecraft/server/network/ServerGamePacketListenerImpl;send(Lnet/minecraft/network/protocol/Packet;)V"))
+    private void impl$storeEncodedCommandTree(final ServerGamePacketListenerImpl connection, final Packet<?> packet) {
+        final SpongeCommandTreeCache.@Nullable Fingerprint fingerprint = this.impl$pendingFingerprint;
+        this.impl$pendingFingerprint = null;
+        if (fingerprint == null) {
+            connection.send(packet);
+            return;
+        }
+        connection.send(this.impl$commandManager.getCommandTreeCache().store(fingerprint, packet));
+    }
+
     @SuppressWarnings("unchecked")
     @Redirect(method = "fillUsableCommands",
             at = @At(value = "INVOKE", target = "Lcom/mojang/brigadier/builder/ArgumentBuilder;build()Lcom/mojang/brigadier/tree/CommandNode;", remap = false))
@@ -27,10 +27,12 @@
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.Multimap;
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.saveddata.maps.MapItemSavedData;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.data.DataHolder;
 import org.spongepowered.api.data.DataManipulator;
 import org.spongepowered.api.data.DataProvider;
@@ -57,6 +59,8 @@ public abstract class SpongeDataHolderMixin implements SpongeDataHolderBridge {
 
     private DataManipulator.Mutable impl$manipulator;
     private Multimap<DataQuery, DataView> impl$failedData;
+    private boolean impl$dataSerialized;
+    private @Nullable CompoundTag impl$serializedCompound;
 
     @Override
     public DataManipulator.Mutable bridge$getManipulator() {
@@ -83,12 +87,14 @@ public abstract class SpongeDataHolderMixin implements SpongeDataHolderBridge {
         } else {
             this.impl$manipulator.copyFrom(manipulator);
         }
+        this.bridge$markDataDirty();
     }
 
     @Override
     public void bridge$clear() {
         this.impl$manipulator = null;
         this.impl$failedData = HashMultimap.create();
+        this.bridge$markDataDirty();
     }
 
     @Override
@@ -102,6 +108,7 @@ public abstract class SpongeDataHolderMixin implements SpongeDataHolderBridge {
     @Override
     public void bridge$invalidateFailedData() {
         this.impl$failedData = null;
+        this.bridge$markDataDirty();
     }
 
     @Override
@@ -110,5 +117,24 @@ public abstract class SpongeDataHolderMixin implements SpongeDataHolderBridge {
             this.impl$failedData  = HashMultimap.create();
         }
         this.impl$failedData.put(nameSpace, keyedData);
+        this.bridge$markDataDirty();
+    }
+
+    @Override
+    public void bridge$markDataDirty() {
+        this.impl$dataSerialized = false;
+        this.impl$serializedCompound = null;
+    }
+
+    @Override
+    public boolean bridge$isDataSerializedTo(final @Nullable CompoundTag compound) {
+        // The compound is compared by identity, a holder which got a new compound has to write its data again
+        return this.impl$dataSerialized && this.impl$serializedCompound == compound;
+    }
+
+    @Override
+    public void bridge$markDataSerializedTo(final @Nullable CompoundTag compound) {
+        this.impl$dataSerialized = true;
+        this.impl$serializedCompound = compound;
     }
 }
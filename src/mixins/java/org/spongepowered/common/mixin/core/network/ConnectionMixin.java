@@ -34,9 +34,12 @@
 import org.spongepowered.api.network.EngineConnection;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.common.SpongeMinecraftVersion;
 import org.spongepowered.common.bridge.network.ConnectionBridge;
 import org.spongepowered.common.entity.player.ClientType;
+import org.spongepowered.common.network.packet.broadcast.EncodedPacket;
 import org.spongepowered.common.network.channel.TransactionStore;
 import org.spongepowered.common.util.Constants;
 
@@ -48,6 +51,7 @@
 
 import javax.annotation.Nullable;
 import net.minecraft.network.Connection;
+import net.minecraft.network.ConnectionProtocol;
 import net.minecraft.network.PacketListener;
 import net.minecraft.network.protocol.Packet;
 
@@ -67,6 +71,14 @@ public abstract class ConnectionMixin extends SimpleChannelInboundHandler<Packet
 
     private ClientType impl$clientType = ClientType.VANILLA;
 
+    @Redirect(method = "sendPacket", at = @At(value = "INVOKE", target = "Lnet/minecraft/network/ConnectionProtocol;getProtocolForPacket(Lnet/minecraft/network/protocol/Packet;)Lnet/minecraft/network/ConnectionProtocol;"))
+    private ConnectionProtocol impl$resolveEncodedPacketProtocol(final Packet<?> packet) {
+        if (packet instanceof EncodedPacket) {
+            return ConnectionProtocol.PLAY;
+        }
+        return ConnectionProtocol.getProtocolForPacket(packet);
+    }
+
     @Override
     public TransactionStore bridge$getTransactionStore() {
         return this.impl$transactionStore;
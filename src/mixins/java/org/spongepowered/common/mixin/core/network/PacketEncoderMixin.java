@@ -37,10 +37,22 @@
 import org.spongepowered.asm.mixin.injection.callback.LocalCapture;
 import org.spongepowered.common.adventure.SpongeAdventure;
 import org.spongepowered.common.bridge.network.FriendlyByteBufBridge;
+import org.spongepowered.common.network.packet.broadcast.EncodedPacket;
 
 @Mixin(PacketEncoder.class)
 public class PacketEncoderMixin {
 
+    @Inject(method = "encode", at = @At("HEAD"), cancellable = true)
+    private void impl$writePreEncodedPacket(final ChannelHandlerContext ctx, final Packet<?> pkt, final ByteBuf orig, final CallbackInfo ci) {
+        if (pkt instanceof EncodedPacket) {
+            final EncodedPacket encoded = (EncodedPacket) pkt;
+            final FriendlyByteBuf buffer = new FriendlyByteBuf(orig);
+            buffer.writeVarInt(encoded.id());
+            encoded.writePayload(buffer);
+            ci.cancel();
+        }
+    }
+
     @Inject(method = "encode", at = @At(value = "INVOKE", target = "Lnet/minecraft/network/FriendlyByteBuf;writeVarInt(I)Lnet/minecraft/network/FriendlyByteBuf;"), locals = LocalCapture.CAPTURE_FAILHARD)
     private void applyLocaleToBuffer(final ChannelHandlerContext ctx, final Packet<?> pkt, final ByteBuf orig, final CallbackInfo ci,
             final ConnectionProtocol unused$proto, final Integer unused$id, final FriendlyByteBuf buffer) {
@@ -29,7 +29,9 @@
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.ServerScoreboard;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.server.packs.repository.PackRepository;
 import net.minecraft.server.players.GameProfileCache;
 import net.minecraft.server.players.PlayerList;
@@ -69,7 +71,10 @@
 import org.spongepowered.common.bridge.commands.CommandSourceBridge;
 import org.spongepowered.common.bridge.commands.CommandSourceProviderBridge;
 import org.spongepowered.common.bridge.server.MinecraftServerBridge;
+import org.spongepowered.common.bridge.server.ServerScoreboardBridge;
+import org.spongepowered.common.bridge.server.level.ServerChunkCacheBridge;
 import org.spongepowered.common.bridge.server.level.ServerLevelBridge;
+import org.spongepowered.common.bridge.server.level.ServerPlayerBridge;
 import org.spongepowered.common.bridge.server.players.GameProfileCacheBridge;
 import org.spongepowered.common.bridge.world.level.storage.PrimaryLevelDataBridge;
 import org.spongepowered.common.config.inheritable.InheritableConfigHandle;
@@ -77,7 +82,10 @@
 import org.spongepowered.common.datapack.SpongeDataPackManager;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.resourcepack.SpongeResourcePack;
+import org.spongepowered.common.scoreboard.SpongeScoreboardChangeBuffer;
 import org.spongepowered.common.service.server.SpongeServerScopedServiceProvider;
+import org.spongepowered.common.world.level.SpongeExplosionCache;
+import org.spongepowered.common.world.server.SpongeIncrementalChunkSaver;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
@@ -106,6 +114,7 @@ public abstract class MinecraftServerMixin implements SpongeServer, MinecraftSer
     @Shadow public abstract boolean shadow$isDedicatedServer();
     @Shadow public abstract boolean shadow$isRunning();
     @Shadow public abstract PlayerList shadow$getPlayerList();
+    @Shadow public abstract ServerScoreboard shadow$getScoreboard();
     @Shadow public abstract PackRepository shadow$getPackRepository();
     @Shadow protected abstract void shadow$detectBundledResources();
 
@@ -155,6 +164,16 @@ public Subject subject() {
         this.scheduler().tick();
     }
 
+    @Inject(method = "tickServer", at = @At(value = "RETURN"))
+    private void impl$onServerTickEnd(final CallbackInfo ci) {
+        ((ServerScoreboardBridge) this.shadow$getScoreboard()).bridge$flushChanges();
+        for (final ServerPlayer player : this.shadow$getPlayerList().getPlayers()) {
+            ((ServerScoreboardBridge) ((ServerPlayerBridge) player).bridge$getScoreboard()).bridge$flushChanges();
+        }
+        SpongeScoreboardChangeBuffer.endTick();
+        SpongeExplosionCache.clear();
+    }
+
     @Override
     public CommandSourceStack bridge$getCommandSource(final Cause cause) {
         return this.shadow$createCommandSourceStack();
@@ -252,6 +271,7 @@ public boolean saveAllChunks(final boolean suppressLog, final boolean flush, fin
                 continue;
             }
 
+            boolean incremental = false;
             // Only run auto-save skipping if the server is still running and the save is not forced
             if (this.bridge$performAutosaveChecks() && !isForced) {
                 final int autoSaveInterval = adapter.get().world.autoSaveInterval;
@@ -261,6 +281,17 @@ public boolean saveAllChunks(final boolean suppressLog, final boolean flush, fin
                     continue;
                 }
 
+                // Save chunks queued by a previous incremental auto-save
+                incremental = adapter.get().world.incrementalAutoSave;
+                if (incremental) {
+                    final SpongeIncrementalChunkSaver saver = ((ServerChunkCacheBridge) world.getChunkSource()).bridge$incrementalSaver();
+                    if (world.noSave) {
+                        saver.cancel();
+                    } else {
+                        saver.tick(adapter.get().world.autoSaveMaxChunksPerTick, (long) (adapter.get().world.autoSaveMaxMillisPerTick * 1.0E6D));
+                    }
+                }
+
                 // Now check the interval vs the tick counter and skip it
                 if (this.tickCount % autoSaveInterval != 0) {
                     continue;
@@ -272,7 +303,14 @@ public boolean saveAllChunks(final boolean suppressLog, final boolean flush, fin
                 LOGGER.info("Saving chunks for level '{}'/{}", world, world.dimension().location());
             }
 
-            world.save((ProgressListener)null, flush, world.noSave && !isForced);
+            // Sponge start - only queue the chunks when saving incrementally, they are saved over the next ticks
+            ((ServerChunkCacheBridge) world.getChunkSource()).bridge$setDeferChunkSaving(incremental);
+            try {
+                world.save((ProgressListener)null, flush, world.noSave && !isForced);
+            } finally {
+                ((ServerChunkCacheBridge) world.getChunkSource()).bridge$setDeferChunkSaving(false);
+            }
+            // Sponge end
             var0 = true;
         }
 
@@ -61,6 +61,7 @@
 import org.spongepowered.common.scoreboard.SpongeDisplaySlot;
 import org.spongepowered.common.scoreboard.SpongeObjective;
 import org.spongepowered.common.scoreboard.SpongeScore;
+import org.spongepowered.common.scoreboard.SpongeScoreboardChangeBuffer;
 import org.spongepowered.common.util.Constants;
 
 import java.util.ArrayList;
@@ -81,6 +82,7 @@ public abstract class ServerScoreboardMixin extends Scoreboard implements Server
     @Shadow protected abstract void shadow$setDirty();
 
     private final List<ServerPlayer> impl$players = new ArrayList<>();
+    private final SpongeScoreboardChangeBuffer impl$changeBuffer = new SpongeScoreboardChangeBuffer(this::impl$sendImmediately);
 
     // Update objective in display slot
 
@@ -201,6 +203,15 @@ public abstract class ServerScoreboardMixin extends Scoreboard implements Server
 
     @Override
     public void bridge$sendToPlayers(final Packet<?> packet) {
+        this.impl$changeBuffer.submit(packet);
+    }
+
+    @Override
+    public void bridge$flushChanges() {
+        this.impl$changeBuffer.flush();
+    }
+
+    private void impl$sendImmediately(final Packet<?> packet) {
         for (final ServerPlayer player: this.impl$players) {
             player.connection.send(packet);
         }
@@ -208,6 +219,7 @@ public abstract class ServerScoreboardMixin extends Scoreboard implements Server
 
     @Override
     public void bridge$addPlayer(final ServerPlayer player, final boolean sendPackets) {
+        this.impl$changeBuffer.flush();
         this.impl$players.add(player);
         if (sendPackets) {
             for (final PlayerTeam team : this.getPlayerTeams()) {
@@ -235,6 +247,7 @@ public abstract class ServerScoreboardMixin extends Scoreboard implements Server
 
     @Override
     public void bridge$removePlayer(final ServerPlayer player, final boolean sendPackets) {
+        this.impl$changeBuffer.flush();
         this.impl$players.remove(player);
         if (sendPackets) {
             this.impl$removeScoreboard(player);
@@ -382,6 +395,11 @@ public void setDisplayObjective(final int slot, @Nullable final net.minecraft.wo
         this.bridge$sendToPlayers(packet);
     }
 
+    @Inject(method = {"startTrackingObjective", "stopTrackingObjective"}, at = @At("HEAD"))
+    private void impl$flushBeforeTrackingChange(final net.minecraft.world.scores.Objective objective, final CallbackInfo ci) {
+        this.impl$changeBuffer.flush();
+    }
+
     @Redirect(method = "startTrackingObjective",
         at = @At(value = "INVOKE", target = "Ljava/util/List;iterator()Ljava/util/Iterator;", ordinal = 0, remap = false))
     private Iterator impl$useOurScoreboardForPlayers(final List list) {
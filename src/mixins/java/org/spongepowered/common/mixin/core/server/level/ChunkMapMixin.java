@@ -47,6 +47,7 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.Slice;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.accessor.server.level.ServerChunkCacheAccessor;
@@ -60,6 +61,8 @@
 import org.spongepowered.common.util.DirectionUtil;
 import org.spongepowered.math.vector.Vector3i;
 
+import java.util.function.BooleanSupplier;
+
 @Mixin(ChunkMap.class)
 public abstract class ChunkMapMixin implements ChunkMapBridge {
 
@@ -67,12 +70,34 @@ public abstract class ChunkMapMixin implements ChunkMapBridge {
     @Shadow @Final private ServerLevel level;
     // @formatter:on
 
+    private boolean impl$writesPaused;
+
     public DistanceManagerBridge bridge$distanceManager() {
         // The ticket manager on this object is a package-private class and isn't accessible from here
         // - @Shadow doesn't work because it seems to need the exact type.
         return (DistanceManagerBridge) ((ServerChunkCacheAccessor) this.level.getChunkSource()).accessor$distanceManager();
     }
 
+    @Override
+    public void bridge$setWritesPaused(final boolean paused) {
+        this.impl$writesPaused = paused;
+    }
+
+    @Inject(method = "processUnloads", at = @At("HEAD"), cancellable = true)
+    private void impl$keepChunksWhileWritesPaused(final BooleanSupplier hasMoreTime, final CallbackInfo ci) {
+        if (this.impl$writesPaused) {
+            ci.cancel();
+        }
+    }
+
+    @Redirect(method = "tick(Ljava/util/function/BooleanSupplier;)V",
+            at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/ai/village/poi/PoiManager;tick(Ljava/util/function/BooleanSupplier;)V"))
+    private void impl$skipPoiWritesWhilePaused(final PoiManager poiManager, final BooleanSupplier hasMoreTime) {
+        if (!this.impl$writesPaused) {
+            poiManager.tick(hasMoreTime);
+        }
+    }
+
     @Redirect(method = "save",
             at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/ai/village/poi/PoiManager;flush(Lnet/minecraft/world/level/ChunkPos;)V"))
     private void impl$useSerializationBehaviorForPOI(final PoiManager pointOfInterestManager, final ChunkPos p_219112_1_) {
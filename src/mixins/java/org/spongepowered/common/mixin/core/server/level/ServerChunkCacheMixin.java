@@ -27,6 +27,7 @@
 import net.minecraft.server.level.ChunkMap;
 import net.minecraft.server.level.ServerChunkCache;
 import net.minecraft.server.level.ServerLevel;
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.spongepowered.api.world.SerializationBehavior;
 import org.spongepowered.api.world.server.storage.ServerWorldProperties;
 import org.spongepowered.asm.mixin.Final;
@@ -35,20 +36,44 @@
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.common.accessor.server.level.ChunkMapAccessor;
+import org.spongepowered.common.bridge.server.level.ServerChunkCacheBridge;
+import org.spongepowered.common.world.server.SpongeIncrementalChunkSaver;
 
 @Mixin(ServerChunkCache.class)
-public abstract class ServerChunkCacheMixin {
+public abstract class ServerChunkCacheMixin implements ServerChunkCacheBridge {
 
     // @formatter:off
     @Shadow @Final private ServerLevel level;
+    @Shadow @Final public ChunkMap chunkMap;
     // @formatter:on
-    
+
+    private @MonotonicNonNull SpongeIncrementalChunkSaver impl$incrementalSaver;
+    private boolean impl$deferChunkSaving;
+
+    @Override
+    public SpongeIncrementalChunkSaver bridge$incrementalSaver() {
+        if (this.impl$incrementalSaver == null) {
+            this.impl$incrementalSaver = new SpongeIncrementalChunkSaver(this.chunkMap);
+        }
+        return this.impl$incrementalSaver;
+    }
+
+    @Override
+    public void bridge$setDeferChunkSaving(final boolean defer) {
+        this.impl$deferChunkSaving = defer;
+    }
+
     @Redirect(method = "save", at = @At(value = "INVOKE", target = "Lnet/minecraft/server/level/ChunkMap;saveAllChunks(Z)V"))
     private void impl$useSerializationBehaviorWhenSaving(final ChunkMap chunkManager, final boolean flush) {
         final ServerLevel world = this.level;
         final SerializationBehavior serializationBehavior = ((ServerWorldProperties) world.getLevelData()).serializationBehavior();
         if (serializationBehavior == SerializationBehavior.AUTOMATIC || serializationBehavior == SerializationBehavior.MANUAL) {
-            ((ChunkMapAccessor) chunkManager).invoker$saveAllChunks(flush);
+            if (this.impl$deferChunkSaving) {
+                this.bridge$incrementalSaver().schedule();
+            } else {
+                ((ChunkMapAccessor) chunkManager).invoker$saveAllChunks(flush);
+                this.bridge$incrementalSaver().onFullSave();
+            }
         }
     }
 }
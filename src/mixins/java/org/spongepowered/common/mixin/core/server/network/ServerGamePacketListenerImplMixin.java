@@ -35,6 +35,7 @@
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.text.Component;
 import net.minecraft.SharedConstants;
+import net.minecraft.Util;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -62,6 +63,7 @@
 import net.minecraft.world.level.block.entity.SignBlockEntity;
 import net.minecraft.world.phys.HitResult;
 import net.minecraft.world.phys.Vec3;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.objectweb.asm.Opcodes;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.BlockSnapshot;
@@ -102,9 +104,11 @@
 import org.spongepowered.common.accessor.server.level.ServerPlayerGameModeAccessor;
 import org.spongepowered.common.accessor.world.entity.EntityAccessor;
 import org.spongepowered.common.adventure.SpongeAdventure;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.bridge.network.ConnectionHolderBridge;
 import org.spongepowered.common.bridge.server.level.ServerPlayerBridge;
 import org.spongepowered.common.bridge.server.network.ServerGamePacketListenerImplBridge;
+import org.spongepowered.common.command.brigadier.SpongeSuggestionExecutor;
 import org.spongepowered.common.command.manager.SpongeCommandManager;
 import org.spongepowered.common.command.registrar.BrigadierBasedRegistrar;
 import org.spongepowered.common.data.value.ImmutableSpongeListValue;
@@ -127,6 +131,7 @@
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 @Mixin(ServerGamePacketListenerImpl.class)
@@ -153,6 +158,9 @@ public abstract class ServerGamePacketListenerImplMixin implements ServerGamePac
     // @formatter:on
 
     private int impl$ignorePackets;
+    private @Nullable CompletableFuture<Suggestions> impl$pendingSuggestions;
+    private long impl$suggestionWindowStart;
+    private int impl$suggestionRequestsInWindow;
 
     @Override
     public Connection bridge$getConnection() {
@@ -169,6 +177,52 @@ public abstract class ServerGamePacketListenerImplMixin implements ServerGamePac
         }
     }
 
+    @Inject(method = "handleCustomCommandSuggestions",
+            at = @At(value = "INVOKE",
+                    target = "Lnet/minecraft/network/protocol/PacketUtils;ensureRunningOnSameThread(Lnet/minecraft/network/protocol/Packet;Lnet/minecraft/network/PacketListener;Lnet/minecraft/server/level/ServerLevel;)V",
+                    shift = At.Shift.AFTER),
+            cancellable = true)
+    private void impl$limitAndSupersedeSuggestionRequests(final ServerboundCommandSuggestionPacket packet, final CallbackInfo ci) {
+        final int limit = SpongeConfigs.getCommon().get().commands.maxSuggestionRequestsPerSecond;
+        if (limit > 0) {
+            final long now = Util.getMillis();
+            if (now - this.impl$suggestionWindowStart >= 1000L) {
+                this.impl$suggestionWindowStart = now;
+                this.impl$suggestionRequestsInWindow = 0;
+            }
+            if (++this.impl$suggestionRequestsInWindow > limit) {
+                ci.cancel();
+                return;
+            }
+        }
+        // The client only shows the latest request, so any suggestions still in flight are no longer wanted.
+        final CompletableFuture<Suggestions> pending = this.impl$pendingSuggestions;
+        if (pending != null) {
+            pending.cancel(false);
+            this.impl$pendingSuggestions = null;
+        }
+    }
+
+    @Redirect(method = "handleCustomCommandSuggestions",
+            at = @At(value = "INVOKE",
+                    target = "Lcom/mojang/brigadier/CommandDispatcher;getCompletionSuggestions(Lcom/mojang/brigadier/ParseResults;)Ljava/util/concurrent/CompletableFuture;",
+                    remap = false
+            )
+    )
+    private CompletableFuture<Suggestions> impl$trackPendingSuggestions(final CommandDispatcher<CommandSourceStack> commandDispatcher,
+            final ParseResults<CommandSourceStack> parseResults) {
+        final CompletableFuture<Suggestions> suggestions = SpongeSuggestionExecutor.request(() -> commandDispatcher.getCompletionSuggestions(parseResults));
+        if (!suggestions.isDone()) {
+            this.impl$pendingSuggestions = suggestions;
+            suggestions.whenCompleteAsync((result, t) -> {
+                if (this.impl$pendingSuggestions == suggestions) {
+                    this.impl$pendingSuggestions = null;
+                }
+            }, this.server);
+        }
+        return suggestions;
+    }
+
     @Inject(method = "handleCustomCommandSuggestions", at = @At(value = "NEW", target = "com/mojang/brigadier/StringReader", remap = false),
             cancellable = true)
     private void impl$getSuggestionsFromNonBrigCommand(final ServerboundCommandSuggestionPacket packet, final CallbackInfo ci) {
@@ -103,6 +103,7 @@
 import org.spongepowered.common.event.tracking.context.transaction.TransactionalCaptureSupplier;
 import org.spongepowered.common.event.tracking.context.transaction.effect.BroadcastInventoryChangesEffect;
 import org.spongepowered.common.event.tracking.context.transaction.inventory.PlayerInventoryTransaction;
+import org.spongepowered.common.network.packet.broadcast.PacketBroadcaster;
 import org.spongepowered.common.profile.SpongeGameProfile;
 import org.spongepowered.common.server.PerWorldBorderListener;
 import org.spongepowered.common.service.server.ban.SpongeIPBanList;
@@ -588,6 +589,11 @@ public abstract class PlayerListMixin implements PlayerListBridge {
         }
     }
 
+    @Redirect(method = "broadcastMessage", at = @At(value = "INVOKE", target = "Lnet/minecraft/server/players/PlayerList;broadcastAll(Lnet/minecraft/network/protocol/Packet;)V"))
+    private void impl$encodeBroadcastMessageOnce(final PlayerList playerList, final Packet<?> packet) {
+        PacketBroadcaster.broadcast(this.players, packet);
+    }
+
     @Inject(method = "saveAll()V", at = @At("RETURN"))
     private void impl$saveDirtyUsersOnSaveAll(final CallbackInfo ci) {
         ((SpongeServer) SpongeCommon.server()).userManager().saveDirtyUsers();
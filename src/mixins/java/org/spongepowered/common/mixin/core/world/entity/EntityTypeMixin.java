@@ -27,6 +27,7 @@
 import net.minecraft.world.entity.EntityType;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.common.bridge.world.entity.EntityTypeBridge;
+import org.spongepowered.common.config.inheritable.TypeConfigSnapshot;
 
 @Mixin(EntityType.class)
 public abstract class EntityTypeMixin implements EntityTypeBridge {
@@ -34,6 +35,7 @@ public abstract class EntityTypeMixin implements EntityTypeBridge {
     private boolean impl$isActivationRangeInitialized = false;
     private boolean impl$hasCheckedDamageEntity = false;
     private boolean impl$overridesDamageEntity = false;
+    private final int impl$configIndex = TypeConfigSnapshot.nextEntityTypeIndex();
 
     @Override
     public boolean bridge$isActivationRangeInitialized() {
@@ -64,4 +66,9 @@ public abstract class EntityTypeMixin implements EntityTypeBridge {
     public void bridge$setOverridesDamageEntity(final boolean damagesEntity) {
         this.impl$overridesDamageEntity = damagesEntity;
     }
+
+    @Override
+    public int bridge$configIndex() {
+        return this.impl$configIndex;
+    }
 }
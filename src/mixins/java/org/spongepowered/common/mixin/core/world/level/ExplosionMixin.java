@@ -24,7 +24,9 @@
  */
 package org.spongepowered.common.mixin.core.world.level;
 
-import com.google.common.collect.Sets;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import org.spongepowered.api.event.Cause;
 import org.spongepowered.api.event.SpongeEventFactory;
 import org.spongepowered.api.event.world.ExplosionEvent;
@@ -39,10 +41,14 @@
 import org.spongepowered.asm.mixin.injection.Surrogate;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.common.OptimizationCategory;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.bridge.world.level.ExplosionBridge;
 import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.level.SpongeExplosionBlockCache;
+import org.spongepowered.common.world.level.SpongeExplosionCache;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -56,6 +62,7 @@
 import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.item.PrimedTnt;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.enchantment.ProtectionEnchantment;
 import net.minecraft.world.level.ExplosionDamageCalculator;
@@ -133,8 +140,15 @@ public void explode() {
         // Sponge End
 
         // Sponge Start - If the explosion should not break blocks, don't bother calculating it on server thread
-        if (this.impl$shouldBreakBlocks) {
-            final Set<BlockPos> set = Sets.newHashSet();
+        final OptimizationCategory optimizations = SpongeConfigs.getCommon().get().optimizations;
+        final boolean mergeable = optimizations.mergeColocatedExplosions && (this.source == null || this.source instanceof PrimedTnt);
+        if (this.impl$shouldBreakBlocks
+            && !(mergeable && SpongeExplosionCache.of(this.level).isKnownEmpty(this.x, this.y, this.z, this.radius))) {
+            final LongSet set = new LongOpenHashSet();
+            // Neighbouring rays cross the same blocks, so resolve each one once
+            final SpongeExplosionBlockCache blocks = optimizations.cacheExplosionExposure
+                ? new SpongeExplosionBlockCache((net.minecraft.world.level.Explosion) (Object) this, this.level, this.damageCalculator)
+                : null;
             final int i = 16;
 
             for (int j = 0; j < 16; ++j) {
@@ -154,16 +168,28 @@ public void explode() {
                             double d8 = this.z;
 
                             for (final float f1 = 0.3F; f > 0.0F; f -= 0.22500001F) {
-                                final BlockPos blockpos = new BlockPos(d4, d6, d8);
-                                final BlockState blockstate = this.level.getBlockState(blockpos);
-                                final FluidState fluidstate = this.level.getFluidState(blockpos);
-                                Optional<Float> optional = this.damageCalculator.getBlockExplosionResistance((net.minecraft.world.level.Explosion) (Object) this, this.level, blockpos, blockstate, fluidstate);
-                                if (optional.isPresent()) {
-                                    f -= (optional.get() + 0.3F) * 0.3F;
-                                }
-
-                                if (f > 0.0F && this.damageCalculator.shouldBlockExplode((net.minecraft.world.level.Explosion) (Object) this, this.level, blockpos, blockstate, f)) {
-                                    set.add(blockpos);
+                                if (blocks != null) {
+                                    final long packed = BlockPos.asLong(Mth.floor(d4), Mth.floor(d6), Mth.floor(d8));
+                                    final float resistance = blocks.resistance(packed);
+                                    if (!Float.isNaN(resistance)) {
+                                        f -= (resistance + 0.3F) * 0.3F;
+                                    }
+
+                                    if (f > 0.0F && blocks.shouldBlockExplode(packed, f)) {
+                                        set.add(packed);
+                                    }
+                                } else {
+                                    final BlockPos blockpos = new BlockPos(d4, d6, d8);
+                                    final BlockState blockstate = this.level.getBlockState(blockpos);
+                                    final FluidState fluidstate = this.level.getFluidState(blockpos);
+                                    Optional<Float> optional = this.damageCalculator.getBlockExplosionResistance((net.minecraft.world.level.Explosion) (Object) this, this.level, blockpos, blockstate, fluidstate);
+                                    if (optional.isPresent()) {
+                                        f -= (optional.get() + 0.3F) * 0.3F;
+                                    }
+
+                                    if (f > 0.0F && this.damageCalculator.shouldBlockExplode((net.minecraft.world.level.Explosion) (Object) this, this.level, blockpos, blockstate, f)) {
+                                        set.add(blockpos.asLong());
+                                    }
                                 }
 
                                 d4 += d0 * (double) 0.3F;
@@ -175,7 +201,13 @@ public void explode() {
                 }
             }
 
-            this.toBlow.addAll(set);
+            final LongIterator iterator = set.iterator();
+            while (iterator.hasNext()) {
+                this.toBlow.add(BlockPos.of(iterator.nextLong()));
+            }
+            if (mergeable && set.isEmpty()) {
+                SpongeExplosionCache.of(this.level).markEmpty(this.x, this.y, this.z, this.radius);
+            }
         }
         // Sponge End
 
@@ -234,6 +266,8 @@ public void explode() {
         // Sponge End
 
         final Vec3 vec3d = new Vec3(this.x, this.y, this.z);
+        // Sponge - explosions at the same spot see entities the same way until blocks change
+        final SpongeExplosionCache exposureCache = optimizations.cacheExplosionExposure ? SpongeExplosionCache.of(this.level) : null;
 
         for (int k2 = 0; k2 < list.size(); ++k2) {
             final Entity entity = list.get(k2);
@@ -248,7 +282,8 @@ public void explode() {
                         d5 = d5 / d13;
                         d7 = d7 / d13;
                         d9 = d9 / d13;
-                        final double d14 = (double) net.minecraft.world.level.Explosion.getSeenPercent(vec3d, entity);
+                        final double d14 = (double) (exposureCache != null ? exposureCache.exposure(vec3d, entity)
+                            : net.minecraft.world.level.Explosion.getSeenPercent(vec3d, entity));
                         final double d10 = (1.0D - d12) * d14;
                         entity.hurt(this.shadow$getDamageSource(), (float)((int)((d10 * d10 + d10) / 2.0D * 7.0D * (double)f3 + 1.0D)));
                         double d11 = d10;
@@ -270,6 +305,12 @@ public void explode() {
                 }
             }
         }
+
+        // Sponge Start - Blocks are about to be destroyed, cached results for this world no longer hold
+        if (!this.toBlow.isEmpty()) {
+            SpongeExplosionCache.invalidate(this.level);
+        }
+        // Sponge End
     }
 
     @Override
@@ -73,6 +73,7 @@
 import org.spongepowered.common.bridge.world.level.levelgen.WorldGenSettingsBridge;
 import org.spongepowered.common.bridge.world.level.storage.PrimaryLevelDataBridge;
 import org.spongepowered.common.config.inheritable.InheritableConfigHandle;
+import org.spongepowered.common.config.inheritable.TypeConfigSnapshot;
 import org.spongepowered.common.config.inheritable.WorldConfig;
 import org.spongepowered.common.data.fixer.LegacyUUIDCodec;
 import org.spongepowered.common.server.BootstrapProperties;
@@ -111,6 +112,7 @@ public abstract class PrimaryLevelDataMixin implements WorldData, PrimaryLevelDa
     private UUID impl$uniqueId = UUID.randomUUID();
     private Boolean impl$pvp;
     private InheritableConfigHandle<WorldConfig> impl$configAdapter;
+    @Nullable private volatile TypeConfigSnapshot impl$typeConfigs;
 
     private final BiMap<Integer, UUID> impl$playerUniqueIdMap = HashBiMap.create();
     private final List<UUID> impl$pendingUniqueIds = new ArrayList<>();
@@ -276,6 +278,17 @@ public abstract class PrimaryLevelDataMixin implements WorldData, PrimaryLevelDa
         this.impl$configAdapter = adapter;
     }
 
+    @Override
+    public TypeConfigSnapshot bridge$typeConfigs() {
+        final WorldConfig config = this.impl$configAdapter.get();
+        TypeConfigSnapshot snapshot = this.impl$typeConfigs;
+        if (snapshot == null || snapshot.config() != config) {
+            snapshot = new TypeConfigSnapshot(config);
+            this.impl$typeConfigs = snapshot;
+        }
+        return snapshot;
+    }
+
     @Override
     public void bridge$populateFromDimension(final LevelStem stem) {
         final LevelStemBridge levelStemBridge = (LevelStemBridge) (Object) stem;
@@ -49,6 +49,7 @@
 public abstract class EntityMixin_EntityCollision implements CollisionCapabilityBridge {
 
     @Shadow public abstract net.minecraft.world.level.Level shadow$getCommandSenderWorld();
+    @Shadow public abstract net.minecraft.world.entity.EntityType<?> shadow$getType();
 
     private ResourceKey entityCollision$key;
     private int entityCollision$maxCollisions = 8;
@@ -90,6 +91,11 @@ public abstract class EntityMixin_EntityCollision implements CollisionCapability
     @Override
     public void collision$initializeCollisionState(final net.minecraft.world.level.Level world) {
         final InheritableConfigHandle<WorldConfig> worldConfigAdapter = ((PrimaryLevelDataBridge) world.getLevelData()).bridge$configAdapter();
+        // Items are configured per item type and auto-population has to write to the config, everything else is resolved once per type
+        if (!worldConfigAdapter.get().entityCollision.autoPopulate && !((net.minecraft.world.entity.Entity) (Object) this instanceof ItemEntity)) {
+            this.collision$setMaxCollisions(((PrimaryLevelDataBridge) world.getLevelData()).bridge$typeConfigs().maxCollisions(this.shadow$getType()));
+            return;
+        }
         final ConfigHandle<CommonConfig> globalConfigAdapter = SpongeConfigs.getCommon();
         final EntityCollisionCategory.ModSubCategory worldCollMod =
                 worldConfigAdapter.getOrCreateValue(s -> s.entityCollision.mods.get(this.entityCollision$key.namespace()),
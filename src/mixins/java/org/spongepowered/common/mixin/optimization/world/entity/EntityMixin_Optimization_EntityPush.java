@@ -0,0 +1,63 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.world.entity;
+
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.LevelChunk;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.bridge.optimization.EntityPushGridBridge;
+import org.spongepowered.common.world.level.chunk.EntityPushGrid;
+
+@Mixin(Entity.class)
+public abstract class EntityMixin_Optimization_EntityPush {
+
+    // @formatter:off
+    @Shadow public Level level;
+    @Shadow public boolean inChunk;
+    @Shadow public int xChunk;
+    @Shadow public int zChunk;
+    // @formatter:on
+
+    /**
+     * Moves this entity to the cell of its new position in the push grid of
+     * its chunk section, so entities moving far within a tick, such as falling
+     * or teleported entities, are still found by the following lookups.
+     */
+    @Inject(method = "setPosRaw", at = @At("HEAD"))
+    private void entityPush$moveInGrid(final double x, final double y, final double z, final CallbackInfo ci) {
+        if (!this.inChunk || this.level.isClientSide || !EntityPushGrid.changesCell((Entity) (Object) this, x, y, z)) {
+            return;
+        }
+        final LevelChunk chunk = this.level.getChunkSource().getChunk(this.xChunk, this.zChunk, false);
+        if (chunk != null) {
+            ((EntityPushGridBridge) chunk).entityPushBridge$move((Entity) (Object) this, x, y, z);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.world.entity;
+
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.ExperienceOrb;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.accessor.world.entity.ExperienceOrbAccessor;
+import org.spongepowered.common.world.level.SpongeEntityMerges;
+import org.spongepowered.common.world.level.chunk.EntityMergeGrid;
+
+@Mixin(ExperienceOrb.class)
+public abstract class ExperienceOrbMixin_Optimization_EntityMerge {
+
+    /**
+     * Merges touching experience orbs into one orb holding their combined
+     * value, on the first tick of an orb and once every second after.
+     */
+    @Inject(method = "tick", at = @At("RETURN"))
+    private void entityMerge$mergeWithNeighbours(final CallbackInfo ci) {
+        final ExperienceOrb self = (ExperienceOrb) (Object) this;
+        final int tickCount = ((Entity) self).tickCount;
+        if (self.level.isClientSide || self.removed || tickCount != 1 && tickCount % 20 != 0) {
+            return;
+        }
+        final ExperienceOrbAccessor accessor = (ExperienceOrbAccessor) self;
+        for (final ExperienceOrb other : EntityMergeGrid.getEntities(self.level, ExperienceOrb.class, 0, self.getBoundingBox().inflate(0.5D),
+            orb -> orb != self && !orb.removed)) {
+            accessor.accessor$value(accessor.accessor$value() + ((ExperienceOrbAccessor) other).accessor$value());
+            self.age = Math.min(self.age, other.age);
+            other.remove();
+            SpongeEntityMerges.record(self.level);
+        }
+    }
+}
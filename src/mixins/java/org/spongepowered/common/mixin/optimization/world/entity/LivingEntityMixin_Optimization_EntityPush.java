@@ -0,0 +1,76 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.world.entity;
+
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.level.GameRules;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.bridge.entitycollision.CollisionCapabilityBridge;
+import org.spongepowered.common.world.level.chunk.EntityPushGrid;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+@Mixin(LivingEntity.class)
+public abstract class LivingEntityMixin_Optimization_EntityPush {
+
+    /**
+     * Looks up the entities to push through the spatial hash of the chunk
+     * sections, stopping once the collision limit of this entity is reached.
+     * If enabled, an entity within a dense stack of entities of its own type
+     * only collects as many entities as needed for entity cramming to still
+     * apply. The stack is not capped while entity cramming is turned off.
+     */
+    @Redirect(method = "pushEntities",
+        at = @At(value = "INVOKE",
+            target = "Lnet/minecraft/world/level/Level;getEntities(Lnet/minecraft/world/entity/Entity;Lnet/minecraft/world/phys/AABB;Ljava/util/function/Predicate;)Ljava/util/List;"))
+    private List<Entity> entityPush$getEntitiesFromGrid(final Level level, final Entity entity, final AABB box, final Predicate<? super Entity> filter) {
+        if (level.isClientSide) {
+            return level.getEntities(entity, box, filter);
+        }
+        int limit = Integer.MAX_VALUE;
+        if (this instanceof CollisionCapabilityBridge) {
+            final int maxCollisions = ((CollisionCapabilityBridge) this).collision$getMaxCollisions();
+            if (maxCollisions >= 0) {
+                limit = maxCollisions;
+            }
+        }
+        final int denseStackLimit = SpongeConfigs.getCommon().get().optimizations.denseStackPushLimit;
+        if (denseStackLimit > 0) {
+            // Without entity cramming there is nothing the capped entities would still be needed for
+            final int maxCramming = level.getGameRules().getInt(GameRules.RULE_MAX_ENTITY_CRAMMING);
+            if (maxCramming > 0 && EntityPushGrid.countStacked(level, entity) >= denseStackLimit) {
+                limit = Math.min(limit, maxCramming);
+            }
+        }
+        return EntityPushGrid.getPushableEntities(level, entity, box, filter, limit);
+    }
+}
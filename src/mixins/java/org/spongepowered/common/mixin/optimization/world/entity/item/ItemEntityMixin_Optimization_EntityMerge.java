@@ -0,0 +1,88 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.world.entity.item;
+
+import net.minecraft.core.Registry;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.world.level.SpongeEntityMerges;
+import org.spongepowered.common.world.level.chunk.EntityMergeGrid;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+@Mixin(ItemEntity.class)
+public abstract class ItemEntityMixin_Optimization_EntityMerge {
+
+    // @formatter:off
+    @Shadow public abstract ItemStack shadow$getItem();
+    @Shadow private boolean shadow$isMergable() { return false; }
+    @Shadow private void shadow$mergeWithNeighbours() { }
+    // @formatter:on
+
+    @Redirect(method = "mergeWithNeighbours",
+        at = @At(value = "INVOKE",
+            target = "Lnet/minecraft/world/level/Level;getEntitiesOfClass(Ljava/lang/Class;Lnet/minecraft/world/phys/AABB;Ljava/util/function/Predicate;)Ljava/util/List;"))
+    private List<ItemEntity> entityMerge$findCandidatesInGrid(final Level level, final Class<ItemEntity> type, final AABB box,
+        final Predicate<? super ItemEntity> filter) {
+        if (level.isClientSide) {
+            return level.getEntitiesOfClass(type, box, filter);
+        }
+        final Item item = this.shadow$getItem().getItem();
+        return EntityMergeGrid.getEntities(level, ItemEntity.class, Registry.ITEM.getId(item), box,
+            other -> other.getItem().getItem() == item && filter.test(other));
+    }
+
+    /**
+     * Vanilla only looks for items to merge with every few ticks, by which
+     * time most drops of a farm have been spawned as separate entities and
+     * ticked at least once. Looking them up is cheap through the grid, so
+     * merge them right on their first tick.
+     */
+    @Inject(method = "tick", at = @At("RETURN"))
+    private void entityMerge$mergeOnFirstTick(final CallbackInfo ci) {
+        final Entity self = (Entity) (Object) this;
+        if (self.tickCount == 1 && !self.level.isClientSide && !self.removed && this.shadow$isMergable()) {
+            this.shadow$mergeWithNeighbours();
+        }
+    }
+
+    @Inject(method = "merge(Lnet/minecraft/world/entity/item/ItemEntity;Lnet/minecraft/world/item/ItemStack;Lnet/minecraft/world/entity/item/ItemEntity;Lnet/minecraft/world/item/ItemStack;)V",
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/item/ItemEntity;remove()V"))
+    private static void entityMerge$recordMerge(final ItemEntity into, final ItemStack intoStack, final ItemEntity from,
+        final ItemStack fromStack, final CallbackInfo ci) {
+        SpongeEntityMerges.record(from.level);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.world.level.chunk;
+
+import net.minecraft.core.Registry;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.ExperienceOrb;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.level.chunk.LevelChunk;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.bridge.optimization.EntityMergeGridBridge;
+import org.spongepowered.common.world.level.chunk.EntityMergeGrid;
+
+@Mixin(LevelChunk.class)
+public abstract class LevelChunkMixin_Optimization_EntityMerge implements EntityMergeGridBridge {
+
+    private final EntityMergeGrid<ItemEntity> entityMerge$items = new EntityMergeGrid<>(ItemEntity.class,
+        item -> Registry.ITEM.getId(item.getItem().getItem()));
+    private final EntityMergeGrid<ExperienceOrb> entityMerge$orbs = new EntityMergeGrid<>(ExperienceOrb.class, orb -> 0);
+
+    @Inject(method = "addEntity", at = @At("RETURN"))
+    private void entityMerge$invalidateOnAdd(final Entity entity, final CallbackInfo ci) {
+        this.entityMerge$invalidate(entity);
+    }
+
+    @Inject(method = "removeEntity(Lnet/minecraft/world/entity/Entity;I)V", at = @At("RETURN"))
+    private void entityMerge$invalidateOnRemove(final Entity entity, final int section, final CallbackInfo ci) {
+        this.entityMerge$invalidate(entity);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Entity> EntityMergeGrid<T> entityMergeBridge$grid(final Class<T> type) {
+        if (type == ItemEntity.class) {
+            return (EntityMergeGrid<T>) this.entityMerge$items;
+        }
+        if (type == ExperienceOrb.class) {
+            return (EntityMergeGrid<T>) this.entityMerge$orbs;
+        }
+        throw new IllegalArgumentException("No merge grid for " + type);
+    }
+
+    private void entityMerge$invalidate(final Entity entity) {
+        if (entity instanceof ItemEntity) {
+            this.entityMerge$items.invalidate();
+        } else if (entity instanceof ExperienceOrb) {
+            this.entityMerge$orbs.invalidate();
+        }
+    }
+}
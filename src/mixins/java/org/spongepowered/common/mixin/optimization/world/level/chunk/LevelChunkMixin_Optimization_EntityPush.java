@@ -0,0 +1,111 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.world.level.chunk;
+
+import net.minecraft.util.ClassInstanceMultiMap;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.phys.AABB;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.bridge.optimization.EntityPushGridBridge;
+import org.spongepowered.common.world.level.chunk.EntityPushGrid;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+@Mixin(LevelChunk.class)
+public abstract class LevelChunkMixin_Optimization_EntityPush implements EntityPushGridBridge {
+
+    // @formatter:off
+    @Shadow @Final private ClassInstanceMultiMap<Entity>[] entitySections;
+    @Shadow public abstract Level shadow$getLevel();
+    // @formatter:on
+
+    private final EntityPushGrid[] entityPush$grids = new EntityPushGrid[16];
+
+    @Inject(method = "addEntity", at = @At("RETURN"))
+    private void entityPush$invalidateOnAdd(final Entity entity, final CallbackInfo ci) {
+        this.entityPush$invalidate();
+    }
+
+    @Inject(method = "removeEntity(Lnet/minecraft/world/entity/Entity;I)V", at = @At("RETURN"))
+    private void entityPush$invalidateOnRemove(final Entity entity, final int section, final CallbackInfo ci) {
+        this.entityPush$invalidate();
+    }
+
+    @Override
+    public boolean entityPushBridge$collect(final @Nullable Entity except, final AABB box, final @Nullable Predicate<? super Entity> filter,
+        final List<Entity> found, final int limit) {
+        final int minSection = Mth.clamp(Mth.floor((box.minY - 2.0D) / 16.0D), 0, this.entitySections.length - 1);
+        final int maxSection = Mth.clamp(Mth.floor((box.maxY + 2.0D) / 16.0D), 0, this.entitySections.length - 1);
+        final long tick = this.shadow$getLevel().getGameTime();
+        for (int section = minSection; section <= maxSection; section++) {
+            if (!this.entitySections[section].isEmpty()
+                && this.entityPush$grid(section).collect(this.entitySections[section], tick, except, box, filter, found, limit)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int entityPushBridge$countStacked(final Entity entity) {
+        final int section = Mth.clamp(Mth.floor(entity.getY() / 16.0D), 0, this.entitySections.length - 1);
+        return this.entityPush$grid(section).countStacked(this.entitySections[section], this.shadow$getLevel().getGameTime(), entity);
+    }
+
+    @Override
+    public void entityPushBridge$move(final Entity entity, final double x, final double y, final double z) {
+        final EntityPushGrid grid = this.entityPush$grids[Mth.clamp(entity.yChunk, 0, this.entityPush$grids.length - 1)];
+        if (grid != null) {
+            grid.move(entity, x, y, z, this.shadow$getLevel().getGameTime());
+        }
+    }
+
+    private EntityPushGrid entityPush$grid(final int section) {
+        EntityPushGrid grid = this.entityPush$grids[section];
+        if (grid == null) {
+            grid = new EntityPushGrid();
+            this.entityPush$grids[section] = grid;
+        }
+        return grid;
+    }
+
+    private void entityPush$invalidate() {
+        for (final EntityPushGrid grid : this.entityPush$grids) {
+            if (grid != null) {
+                grid.invalidate();
+            }
+        }
+    }
+}
@@ -56,6 +56,18 @@ public boolean shouldApplyMixin(final String targetClassName, final String mixin
             .put("org.spongepowered.common.mixin.optimization.general.DataFixersMixin_Optimization_LazyDFU", optimizationCategory -> optimizationCategory.enableLazyDFU)
             .put("org.spongepowered.common.mixin.optimization.entity.EntityMixin_Optimization_Collision", optimizationCategory -> optimizationCategory.useActiveChunksForCollisions)
             .put("org.spongepowered.common.mixin.optimization.world.entity.TamableAnimalMixin_Optimization_Owner", optimizationCategory -> optimizationCategory.cacheTameableOwners)
+            .put("org.spongepowered.common.mixin.optimization.world.entity.EntityMixin_Optimization_EntityPush",
+                    optimizationCategory -> optimizationCategory.hashedEntityPushing)
+            .put("org.spongepowered.common.mixin.optimization.world.entity.LivingEntityMixin_Optimization_EntityPush",
+                    optimizationCategory -> optimizationCategory.hashedEntityPushing)
+            .put("org.spongepowered.common.mixin.optimization.world.level.chunk.LevelChunkMixin_Optimization_EntityPush",
+                    optimizationCategory -> optimizationCategory.hashedEntityPushing)
+            .put("org.spongepowered.common.mixin.optimization.world.entity.item.ItemEntityMixin_Optimization_EntityMerge",
+                    optimizationCategory -> optimizationCategory.gridItemMerging)
+            .put("org.spongepowered.common.mixin.optimization.world.entity.ExperienceOrbMixin_Optimization_EntityMerge",
+                    optimizationCategory -> optimizationCategory.mergeExperienceOrbs)
+            .put("org.spongepowered.common.mixin.optimization.world.level.chunk.LevelChunkMixin_Optimization_EntityMerge",
+                    optimizationCategory -> optimizationCategory.gridItemMerging || optimizationCategory.mergeExperienceOrbs)
 // TODO investigate what is still relevant and add them back
 //            .put("org.spongepowered.common.mixin.optimization.SpongeImplHooksMixin_Item_Pre_Merge",
 //                    optimizationCategory -> optimizationCategory.dropsPreMerge)
@@ -68,11 +68,12 @@
 import org.spongepowered.common.bridge.world.entity.PlatformEntityBridge;
 import org.spongepowered.common.bridge.world.level.chunk.ActiveChunkReferantBridge;
 import org.spongepowered.common.bridge.world.level.chunk.LevelChunkBridge;
+import org.spongepowered.common.bridge.world.level.storage.PrimaryLevelDataBridge;
 import org.spongepowered.common.config.SpongeGameConfigs;
 import org.spongepowered.common.config.inheritable.EntityActivationRangeCategory;
 import org.spongepowered.common.config.inheritable.GlobalConfig;
 import org.spongepowered.common.config.inheritable.InheritableConfigHandle;
-import org.spongepowered.common.config.inheritable.WorldConfig;
+import org.spongepowered.common.config.inheritable.TypeConfigSnapshot;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -145,46 +146,24 @@ public static void initializeEntityActivationState(final Entity entity) {
             return;
         }
 
-        final InheritableConfigHandle<WorldConfig> configAdapter = SpongeGameConfigs.getForWorld(entity.level);
-        final EntityActivationRangeCategory config = configAdapter.get().entityActivationRange;
-
+        final TypeConfigSnapshot typeConfigs = ((PrimaryLevelDataBridge) entity.level.getLevelData()).bridge$typeConfigs();
         final EntityTypeBridge type = (EntityTypeBridge) entity.getType();
-        final ResourceLocation key = EntityType.getKey(entity.getType());
         final byte activationType = spongeEntity.activation$getActivationType();
         final String activationTypeName = EntityActivationRange.activationTypeMappings.getOrDefault(activationType, "misc");
         if (!type.bridge$isActivationRangeInitialized()) {
-            EntityActivationRange.addEntityToConfig(config.autoPopulate, key, activationType, activationTypeName);
+            final EntityActivationRangeCategory config = typeConfigs.config().entityActivationRange;
+            EntityActivationRange.addEntityToConfig(config.autoPopulate, EntityType.getKey(entity.getType()), activationType, activationTypeName);
             type.bridge$setActivationRangeInitialized(true);
         }
 
-        final EntityActivationRangeCategory.ModSubCategory entityMod = config.mods.get(key.getNamespace());
-        final int defaultActivationRange = config.globalRanges.get(activationTypeName);
-
-        if (entityMod == null) {
-            // use default activation range
-            spongeEntity.activation$setActivationRange(defaultActivationRange);
-            if (defaultActivationRange > 0) {
+        final TypeConfigSnapshot.EntitySettings settings = typeConfigs.entity(entity.getType(), activationTypeName);
+        if (settings.alwaysActive) {
+            spongeEntity.activation$setDefaultActivationState(true);
+        } else if (settings.hasActivationRange) {
+            spongeEntity.activation$setActivationRange(settings.activationRange);
+            if (settings.activationRange > 0) {
                 spongeEntity.activation$setDefaultActivationState(false);
             }
-        } else {
-            if (!entityMod.enabled) {
-                spongeEntity.activation$setDefaultActivationState(true);
-                return;
-            }
-
-            final Integer defaultModActivationRange = entityMod.defaultRanges.get(activationTypeName);
-            final Integer entityActivationRange = entityMod.entities.get(key.getPath());
-            if (defaultModActivationRange != null && entityActivationRange == null) {
-                spongeEntity.activation$setActivationRange(defaultModActivationRange);
-                if (defaultModActivationRange > 0) {
-                    spongeEntity.activation$setDefaultActivationState(false);
-                }
-            } else if (entityActivationRange != null) {
-                spongeEntity.activation$setActivationRange(entityActivationRange);
-                if (entityActivationRange > 0) {
-                    spongeEntity.activation$setDefaultActivationState(false);
-                }
-            }
         }
     }
 
@@ -70,6 +70,7 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.block.SpongeBlockSnapshot;
 import org.spongepowered.common.bridge.TrackableBridge;
 import org.spongepowered.common.bridge.server.level.ServerLevelBridge;
@@ -122,6 +123,7 @@
 import org.spongepowered.common.util.PrettyPrinter;
 import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
+import org.spongepowered.common.world.server.SpongeBlockEntityTickScheduler;
 import org.spongepowered.common.world.server.SpongeLocatableBlockBuilder;
 import org.spongepowered.common.world.volume.VolumeStreamUtils;
 
@@ -141,6 +143,8 @@ public abstract class ServerLevelMixin_Tracker extends LevelMixin_Tracker implem
     @Shadow @Final private List<ServerPlayer> players;
     // @formatting:on
 
+    private final SpongeBlockEntityTickScheduler tracker$blockEntityTickScheduler = new SpongeBlockEntityTickScheduler((ServerLevel) (Object) this);
+
     @Inject(method = "onEntityRemoved", at = @At("TAIL"))
     private void tracker$setEntityUntrackedInWorld(final net.minecraft.world.entity.Entity entityIn, final CallbackInfo ci) {
         if (!this.bridge$isFake()) {
@@ -173,6 +177,11 @@ public abstract class ServerLevelMixin_Tracker extends LevelMixin_Tracker implem
         TrackingUtil.tickTileEntity(this, blockEntity);
     }
 
+    @Override
+    public SpongeBlockEntityTickScheduler bridge$blockEntityTickScheduler() {
+        return this.tracker$blockEntityTickScheduler;
+    }
+
 
     /**
      * For PhaseTracking, we need to wrap around the
@@ -753,6 +762,10 @@ public boolean destroyBlock(final BlockPos pos, final boolean doDrops, @Nullable
 
         // Sponge start - prepare notification
         final PhaseContext<@NonNull ?> peek = server.getPhaseContext();
+        if (SpongeConfigs.getCommon().get().optimizations.coalesceNeighborNotifications
+            && !peek.getNeighborNotificationCoalescer().shouldNotify((ServerLevel) (Object) this, immutableTarget, blockIn, immutableFrom)) {
+            return;
+        }
 
         //  try { // Vanilla - We need to push the effect transactor so that it always pops
         try {
@@ -24,13 +24,17 @@
  */
 package org.spongepowered.common.mixin.tracker.world.level;
 
+import org.objectweb.asm.Opcodes;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.Slice;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.bridge.TrackableBridge;
+import org.spongepowered.common.bridge.world.TrackedWorldBridge;
 import org.spongepowered.common.bridge.world.level.LevelBridge;
 
 import javax.annotation.Nullable;
@@ -93,6 +97,20 @@ public abstract class LevelMixin_Tracker implements LevelBridge {
         tileEntity.tick();
     }
 
+    /**
+     * Block entities with a configured tick rate are ticked by the
+     * {@link TrackedWorldBridge#bridge$blockEntityTickScheduler() scheduler}
+     * of the world, after the block entities ticking every tick and while
+     * the world is still considered to be updating block entities.
+     */
+    @Inject(method = "tickBlockEntities",
+        at = @At(value = "FIELD", target = "Lnet/minecraft/world/level/Level;updatingBlockEntities:Z", opcode = Opcodes.PUTFIELD, ordinal = 1))
+    private void tracker$tickScheduledBlockEntities(final CallbackInfo ci) {
+        if ((Object) this instanceof TrackedWorldBridge && !this.bridge$isFake()) {
+            ((TrackedWorldBridge) this).bridge$blockEntityTickScheduler().tick();
+        }
+    }
+
     @Redirect(method = "addBlockEntity",
         at = @At(value = "INVOKE", target = "Ljava/util/List;add(Ljava/lang/Object;)Z", remap = false),
         slice = @Slice(from = @At(value = "FIELD", target = "Lnet/minecraft/world/level/Level;tickableBlockEntities:Ljava/util/List;"),
@@ -101,6 +119,10 @@ public abstract class LevelMixin_Tracker implements LevelBridge {
         if (!this.bridge$isFake() && !((TrackableBridge) tile).bridge$shouldTick()) {
             return false;
         }
+        if (!this.bridge$isFake() && (Object) this instanceof TrackedWorldBridge
+            && ((TrackedWorldBridge) this).bridge$blockEntityTickScheduler().schedule((BlockEntity) tile)) {
+            return false;
+        }
 
         return list.add((BlockEntity) tile);
     }
@@ -0,0 +1,173 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.inheritable;
+
+import net.minecraft.core.Registry;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.spongepowered.common.bridge.world.entity.EntityTypeBridge;
+import org.spongepowered.common.bridge.world.level.block.entity.BlockEntityTypeBridge;
+import org.spongepowered.common.test.MinecraftBootstrapExtension;
+
+@ExtendWith(MinecraftBootstrapExtension.class)
+public final class TypeConfigSnapshotTest {
+
+    private static final String NAMESPACE = "sponge_test";
+
+    private static EntityType<?> entityType;
+    private static BlockEntityType<?> blockEntityType;
+
+    @BeforeAll
+    static void registerTypes() {
+        TypeConfigSnapshotTest.entityType = Mockito.mock(EntityType.class, Mockito.withSettings().extraInterfaces(EntityTypeBridge.class));
+        final int entityIndex = TypeConfigSnapshot.nextEntityTypeIndex();
+        Mockito.when(((EntityTypeBridge) TypeConfigSnapshotTest.entityType).bridge$configIndex()).thenReturn(entityIndex);
+        Registry.register(Registry.ENTITY_TYPE, TypeConfigSnapshotTest.NAMESPACE + ":test_entity", TypeConfigSnapshotTest.entityType);
+
+        TypeConfigSnapshotTest.blockEntityType = Mockito.mock(BlockEntityType.class, Mockito.withSettings().extraInterfaces(BlockEntityTypeBridge.class));
+        final int blockEntityIndex = TypeConfigSnapshot.nextBlockEntityTypeIndex();
+        Mockito.when(((BlockEntityTypeBridge) TypeConfigSnapshotTest.blockEntityType).bridge$configIndex()).thenReturn(blockEntityIndex);
+        Registry.register(Registry.BLOCK_ENTITY_TYPE, TypeConfigSnapshotTest.NAMESPACE + ":test_block_entity", TypeConfigSnapshotTest.blockEntityType);
+    }
+
+    @Test
+    void resolvesGlobalEntitySettings() {
+        final WorldConfig config = new WorldConfig();
+        config.entityActivationRange.globalRanges.put("monster", 40);
+        config.entityCollision.maxEntitiesWithinAABB = 6;
+
+        final TypeConfigSnapshot.EntitySettings settings = new TypeConfigSnapshot(config).entity(TypeConfigSnapshotTest.entityType, "monster");
+
+        Assertions.assertFalse(settings.alwaysActive);
+        Assertions.assertTrue(settings.hasActivationRange);
+        Assertions.assertEquals(40, settings.activationRange);
+        Assertions.assertEquals(6, settings.maxCollisions);
+        Assertions.assertFalse(new TypeConfigSnapshot(config).entity(TypeConfigSnapshotTest.entityType, "unknown").hasActivationRange);
+    }
+
+    @Test
+    void resolvesModEntityOverrides() {
+        final WorldConfig config = new WorldConfig();
+        final EntityActivationRangeCategory.ModSubCategory activation = new EntityActivationRangeCategory.ModSubCategory();
+        activation.entities.put("test_entity", 48);
+        config.entityActivationRange.mods.put(TypeConfigSnapshotTest.NAMESPACE, activation);
+        final EntityCollisionCategory.ModSubCategory collision = new EntityCollisionCategory.ModSubCategory();
+        collision.entities.put("test_entity", 2);
+        config.entityCollision.mods.put(TypeConfigSnapshotTest.NAMESPACE, collision);
+
+        final TypeConfigSnapshot snapshot = new TypeConfigSnapshot(config);
+        final TypeConfigSnapshot.EntitySettings settings = snapshot.entity(TypeConfigSnapshotTest.entityType, "creature");
+
+        Assertions.assertEquals(48, settings.activationRange);
+        Assertions.assertEquals(2, settings.maxCollisions);
+        Assertions.assertEquals(2, snapshot.maxCollisions(TypeConfigSnapshotTest.entityType));
+    }
+
+    @Test
+    void resolvesDisabledModEntities() {
+        final WorldConfig config = new WorldConfig();
+        final EntityActivationRangeCategory.ModSubCategory activation = new EntityActivationRangeCategory.ModSubCategory();
+        activation.enabled = false;
+        config.entityActivationRange.mods.put(TypeConfigSnapshotTest.NAMESPACE, activation);
+        final EntityCollisionCategory.ModSubCategory collision = new EntityCollisionCategory.ModSubCategory();
+        collision.enabled = false;
+        config.entityCollision.mods.put(TypeConfigSnapshotTest.NAMESPACE, collision);
+
+        final TypeConfigSnapshot.EntitySettings settings = new TypeConfigSnapshot(config).entity(TypeConfigSnapshotTest.entityType, "monster");
+
+        Assertions.assertTrue(settings.alwaysActive);
+        Assertions.assertFalse(settings.hasActivationRange);
+        Assertions.assertEquals(-1, settings.maxCollisions);
+    }
+
+    @Test
+    void cachesEntitySettingsPerActivationType() {
+        final WorldConfig config = new WorldConfig();
+        final TypeConfigSnapshot snapshot = new TypeConfigSnapshot(config);
+
+        final TypeConfigSnapshot.EntitySettings monster = snapshot.entity(TypeConfigSnapshotTest.entityType, "monster");
+        Assertions.assertSame(monster, snapshot.entity(TypeConfigSnapshotTest.entityType, "monster"));
+
+        final TypeConfigSnapshot.EntitySettings misc = snapshot.entity(TypeConfigSnapshotTest.entityType, "misc");
+        Assertions.assertNotSame(monster, misc);
+        Assertions.assertEquals(16, misc.activationRange);
+    }
+
+    @Test
+    void doesNotSeeConfigChangesAfterResolving() {
+        final WorldConfig config = new WorldConfig();
+        final TypeConfigSnapshot snapshot = new TypeConfigSnapshot(config);
+        Assertions.assertEquals(32, snapshot.entity(TypeConfigSnapshotTest.entityType, "monster").activationRange);
+
+        config.entityActivationRange.globalRanges.put("monster", 8);
+
+        Assertions.assertEquals(32, snapshot.entity(TypeConfigSnapshotTest.entityType, "monster").activationRange);
+        Assertions.assertEquals(8, new TypeConfigSnapshot(config).entity(TypeConfigSnapshotTest.entityType, "monster").activationRange);
+    }
+
+    @Test
+    void resolvesTypesCreatedAfterTheSnapshot() {
+        final WorldConfig config = new WorldConfig();
+        final TypeConfigSnapshot snapshot = new TypeConfigSnapshot(config);
+        final EntityType<?> created = Mockito.mock(EntityType.class, Mockito.withSettings().extraInterfaces(EntityTypeBridge.class));
+        final int index = TypeConfigSnapshot.nextEntityTypeIndex();
+        Mockito.when(((EntityTypeBridge) created).bridge$configIndex()).thenReturn(index);
+
+        Assertions.assertEquals(config.entityCollision.maxEntitiesWithinAABB, snapshot.maxCollisions(created));
+    }
+
+    @Test
+    void resolvesBlockEntitySettings() {
+        final WorldConfig config = new WorldConfig();
+        config.blockEntityActivation.defaultRange = 24;
+        config.blockEntityActivation.defaultTickRate = 2;
+
+        final TypeConfigSnapshot.BlockEntitySettings defaults = new TypeConfigSnapshot(config).blockEntity(TypeConfigSnapshotTest.blockEntityType);
+        Assertions.assertFalse(defaults.alwaysActive);
+        Assertions.assertEquals(24, defaults.activationRange);
+        Assertions.assertEquals(2, defaults.tickRate);
+
+        final BlockEntityActivationCategory.MobSubCategory mod = new BlockEntityActivationCategory.MobSubCategory();
+        mod.defaultRange = 12;
+        mod.tickRates.put("test_block_entity", 20);
+        config.blockEntityActivation.mods.put(TypeConfigSnapshotTest.NAMESPACE, mod);
+
+        final TypeConfigSnapshot snapshot = new TypeConfigSnapshot(config);
+        final TypeConfigSnapshot.BlockEntitySettings overridden = snapshot.blockEntity(TypeConfigSnapshotTest.blockEntityType);
+        Assertions.assertEquals(12, overridden.activationRange);
+        Assertions.assertEquals(20, overridden.tickRate);
+        Assertions.assertSame(overridden, snapshot.blockEntity(TypeConfigSnapshotTest.blockEntityType));
+
+        mod.enabled = false;
+        final TypeConfigSnapshot.BlockEntitySettings disabled = new TypeConfigSnapshot(config).blockEntity(TypeConfigSnapshotTest.blockEntityType);
+        Assertions.assertTrue(disabled.alwaysActive);
+        Assertions.assertEquals(1, disabled.tickRate);
+    }
+}
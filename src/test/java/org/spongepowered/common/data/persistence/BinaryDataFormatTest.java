@@ -0,0 +1,176 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataView;
+import org.spongepowered.api.data.persistence.InvalidDataException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+public final class BinaryDataFormatTest {
+
+    private static final BinaryDataFormat FORMAT = new BinaryDataFormat();
+
+    private static byte[] write(final DataView view) throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        BinaryDataFormatTest.FORMAT.writeTo(output, view);
+        return output.toByteArray();
+    }
+
+    private static DataContainer roundTrip(final DataView view) throws IOException {
+        return BinaryDataFormatTest.FORMAT.readFrom(new ByteArrayInputStream(BinaryDataFormatTest.write(view)));
+    }
+
+    @Test
+    void roundTripsPrimitives() throws IOException {
+        final DataContainer container = DataContainer.createNew()
+            .set(DataQuery.of("true"), true)
+            .set(DataQuery.of("false"), false)
+            .set(DataQuery.of("byte"), (byte) -7)
+            .set(DataQuery.of("short"), (short) 31000)
+            .set(DataQuery.of("int"), Integer.MIN_VALUE)
+            .set(DataQuery.of("long"), Long.MAX_VALUE)
+            .set(DataQuery.of("float"), 1.5F)
+            .set(DataQuery.of("double"), -0.25D)
+            .set(DataQuery.of("string"), "héllo wörld");
+
+        final DataContainer read = BinaryDataFormatTest.roundTrip(container);
+
+        Assertions.assertEquals(container, read);
+        Assertions.assertEquals(Byte.class, read.get(DataQuery.of("byte")).get().getClass());
+        Assertions.assertEquals(Short.class, read.get(DataQuery.of("short")).get().getClass());
+        Assertions.assertEquals(Float.class, read.get(DataQuery.of("float")).get().getClass());
+    }
+
+    @Test
+    void roundTripsArrays() throws IOException {
+        final byte[] bytes = {1, -2, 3, Byte.MAX_VALUE};
+        final int[] ints = {0, -1, Integer.MAX_VALUE};
+        final long[] longs = {Long.MIN_VALUE, 42L};
+        final DataContainer container = DataContainer.createNew()
+            .set(DataQuery.of("bytes"), bytes)
+            .set(DataQuery.of("ints"), ints)
+            .set(DataQuery.of("longs"), longs)
+            .set(DataQuery.of("empty"), new int[0]);
+
+        final DataContainer read = BinaryDataFormatTest.roundTrip(container);
+
+        Assertions.assertArrayEquals(bytes, (byte[]) read.get(DataQuery.of("bytes")).get());
+        Assertions.assertArrayEquals(ints, (int[]) read.get(DataQuery.of("ints")).get());
+        Assertions.assertArrayEquals(longs, (long[]) read.get(DataQuery.of("longs")).get());
+        Assertions.assertArrayEquals(new int[0], (int[]) read.get(DataQuery.of("empty")).get());
+    }
+
+    @Test
+    void roundTripsNestedViewsAndLists() throws IOException {
+        final DataContainer first = DataContainer.createNew().set(DataQuery.of("name"), "first").set(DataQuery.of("value"), 1);
+        final DataContainer second = DataContainer.createNew().set(DataQuery.of("name"), "second").set(DataQuery.of("value"), 2);
+        final DataContainer container = DataContainer.createNew()
+            .set(DataQuery.of("a", "b", "c"), "deep")
+            .set(DataQuery.of("a", "name"), "shared key")
+            .set(DataQuery.of("strings"), Arrays.asList("x", "y", "z"))
+            .set(DataQuery.of("views"), Arrays.asList(first, second));
+
+        final DataContainer read = BinaryDataFormatTest.roundTrip(container);
+
+        Assertions.assertEquals("deep", read.getString(DataQuery.of("a", "b", "c")).get());
+        Assertions.assertEquals("shared key", read.getString(DataQuery.of("a", "name")).get());
+        Assertions.assertEquals(Arrays.asList("x", "y", "z"), read.getStringList(DataQuery.of("strings")).get());
+        final List<DataView> views = read.getViewList(DataQuery.of("views")).get();
+        Assertions.assertEquals(2, views.size());
+        Assertions.assertEquals("first", views.get(0).getString(DataQuery.of("name")).get());
+        Assertions.assertEquals(2, views.get(1).getInt(DataQuery.of("value")).get());
+    }
+
+    @Test
+    void writesRepeatedKeysOnce() throws IOException {
+        final DataContainer container = DataContainer.createNew();
+        for (int i = 0; i < 100; i++) {
+            container.set(DataQuery.of("entry" + i, "someRatherLongKeyName"), i);
+        }
+
+        final byte[] bytes = BinaryDataFormatTest.write(container);
+        final int occurrences = BinaryDataFormatTest.count(bytes, "someRatherLongKeyName".getBytes());
+
+        Assertions.assertEquals(1, occurrences);
+        Assertions.assertEquals(container, BinaryDataFormatTest.FORMAT.readFrom(new ByteArrayInputStream(bytes)));
+    }
+
+    @Test
+    void readsFromBufferAndFile() throws IOException {
+        final DataContainer container = DataContainer.createNew()
+            .set(DataQuery.of("int"), 5)
+            .set(DataQuery.of("nested", "string"), "value");
+        final byte[] bytes = BinaryDataFormatTest.write(container);
+
+        Assertions.assertEquals(container, BinaryDataFormatTest.FORMAT.readFrom(ByteBuffer.wrap(bytes)));
+
+        final Path file = Files.createTempFile("binary-data-format", ".dat");
+        try {
+            Files.write(file, bytes);
+            Assertions.assertEquals(container, BinaryDataFormatTest.FORMAT.readFrom(file));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void rejectsUnknownVersion() {
+        final byte[] bytes = {2, 14, 0};
+        Assertions.assertThrows(InvalidDataException.class, () -> BinaryDataFormatTest.FORMAT.readFrom(new ByteArrayInputStream(bytes)));
+    }
+
+    @Test
+    void rejectsUnknownKeyIndex() {
+        // Version, view with one entry, referring to the never written key at index 4
+        final byte[] bytes = {1, 14, 1, 5, 5, 0, 0, 0, 1};
+        Assertions.assertThrows(InvalidDataException.class, () -> BinaryDataFormatTest.FORMAT.readFrom(new ByteArrayInputStream(bytes)));
+    }
+
+    private static int count(final byte[] haystack, final byte[] needle) {
+        int count = 0;
+        outer:
+        for (int i = 0; i <= haystack.length - needle.length; i++) {
+            for (int j = 0; j < needle.length; j++) {
+                if (haystack[i + j] != needle[j]) {
+                    continue outer;
+                }
+            }
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking.context;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Blocks;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.spongepowered.common.test.MinecraftBootstrapExtension;
+
+@ExtendWith(MinecraftBootstrapExtension.class)
+public final class NeighborNotificationCoalescerTest {
+
+    private static final BlockPos SOURCE = new BlockPos(0, 64, 0);
+    private static final BlockPos TARGET = NeighborNotificationCoalescerTest.SOURCE.above();
+
+    private static Level level(final long gameTime) {
+        final Level level = Mockito.mock(Level.class);
+        Mockito.when(level.dimension()).thenReturn(Level.NETHER);
+        Mockito.when(level.getGameTime()).thenReturn(gameTime);
+        return level;
+    }
+
+    @Test
+    void skipsRepeatedNotification() {
+        final Level level = NeighborNotificationCoalescerTest.level(0L);
+        final NeighborNotificationCoalescer coalescer = new NeighborNotificationCoalescer();
+        final long saved = NeighborNotificationCoalescer.saved(level);
+
+        Assertions.assertTrue(coalescer.shouldNotify(level, NeighborNotificationCoalescerTest.TARGET, Blocks.REDSTONE_WIRE,
+            NeighborNotificationCoalescerTest.SOURCE));
+        Assertions.assertFalse(coalescer.shouldNotify(level, new BlockPos(0, 65, 0), Blocks.REDSTONE_WIRE, new BlockPos(0, 64, 0)));
+        Assertions.assertEquals(saved + 1, NeighborNotificationCoalescer.saved(level));
+    }
+
+    @Test
+    void performsDifferingNotifications() {
+        final Level level = NeighborNotificationCoalescerTest.level(0L);
+        final NeighborNotificationCoalescer coalescer = new NeighborNotificationCoalescer();
+
+        Assertions.assertTrue(coalescer.shouldNotify(level, NeighborNotificationCoalescerTest.TARGET, Blocks.REDSTONE_WIRE,
+            NeighborNotificationCoalescerTest.SOURCE));
+        Assertions.assertTrue(coalescer.shouldNotify(level, NeighborNotificationCoalescerTest.SOURCE.below(), Blocks.REDSTONE_WIRE,
+            NeighborNotificationCoalescerTest.SOURCE));
+        Assertions.assertTrue(coalescer.shouldNotify(level, NeighborNotificationCoalescerTest.TARGET, Blocks.REPEATER,
+            NeighborNotificationCoalescerTest.SOURCE));
+        Assertions.assertTrue(coalescer.shouldNotify(level, NeighborNotificationCoalescerTest.TARGET, Blocks.REDSTONE_WIRE,
+            NeighborNotificationCoalescerTest.SOURCE.east()));
+        Assertions.assertTrue(coalescer.shouldNotify(NeighborNotificationCoalescerTest.level(0L), NeighborNotificationCoalescerTest.TARGET,
+            Blocks.REDSTONE_WIRE, NeighborNotificationCoalescerTest.SOURCE));
+    }
+
+    @Test
+    void performsNotificationAgainAfterBlockChange() {
+        final Level level = NeighborNotificationCoalescerTest.level(0L);
+        final NeighborNotificationCoalescer coalescer = new NeighborNotificationCoalescer();
+
+        Assertions.assertTrue(coalescer.shouldNotify(level, NeighborNotificationCoalescerTest.TARGET, Blocks.REDSTONE_WIRE,
+            NeighborNotificationCoalescerTest.SOURCE));
+        NeighborNotificationCoalescer.recordBlockChange();
+        Assertions.assertTrue(coalescer.shouldNotify(level, NeighborNotificationCoalescerTest.TARGET, Blocks.REDSTONE_WIRE,
+            NeighborNotificationCoalescerTest.SOURCE));
+    }
+
+    @Test
+    void performsNotificationAgainNextTick() {
+        final Level level = NeighborNotificationCoalescerTest.level(0L);
+        final NeighborNotificationCoalescer coalescer = new NeighborNotificationCoalescer();
+
+        Assertions.assertTrue(coalescer.shouldNotify(level, NeighborNotificationCoalescerTest.TARGET, Blocks.REDSTONE_WIRE,
+            NeighborNotificationCoalescerTest.SOURCE));
+        Mockito.when(level.getGameTime()).thenReturn(1L);
+        Assertions.assertTrue(coalescer.shouldNotify(level, NeighborNotificationCoalescerTest.TARGET, Blocks.REDSTONE_WIRE,
+            NeighborNotificationCoalescerTest.SOURCE));
+    }
+
+    @Test
+    void performsNotificationAgainAfterReset() {
+        final Level level = NeighborNotificationCoalescerTest.level(0L);
+        final NeighborNotificationCoalescer coalescer = new NeighborNotificationCoalescer();
+
+        Assertions.assertTrue(coalescer.shouldNotify(level, NeighborNotificationCoalescerTest.TARGET, Blocks.REDSTONE_WIRE,
+            NeighborNotificationCoalescerTest.SOURCE));
+        coalescer.reset();
+        Assertions.assertTrue(coalescer.shouldNotify(level, NeighborNotificationCoalescerTest.TARGET, Blocks.REDSTONE_WIRE,
+            NeighborNotificationCoalescerTest.SOURCE));
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking.context.transaction;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.event.tracking.context.StubPhaseState;
+import org.spongepowered.common.event.tracking.context.transaction.effect.InventoryEffect;
+import org.spongepowered.common.test.UnitTestExtension;
+
+import java.lang.management.ManagementFactory;
+import java.util.Iterator;
+
+@ExtendWith(UnitTestExtension.class)
+public class TransactionalCaptureSupplierTest {
+
+    private static TransactionalCaptureSupplier transactor(final StubTransaction parent) {
+        final PhaseContext<@NonNull ?> phaseContext = StubPhaseState.getInstance().createPhaseContext(PhaseTracker.getInstance());
+        phaseContext.buildAndSwitch();
+        final TransactionalCaptureSupplier transactor = phaseContext.getTransactor();
+        transactor.logTransaction(parent);
+        return transactor;
+    }
+
+    private static ResultingTransactionBySideEffect effect() {
+        return new ResultingTransactionBySideEffect(InventoryEffect.getInstance());
+    }
+
+    @Test
+    public void recyclesClosedPooledTransactor() {
+        final StubTransaction parent = new StubTransaction("parent");
+        final TransactionalCaptureSupplier transactor = TransactionalCaptureSupplierTest.transactor(parent);
+
+        final EffectTransactor first = transactor.pushPooledEffect(TransactionalCaptureSupplierTest.effect());
+        Assertions.assertSame(parent, first.parent);
+        first.close();
+        Assertions.assertNull(first.parent);
+        Assertions.assertNull(first.previousEffect);
+
+        try (final EffectTransactor second = transactor.pushPooledEffect(TransactionalCaptureSupplierTest.effect())) {
+            Assertions.assertSame(first, second);
+            Assertions.assertSame(parent, second.parent);
+        }
+    }
+
+    @Test
+    public void doesNotRecycleTransactorClosedTwice() {
+        final TransactionalCaptureSupplier transactor = TransactionalCaptureSupplierTest.transactor(new StubTransaction("parent"));
+
+        final EffectTransactor closed = transactor.pushPooledEffect(TransactionalCaptureSupplierTest.effect());
+        closed.close();
+        closed.close();
+
+        try (final EffectTransactor outer = transactor.pushPooledEffect(TransactionalCaptureSupplierTest.effect());
+             final EffectTransactor inner = transactor.pushPooledEffect(TransactionalCaptureSupplierTest.effect())) {
+            Assertions.assertSame(closed, outer);
+            Assertions.assertNotSame(outer, inner);
+        }
+    }
+
+    @Test
+    public void doesNotRecycleUnpooledTransactor() {
+        final TransactionalCaptureSupplier transactor = TransactionalCaptureSupplierTest.transactor(new StubTransaction("parent"));
+
+        final EffectTransactor unpooled = transactor.pushEffect(TransactionalCaptureSupplierTest.effect());
+        unpooled.close();
+
+        try (final EffectTransactor pooled = transactor.pushPooledEffect(TransactionalCaptureSupplierTest.effect())) {
+            Assertions.assertNotSame(unpooled, pooled);
+        }
+    }
+
+    @Test
+    public void recycledTransactorRestoresPreviousEffect() {
+        final StubTransaction parent = new StubTransaction("parent");
+        final TransactionalCaptureSupplier transactor = TransactionalCaptureSupplierTest.transactor(parent);
+        final ResultingTransactionBySideEffect outerEffect = TransactionalCaptureSupplierTest.effect();
+        final StubTransaction child = new StubTransaction("child");
+        final StubTransaction sibling = new StubTransaction("sibling");
+
+        try (final EffectTransactor ignored = transactor.pushPooledEffect(outerEffect)) {
+            transactor.logTransaction(child);
+            final EffectTransactor inner = transactor.pushPooledEffect(TransactionalCaptureSupplierTest.effect());
+            Assertions.assertSame(child, inner.parent);
+            Assertions.assertSame(outerEffect, inner.previousEffect);
+            inner.close();
+
+            try (final EffectTransactor recycled = transactor.pushPooledEffect(TransactionalCaptureSupplierTest.effect())) {
+                Assertions.assertSame(inner, recycled);
+                Assertions.assertSame(child, recycled.parent);
+                Assertions.assertSame(outerEffect, recycled.previousEffect);
+            }
+            // Back in the outer effect, so this is captured next to the child
+            transactor.logTransaction(sibling);
+        }
+
+        final Iterator<GameTransaction<@NonNull ?>> iterator = transactor.iterator();
+        Assertions.assertSame(parent, iterator.next());
+        Assertions.assertSame(child, iterator.next());
+        Assertions.assertSame(sibling, iterator.next());
+        Assertions.assertFalse(iterator.hasNext());
+    }
+
+    /**
+     * Reports the bytes allocated per pushed effect with and without pooled
+     * transactors. Only runs when the {@code sponge.test.benchmarks} system
+     * property is set, as the numbers depend on the JVM and its JIT.
+     */
+    @Test
+    public void benchmarkEffectAllocations() {
+        Assumptions.assumeTrue(Boolean.getBoolean("sponge.test.benchmarks"), "Benchmarks are disabled");
+        final java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threads instanceof com.sun.management.ThreadMXBean, "Allocation counters are not available");
+        final com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) threads;
+
+        final int warmup = 200_000;
+        final int iterations = 1_000_000;
+        final TransactionalCaptureSupplier transactor = TransactionalCaptureSupplierTest.transactor(new StubTransaction("parent"));
+        final ResultingTransactionBySideEffect effect = TransactionalCaptureSupplierTest.effect();
+
+        TransactionalCaptureSupplierTest.pushEffects(transactor, effect, warmup, false);
+        TransactionalCaptureSupplierTest.pushEffects(transactor, effect, warmup, true);
+
+        final long threadId = Thread.currentThread().getId();
+        long start = bean.getThreadAllocatedBytes(threadId);
+        TransactionalCaptureSupplierTest.pushEffects(transactor, effect, iterations, false);
+        final double unpooled = (double) (bean.getThreadAllocatedBytes(threadId) - start) / iterations;
+        start = bean.getThreadAllocatedBytes(threadId);
+        TransactionalCaptureSupplierTest.pushEffects(transactor, effect, iterations, true);
+        final double pooled = (double) (bean.getThreadAllocatedBytes(threadId) - start) / iterations;
+
+        System.out.printf("Bytes allocated per effect: unpooled %.2f, pooled %.2f%n", unpooled, pooled);
+    }
+
+    private static void pushEffects(final TransactionalCaptureSupplier transactor, final ResultingTransactionBySideEffect effect,
+        final int iterations, final boolean pooled) {
+        for (int i = 0; i < iterations; i++) {
+            // An effect without children is removed from its parent again once closed
+            try (final EffectTransactor ignored = pooled ? transactor.pushPooledEffect(effect) : transactor.pushEffect(effect)) {
+                // Nothing is captured
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.network.packet.broadcast;
+
+import net.minecraft.Util;
+import net.minecraft.network.chat.ChatType;
+import net.minecraft.network.chat.TextComponent;
+import net.minecraft.network.protocol.game.ClientboundChatPacket;
+import net.minecraft.network.protocol.game.ClientboundSetTitlesPacket;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.player.ChatVisiblity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.spongepowered.common.test.MinecraftBootstrapExtension;
+
+@ExtendWith(MinecraftBootstrapExtension.class)
+public final class PacketBroadcasterTest {
+
+    private static ServerPlayer player(final ChatVisiblity visibility) {
+        final ServerPlayer player = Mockito.mock(ServerPlayer.class);
+        Mockito.when(player.getChatVisibility()).thenReturn(visibility);
+        return player;
+    }
+
+    private static ClientboundChatPacket chat(final ChatType type) {
+        return new ClientboundChatPacket(new TextComponent("message"), type, Util.NIL_UUID);
+    }
+
+    @Test
+    void fullVisibilityAcceptsAllChat() {
+        final ServerPlayer player = PacketBroadcasterTest.player(ChatVisiblity.FULL);
+
+        Assertions.assertTrue(PacketBroadcaster.acceptsChat(player, PacketBroadcasterTest.chat(ChatType.CHAT)));
+        Assertions.assertTrue(PacketBroadcaster.acceptsChat(player, PacketBroadcasterTest.chat(ChatType.SYSTEM)));
+        Assertions.assertTrue(PacketBroadcaster.acceptsChat(player, PacketBroadcasterTest.chat(ChatType.GAME_INFO)));
+    }
+
+    @Test
+    void systemVisibilityDropsPlayerChat() {
+        final ServerPlayer player = PacketBroadcasterTest.player(ChatVisiblity.SYSTEM);
+
+        Assertions.assertFalse(PacketBroadcaster.acceptsChat(player, PacketBroadcasterTest.chat(ChatType.CHAT)));
+        Assertions.assertTrue(PacketBroadcaster.acceptsChat(player, PacketBroadcasterTest.chat(ChatType.SYSTEM)));
+        Assertions.assertTrue(PacketBroadcaster.acceptsChat(player, PacketBroadcasterTest.chat(ChatType.GAME_INFO)));
+    }
+
+    @Test
+    void hiddenVisibilityOnlyAcceptsGameInfo() {
+        final ServerPlayer player = PacketBroadcasterTest.player(ChatVisiblity.HIDDEN);
+
+        Assertions.assertFalse(PacketBroadcaster.acceptsChat(player, PacketBroadcasterTest.chat(ChatType.CHAT)));
+        Assertions.assertFalse(PacketBroadcaster.acceptsChat(player, PacketBroadcasterTest.chat(ChatType.SYSTEM)));
+        Assertions.assertTrue(PacketBroadcaster.acceptsChat(player, PacketBroadcasterTest.chat(ChatType.GAME_INFO)));
+    }
+
+    @Test
+    void acceptsOtherPacketsRegardlessOfVisibility() {
+        final ServerPlayer player = PacketBroadcasterTest.player(ChatVisiblity.HIDDEN);
+
+        Assertions.assertTrue(PacketBroadcaster.acceptsChat(player, new ClientboundSetTitlesPacket(10, 70, 20)));
+    }
+}
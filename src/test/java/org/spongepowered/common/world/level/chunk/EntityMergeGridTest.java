@@ -0,0 +1,151 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.level.chunk;
+
+import net.minecraft.util.ClassInstanceMultiMap;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.phys.AABB;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.spongepowered.common.test.MinecraftBootstrapExtension;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@ExtendWith(MinecraftBootstrapExtension.class)
+public final class EntityMergeGridTest {
+
+    private static Entity entity(final int identity, final double x, final double y, final double z) {
+        final Entity entity = Mockito.mock(Entity.class);
+        Mockito.when(entity.getId()).thenReturn(identity);
+        Mockito.when(entity.getX()).thenReturn(x);
+        Mockito.when(entity.getY()).thenReturn(y);
+        Mockito.when(entity.getZ()).thenReturn(z);
+        Mockito.when(entity.getBoundingBox()).thenReturn(new AABB(x - 0.125D, y, z - 0.125D, x + 0.125D, y + 0.25D, z + 0.125D));
+        return entity;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ClassInstanceMultiMap<Entity>[] sections(final Entity[]... entities) {
+        final ClassInstanceMultiMap<Entity>[] sections = new ClassInstanceMultiMap[entities.length];
+        for (int i = 0; i < entities.length; i++) {
+            sections[i] = new ClassInstanceMultiMap<>(Entity.class);
+            for (final Entity entity : entities[i]) {
+                sections[i].add(entity);
+            }
+        }
+        return sections;
+    }
+
+    private static List<Entity> collect(final EntityMergeGrid<Entity> grid, final ClassInstanceMultiMap<Entity>[] sections, final long tick,
+        final Entity entity) {
+        final List<Entity> found = new ArrayList<>();
+        grid.collect(sections, tick, entity.getId(), entity.getBoundingBox().inflate(1.0D), other -> other != entity, found);
+        return found;
+    }
+
+    @Test
+    void cellsFloorNegativeCoordinates() {
+        Assertions.assertEquals(0, EntityMergeGrid.cell(3.99D));
+        Assertions.assertEquals(1, EntityMergeGrid.cell(4.0D));
+        Assertions.assertEquals(-1, EntityMergeGrid.cell(-0.01D));
+        Assertions.assertEquals(-2, EntityMergeGrid.cell(-4.01D));
+    }
+
+    @Test
+    void keysOfNeighbouringCellsAndIdentitiesAreDistinct() {
+        final Set<Long> keys = new HashSet<>();
+        for (int x = -2; x <= 2; x++) {
+            for (int y = -2; y <= 2; y++) {
+                for (int z = -2; z <= 2; z++) {
+                    for (int identity = -2; identity <= 2; identity++) {
+                        Assertions.assertTrue(keys.add(EntityMergeGrid.key(x, y, z, identity)),
+                            "Duplicate key for " + x + ", " + y + ", " + z + " holding " + identity);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void collectsNearbyEntitiesHoldingTheSameThing() {
+        final Entity merging = EntityMergeGridTest.entity(1, 0.5D, 64.0D, 0.5D);
+        final Entity same = EntityMergeGridTest.entity(1, 1.0D, 64.0D, 0.5D);
+        final Entity negative = EntityMergeGridTest.entity(1, -0.25D, 64.0D, 0.5D);
+        final Entity other = EntityMergeGridTest.entity(2, 0.75D, 64.0D, 0.5D);
+        final Entity far = EntityMergeGridTest.entity(1, 12.5D, 64.0D, 12.5D);
+        final Entity below = EntityMergeGridTest.entity(1, 0.5D, 63.5D, 0.5D);
+        final EntityMergeGrid<Entity> grid = new EntityMergeGrid<>(Entity.class, Entity::getId);
+        final ClassInstanceMultiMap<Entity>[] sections = EntityMergeGridTest.sections(
+            new Entity[] {below},
+            new Entity[] {merging, same, negative, other, far}
+        );
+
+        final List<Entity> found = EntityMergeGridTest.collect(grid, sections, 0L, merging);
+
+        Assertions.assertEquals(3, found.size());
+        Assertions.assertTrue(found.contains(same));
+        Assertions.assertTrue(found.contains(negative));
+        Assertions.assertTrue(found.contains(below));
+    }
+
+    @Test
+    void findsEntitiesWhichMovedSinceTheGridWasBuilt() {
+        final Entity merging = EntityMergeGridTest.entity(1, 0.5D, 64.0D, 0.5D);
+        final Entity moving = EntityMergeGridTest.entity(1, -1.5D, 64.0D, 0.5D);
+        final EntityMergeGrid<Entity> grid = new EntityMergeGrid<>(Entity.class, Entity::getId);
+        final ClassInstanceMultiMap<Entity>[] sections = EntityMergeGridTest.sections(new Entity[] {merging, moving});
+
+        Assertions.assertTrue(EntityMergeGridTest.collect(grid, sections, 0L, merging).isEmpty());
+        // Moves next to the merging entity without the grid being rebuilt
+        Mockito.when(moving.getBoundingBox()).thenReturn(new AABB(1.0D, 64.0D, 0.375D, 1.25D, 64.25D, 0.625D));
+
+        final List<Entity> found = EntityMergeGridTest.collect(grid, sections, 0L, merging);
+        Assertions.assertEquals(1, found.size());
+        Assertions.assertSame(moving, found.get(0));
+    }
+
+    @Test
+    void rebuildsOncePerTickOrWhenInvalidated() {
+        final Entity merging = EntityMergeGridTest.entity(1, 0.5D, 64.0D, 0.5D);
+        final Entity added = EntityMergeGridTest.entity(1, 1.0D, 64.0D, 0.5D);
+        final EntityMergeGrid<Entity> grid = new EntityMergeGrid<>(Entity.class, Entity::getId);
+        final ClassInstanceMultiMap<Entity>[] sections = EntityMergeGridTest.sections(new Entity[] {merging});
+
+        EntityMergeGridTest.collect(grid, sections, 0L, merging);
+        sections[0].add(added);
+        Assertions.assertTrue(EntityMergeGridTest.collect(grid, sections, 0L, merging).isEmpty());
+
+        grid.invalidate();
+        Assertions.assertEquals(1, EntityMergeGridTest.collect(grid, sections, 0L, merging).size());
+
+        sections[0].remove(added);
+        Assertions.assertTrue(EntityMergeGridTest.collect(grid, sections, 1L, merging).isEmpty());
+    }
+}
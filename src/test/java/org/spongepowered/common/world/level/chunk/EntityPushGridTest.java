@@ -0,0 +1,233 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.level.chunk;
+
+import net.minecraft.util.ClassInstanceMultiMap;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.phys.AABB;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.spongepowered.common.test.MinecraftBootstrapExtension;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@ExtendWith(MinecraftBootstrapExtension.class)
+public final class EntityPushGridTest {
+
+    private static Entity entity(final EntityType<?> type, final double x, final double y, final double z) {
+        final Entity entity = Mockito.mock(Entity.class);
+        Mockito.when(entity.getType()).thenAnswer(invocation -> type);
+        Mockito.when(entity.getX()).thenReturn(x);
+        Mockito.when(entity.getY()).thenReturn(y);
+        Mockito.when(entity.getZ()).thenReturn(z);
+        Mockito.when(entity.getBoundingBox()).thenReturn(new AABB(x - 0.3D, y, z - 0.3D, x + 0.3D, y + 1.8D, z + 0.3D));
+        return entity;
+    }
+
+    private static void move(final EntityPushGrid grid, final Entity entity, final double x, final double y, final double z, final long tick) {
+        Assertions.assertTrue(EntityPushGrid.changesCell(entity, x, y, z));
+        grid.move(entity, x, y, z, tick);
+        Mockito.when(entity.getX()).thenReturn(x);
+        Mockito.when(entity.getY()).thenReturn(y);
+        Mockito.when(entity.getZ()).thenReturn(z);
+        Mockito.when(entity.getBoundingBox()).thenReturn(new AABB(x - 0.3D, y, z - 0.3D, x + 0.3D, y + 1.8D, z + 0.3D));
+    }
+
+    private static ClassInstanceMultiMap<Entity> section(final Entity... entities) {
+        final ClassInstanceMultiMap<Entity> section = new ClassInstanceMultiMap<>(Entity.class);
+        for (final Entity entity : entities) {
+            section.add(entity);
+        }
+        return section;
+    }
+
+    @Test
+    void cellsFloorNegativeCoordinates() {
+        Assertions.assertEquals(0, EntityPushGrid.cell(0.0D));
+        Assertions.assertEquals(0, EntityPushGrid.cell(1.99D));
+        Assertions.assertEquals(1, EntityPushGrid.cell(2.0D));
+        Assertions.assertEquals(-1, EntityPushGrid.cell(-0.01D));
+        Assertions.assertEquals(-1, EntityPushGrid.cell(-2.0D));
+        Assertions.assertEquals(-2, EntityPushGrid.cell(-2.01D));
+    }
+
+    @Test
+    void keysOfNeighbouringCellsAreDistinct() {
+        final Set<Long> keys = new HashSet<>();
+        for (int x = -2; x <= 2; x++) {
+            for (int y = -2; y <= 2; y++) {
+                for (int z = -2; z <= 2; z++) {
+                    Assertions.assertTrue(keys.add(EntityPushGrid.key(x, y, z)), "Duplicate key for " + x + ", " + y + ", " + z);
+                }
+            }
+        }
+        // Cells of one section far apart on each axis
+        Assertions.assertTrue(keys.add(EntityPushGrid.key(-15_000_000, 0, 0)));
+        Assertions.assertTrue(keys.add(EntityPushGrid.key(15_000_000, 0, 0)));
+        Assertions.assertTrue(keys.add(EntityPushGrid.key(0, 0, -15_000_000)));
+        Assertions.assertTrue(keys.add(EntityPushGrid.key(0, 0, 15_000_000)));
+        Assertions.assertTrue(keys.add(EntityPushGrid.key(0, 127, 0)));
+    }
+
+    @Test
+    void collectsIntersectingEntities() {
+        final Entity pusher = EntityPushGridTest.entity(EntityType.ZOMBIE, 0.5D, 64.0D, 0.5D);
+        final Entity near = EntityPushGridTest.entity(EntityType.ZOMBIE, 0.8D, 64.0D, 0.5D);
+        final Entity negative = EntityPushGridTest.entity(EntityType.COW, -0.05D, 64.0D, 0.2D);
+        final Entity far = EntityPushGridTest.entity(EntityType.ZOMBIE, 10.5D, 64.0D, 10.5D);
+        final EntityPushGrid grid = new EntityPushGrid();
+        final ClassInstanceMultiMap<Entity> section = EntityPushGridTest.section(pusher, near, negative, far);
+
+        final List<Entity> found = new ArrayList<>();
+        Assertions.assertFalse(grid.collect(section, 0L, pusher, pusher.getBoundingBox(), null, found, Integer.MAX_VALUE));
+
+        Assertions.assertEquals(2, found.size());
+        Assertions.assertTrue(found.contains(near));
+        Assertions.assertTrue(found.contains(negative));
+    }
+
+    @Test
+    void collectAppliesFilterAndLimit() {
+        final Entity pusher = EntityPushGridTest.entity(EntityType.ZOMBIE, 0.5D, 64.0D, 0.5D);
+        final Entity first = EntityPushGridTest.entity(EntityType.ZOMBIE, 0.6D, 64.0D, 0.5D);
+        final Entity second = EntityPushGridTest.entity(EntityType.ZOMBIE, 0.4D, 64.0D, 0.5D);
+        final Entity cow = EntityPushGridTest.entity(EntityType.COW, 0.5D, 64.0D, 0.6D);
+        final EntityPushGrid grid = new EntityPushGrid();
+        final ClassInstanceMultiMap<Entity> section = EntityPushGridTest.section(pusher, first, second, cow);
+
+        final List<Entity> filtered = new ArrayList<>();
+        grid.collect(section, 0L, pusher, pusher.getBoundingBox(), entity -> entity.getType() == EntityType.COW, filtered, Integer.MAX_VALUE);
+        Assertions.assertEquals(1, filtered.size());
+        Assertions.assertSame(cow, filtered.get(0));
+
+        final List<Entity> limited = new ArrayList<>();
+        Assertions.assertTrue(grid.collect(section, 0L, pusher, pusher.getBoundingBox(), null, limited, 2));
+        Assertions.assertEquals(2, limited.size());
+    }
+
+    @Test
+    void findsEntitiesWhoseBoxChangedSinceTheGridWasBuilt() {
+        final Entity pusher = EntityPushGridTest.entity(EntityType.ZOMBIE, 0.5D, 64.0D, 0.5D);
+        final Entity moving = EntityPushGridTest.entity(EntityType.ZOMBIE, 3.5D, 64.0D, 0.5D);
+        final EntityPushGrid grid = new EntityPushGrid();
+        final ClassInstanceMultiMap<Entity> section = EntityPushGridTest.section(pusher, moving);
+
+        grid.collect(section, 0L, pusher, pusher.getBoundingBox(), null, new ArrayList<>(), Integer.MAX_VALUE);
+        // Grows into the pusher without the grid being rebuilt
+        Mockito.when(moving.getBoundingBox()).thenReturn(new AABB(0.5D, 64.0D, 0.2D, 1.1D, 65.8D, 0.8D));
+
+        final List<Entity> found = new ArrayList<>();
+        grid.collect(section, 0L, pusher, pusher.getBoundingBox(), null, found, Integer.MAX_VALUE);
+        Assertions.assertEquals(1, found.size());
+        Assertions.assertSame(moving, found.get(0));
+    }
+
+    @Test
+    void findsEntitiesMovedFarSinceTheGridWasBuilt() {
+        final Entity pusher = EntityPushGridTest.entity(EntityType.ZOMBIE, 0.5D, 64.0D, 0.5D);
+        final Entity falling = EntityPushGridTest.entity(EntityType.ZOMBIE, 0.6D, 74.0D, 0.5D);
+        final Entity teleported = EntityPushGridTest.entity(EntityType.ZOMBIE, 12.5D, 64.0D, 12.5D);
+        final Entity left = EntityPushGridTest.entity(EntityType.ZOMBIE, 0.4D, 64.0D, 0.5D);
+        final EntityPushGrid grid = new EntityPushGrid();
+        final ClassInstanceMultiMap<Entity> section = EntityPushGridTest.section(pusher, falling, teleported, left);
+
+        final List<Entity> before = new ArrayList<>();
+        grid.collect(section, 0L, pusher, pusher.getBoundingBox(), null, before, Integer.MAX_VALUE);
+        Assertions.assertEquals(1, before.size());
+        Assertions.assertSame(left, before.get(0));
+
+        EntityPushGridTest.move(grid, falling, 0.6D, 64.0D, 0.5D, 0L);
+        EntityPushGridTest.move(grid, teleported, 0.5D, 64.0D, 0.8D, 0L);
+        EntityPushGridTest.move(grid, left, 12.5D, 64.0D, 12.5D, 0L);
+
+        final List<Entity> after = new ArrayList<>();
+        grid.collect(section, 0L, pusher, pusher.getBoundingBox(), null, after, Integer.MAX_VALUE);
+        Assertions.assertEquals(2, after.size());
+        Assertions.assertTrue(after.contains(falling));
+        Assertions.assertTrue(after.contains(teleported));
+        Assertions.assertEquals(3, grid.countStacked(section, 0L, pusher));
+    }
+
+    @Test
+    void ignoresMovesBeforeTheGridIsRebuilt() {
+        final Entity pusher = EntityPushGridTest.entity(EntityType.ZOMBIE, 0.5D, 64.0D, 0.5D);
+        final Entity moving = EntityPushGridTest.entity(EntityType.ZOMBIE, 12.5D, 64.0D, 12.5D);
+        final EntityPushGrid grid = new EntityPushGrid();
+        final ClassInstanceMultiMap<Entity> section = EntityPushGridTest.section(pusher, moving);
+
+        grid.collect(section, 0L, pusher, pusher.getBoundingBox(), null, new ArrayList<>(), Integer.MAX_VALUE);
+        EntityPushGridTest.move(grid, moving, 0.6D, 64.0D, 0.5D, 1L);
+
+        final List<Entity> found = new ArrayList<>();
+        grid.collect(section, 1L, pusher, pusher.getBoundingBox(), null, found, Integer.MAX_VALUE);
+        Assertions.assertEquals(1, found.size());
+        Assertions.assertSame(moving, found.get(0));
+    }
+
+    @Test
+    void rebuildsOncePerTickOrWhenInvalidated() {
+        final Entity pusher = EntityPushGridTest.entity(EntityType.ZOMBIE, 0.5D, 64.0D, 0.5D);
+        final Entity added = EntityPushGridTest.entity(EntityType.ZOMBIE, 0.6D, 64.0D, 0.5D);
+        final EntityPushGrid grid = new EntityPushGrid();
+        final ClassInstanceMultiMap<Entity> section = EntityPushGridTest.section(pusher);
+
+        grid.collect(section, 0L, pusher, pusher.getBoundingBox(), null, new ArrayList<>(), Integer.MAX_VALUE);
+        section.add(added);
+
+        final List<Entity> sameTick = new ArrayList<>();
+        grid.collect(section, 0L, pusher, pusher.getBoundingBox(), null, sameTick, Integer.MAX_VALUE);
+        Assertions.assertTrue(sameTick.isEmpty());
+
+        grid.invalidate();
+        final List<Entity> invalidated = new ArrayList<>();
+        grid.collect(section, 0L, pusher, pusher.getBoundingBox(), null, invalidated, Integer.MAX_VALUE);
+        Assertions.assertEquals(1, invalidated.size());
+
+        section.remove(added);
+        final List<Entity> nextTick = new ArrayList<>();
+        grid.collect(section, 1L, pusher, pusher.getBoundingBox(), null, nextTick, Integer.MAX_VALUE);
+        Assertions.assertTrue(nextTick.isEmpty());
+    }
+
+    @Test
+    void countsStackedEntitiesOfTheSameTypeInTheSameCell() {
+        final Entity first = EntityPushGridTest.entity(EntityType.ZOMBIE, 0.5D, 64.0D, 0.5D);
+        final Entity second = EntityPushGridTest.entity(EntityType.ZOMBIE, 1.5D, 64.5D, 1.5D);
+        final Entity cow = EntityPushGridTest.entity(EntityType.COW, 0.5D, 64.0D, 0.5D);
+        final Entity neighbour = EntityPushGridTest.entity(EntityType.ZOMBIE, 2.5D, 64.0D, 0.5D);
+        final EntityPushGrid grid = new EntityPushGrid();
+        final ClassInstanceMultiMap<Entity> section = EntityPushGridTest.section(first, second, cow, neighbour);
+
+        Assertions.assertEquals(2, grid.countStacked(section, 0L, first));
+        Assertions.assertEquals(1, grid.countStacked(section, 0L, cow));
+        Assertions.assertEquals(1, grid.countStacked(section, 0L, neighbour));
+    }
+}
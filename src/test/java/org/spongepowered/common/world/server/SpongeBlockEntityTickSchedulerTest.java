@@ -0,0 +1,87 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.server;
+
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.spongepowered.common.test.MinecraftBootstrapExtension;
+
+import java.util.HashSet;
+import java.util.Set;
+
+@ExtendWith(MinecraftBootstrapExtension.class)
+public final class SpongeBlockEntityTickSchedulerTest {
+
+    private static int[] sizes(final SpongeBlockEntityTickScheduler.Bucket bucket) {
+        final int[] sizes = new int[bucket.slots.length];
+        for (int i = 0; i < sizes.length; i++) {
+            sizes[i] = bucket.slots[i].size();
+        }
+        return sizes;
+    }
+
+    @Test
+    void createsOneSlotPerTick() {
+        Assertions.assertEquals(20, new SpongeBlockEntityTickScheduler.Bucket(20).slots.length);
+    }
+
+    @Test
+    void staggersBlockEntitiesOverTheSlots() {
+        final SpongeBlockEntityTickScheduler.Bucket bucket = new SpongeBlockEntityTickScheduler.Bucket(4);
+        final Set<BlockEntity> added = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            final BlockEntity blockEntity = Mockito.mock(BlockEntity.class);
+            added.add(blockEntity);
+            bucket.add(blockEntity);
+        }
+
+        Assertions.assertArrayEquals(new int[] {3, 3, 2, 2}, SpongeBlockEntityTickSchedulerTest.sizes(bucket));
+        final Set<BlockEntity> scheduled = new HashSet<>();
+        for (final ObjectArrayList<BlockEntity> slot : bucket.slots) {
+            scheduled.addAll(slot);
+        }
+        Assertions.assertEquals(added, scheduled);
+    }
+
+    @Test
+    void fillsSlotsEmptiedByRemovedBlockEntities() {
+        final SpongeBlockEntityTickScheduler.Bucket bucket = new SpongeBlockEntityTickScheduler.Bucket(4);
+        for (int i = 0; i < 8; i++) {
+            bucket.add(Mockito.mock(BlockEntity.class));
+        }
+        // Block entities of the third slot were dropped when it was due
+        bucket.slots[2].clear();
+
+        bucket.add(Mockito.mock(BlockEntity.class));
+        bucket.add(Mockito.mock(BlockEntity.class));
+        bucket.add(Mockito.mock(BlockEntity.class));
+
+        Assertions.assertArrayEquals(new int[] {3, 2, 2, 2}, SpongeBlockEntityTickSchedulerTest.sizes(bucket));
+    }
+}
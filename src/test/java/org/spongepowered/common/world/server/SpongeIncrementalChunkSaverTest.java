@@ -0,0 +1,94 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.server;
+
+import net.minecraft.server.level.ChunkHolder;
+import net.minecraft.server.level.ChunkMap;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunk;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.spongepowered.common.accessor.server.level.ChunkMapAccessor;
+import org.spongepowered.common.test.MinecraftBootstrapExtension;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+@ExtendWith(MinecraftBootstrapExtension.class)
+public final class SpongeIncrementalChunkSaverTest {
+
+    private static final ChunkPos POS = new ChunkPos(3, -7);
+
+    private static ChunkMap chunkMap(final LevelChunk chunk) {
+        final ChunkHolder holder = Mockito.mock(ChunkHolder.class);
+        Mockito.when(holder.getPos()).thenReturn(SpongeIncrementalChunkSaverTest.POS);
+        Mockito.when(holder.wasAccessibleSinceLastSave()).thenReturn(true);
+        Mockito.when(holder.getChunkToSave()).thenReturn(CompletableFuture.completedFuture(chunk));
+
+        final ChunkMap chunkMap = Mockito.mock(ChunkMap.class, Mockito.withSettings().extraInterfaces(ChunkMapAccessor.class));
+        final ChunkMapAccessor accessor = (ChunkMapAccessor) chunkMap;
+        Mockito.when(accessor.invoker$getChunks()).thenReturn(Collections.singletonList(holder));
+        Mockito.when(accessor.invoker$getVisibleChunkIfPresent(SpongeIncrementalChunkSaverTest.POS.toLong())).thenReturn(holder);
+        Mockito.when(accessor.invoker$save(Mockito.any(ChunkAccess.class))).thenReturn(true);
+        return chunkMap;
+    }
+
+    @Test
+    void savesQueuedChunk() {
+        final LevelChunk chunk = Mockito.mock(LevelChunk.class);
+        final ChunkMap chunkMap = SpongeIncrementalChunkSaverTest.chunkMap(chunk);
+        final SpongeIncrementalChunkSaver saver = new SpongeIncrementalChunkSaver(chunkMap);
+
+        saver.schedule();
+        Assertions.assertEquals(1, saver.backlog());
+        saver.tick(1, Long.MAX_VALUE);
+
+        Mockito.verify((ChunkMapAccessor) chunkMap).invoker$save(chunk);
+        Assertions.assertEquals(0, saver.backlog());
+        Assertions.assertEquals(1, saver.totalSaved());
+    }
+
+    @Test
+    void doesNotSaveQueuedChunkAfterSaveOff() {
+        final LevelChunk chunk = Mockito.mock(LevelChunk.class);
+        final ChunkMap chunkMap = SpongeIncrementalChunkSaverTest.chunkMap(chunk);
+        final SpongeIncrementalChunkSaver saver = new SpongeIncrementalChunkSaver(chunkMap);
+
+        saver.schedule();
+        saver.cancel();
+        saver.tick(1, Long.MAX_VALUE);
+
+        Mockito.verify((ChunkMapAccessor) chunkMap, Mockito.never()).invoker$save(Mockito.any(ChunkAccess.class));
+        Assertions.assertEquals(0, saver.backlog());
+        Assertions.assertEquals(0, saver.totalSaved());
+
+        // Saving again queues the chunk which was not saved
+        saver.schedule();
+        Assertions.assertEquals(1, saver.backlog());
+    }
+}
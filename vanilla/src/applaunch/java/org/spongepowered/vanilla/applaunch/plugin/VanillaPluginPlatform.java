@@ -36,17 +36,25 @@
 import org.spongepowered.plugin.builtin.jvm.JVMKeys;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public final class VanillaPluginPlatform implements PluginPlatform {
 
@@ -175,33 +183,96 @@ public void discoverLanguageServices() {
     }
 
     public void locatePluginResources() {
-        for (final Map.Entry<String, PluginResourceLocatorService<PluginResource>> locatorEntry : this.locatorServices.entrySet()) {
-            final PluginResourceLocatorService<PluginResource> locatorService = locatorEntry.getValue();
-            final Set<PluginResource> resources = locatorService.locatePluginResources(this.standardEnvironment);
-            if (!resources.isEmpty()) {
-                this.locatorResources.put(locatorEntry.getKey(), resources);
+        final long start = System.nanoTime();
+        final ExecutorService executor = VanillaPluginPlatform.createScanExecutor(this.locatorServices.size());
+        try {
+            // Locators scan separate sources, run them at the same time but keep their order
+            final Map<String, CompletableFuture<Set<PluginResource>>> located = new LinkedHashMap<>();
+            for (final Map.Entry<String, PluginResourceLocatorService<PluginResource>> locatorEntry : this.locatorServices.entrySet()) {
+                final PluginResourceLocatorService<PluginResource> locatorService = locatorEntry.getValue();
+                located.put(locatorEntry.getKey(),
+                        CompletableFuture.supplyAsync(() -> locatorService.locatePluginResources(this.standardEnvironment), executor));
             }
+            int count = 0;
+            for (final Map.Entry<String, CompletableFuture<Set<PluginResource>>> locatedEntry : located.entrySet()) {
+                final Set<PluginResource> resources;
+                try {
+                    resources = locatedEntry.getValue().join();
+                } catch (final CompletionException ex) {
+                    this.standardEnvironment.logger().error("Error encountered locating plugin resources with '{}'!", locatedEntry.getKey(),
+                            ex.getCause());
+                    continue;
+                }
+                if (!resources.isEmpty()) {
+                    this.locatorResources.put(locatedEntry.getKey(), resources);
+                    count += resources.size();
+                }
+            }
+            this.standardEnvironment.logger().info("Located {} plugin resource(s) in {}ms", count,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } finally {
+            executor.shutdown();
         }
     }
 
     public void createPluginCandidates() {
-        for (final Map.Entry<String, PluginLanguageService<PluginResource>> languageEntry : this.languageServices.entrySet()) {
-            final PluginLanguageService<PluginResource> languageService = languageEntry.getValue();
-            for (final Map.Entry<String, Set<PluginResource>> resourcesEntry : this.locatorResources.entrySet()) {
-
-                for (final PluginResource pluginResource : resourcesEntry.getValue()) {
-                    try {
-                        final List<PluginCandidate<PluginResource>> candidates = languageService.createPluginCandidates(this.standardEnvironment,
-                                pluginResource);
-                        if (candidates.isEmpty()) {
-                            continue;
-                        }
-                        this.pluginCandidates.computeIfAbsent(languageService, k -> new LinkedList<>()).addAll(candidates);
-                    } catch (final Exception ex) {
-                        ex.printStackTrace();
+        final long start = System.nanoTime();
+        int resourceCount = 0;
+        for (final Set<PluginResource> resources : this.locatorResources.values()) {
+            resourceCount += resources.size();
+        }
+        final ExecutorService executor = VanillaPluginPlatform.createScanExecutor(resourceCount);
+        try {
+            // Every resource is read on its own, collect the candidates in the order the resources were located
+            final Map<PluginLanguageService<PluginResource>, List<CompletableFuture<List<PluginCandidate<PluginResource>>>>> created =
+                    new LinkedHashMap<>();
+            for (final Map.Entry<String, PluginLanguageService<PluginResource>> languageEntry : this.languageServices.entrySet()) {
+                final PluginLanguageService<PluginResource> languageService = languageEntry.getValue();
+                final List<CompletableFuture<List<PluginCandidate<PluginResource>>>> futures = new ArrayList<>();
+                for (final Map.Entry<String, Set<PluginResource>> resourcesEntry : this.locatorResources.entrySet()) {
+                    for (final PluginResource pluginResource : resourcesEntry.getValue()) {
+                        futures.add(CompletableFuture.supplyAsync(() -> {
+                            try {
+                                return languageService.createPluginCandidates(this.standardEnvironment, pluginResource);
+                            } catch (final Exception ex) {
+                                ex.printStackTrace();
+                                return Collections.emptyList();
+                            }
+                        }, executor));
+                    }
+                }
+                created.put(languageService, futures);
+            }
+
+            int count = 0;
+            for (final Map.Entry<PluginLanguageService<PluginResource>, List<CompletableFuture<List<PluginCandidate<PluginResource>>>>> entry
+                    : created.entrySet()) {
+                for (final CompletableFuture<List<PluginCandidate<PluginResource>>> future : entry.getValue()) {
+                    final List<PluginCandidate<PluginResource>> candidates = future.join();
+                    if (candidates.isEmpty()) {
+                        continue;
                     }
+                    this.pluginCandidates.computeIfAbsent(entry.getKey(), k -> new LinkedList<>()).addAll(candidates);
+                    count += candidates.size();
                 }
             }
+            this.standardEnvironment.logger().info("Created {} plugin candidate(s) from {} resource(s) in {}ms", count, resourceCount,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } finally {
+            executor.shutdown();
         }
     }
+
+    private static ExecutorService createScanExecutor(final int tasks) {
+        final int threads = Math.max(1, Math.min(tasks, Runtime.getRuntime().availableProcessors()));
+        final AtomicInteger threadId = new AtomicInteger();
+        // Language services may look up services through the context class loader
+        final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            final Thread thread = new Thread(runnable, "Sponge-PluginScan-" + threadId.getAndIncrement());
+            thread.setDaemon(true);
+            thread.setContextClassLoader(contextClassLoader);
+            return thread;
+        });
+    }
 }
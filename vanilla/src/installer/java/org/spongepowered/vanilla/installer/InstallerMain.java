@@ -52,6 +52,7 @@
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 public final class InstallerMain {
 
@@ -82,6 +83,7 @@ public void run() {
     }
 
     public void downloadAndRun() throws Exception {
+        final long start = System.nanoTime();
         Path remappedMinecraftJar = null;
         Version mcVersion = null;
         try {
@@ -116,7 +118,7 @@ public void downloadAndRun() throws Exception {
         this.installer.getLibraryManager().addLibrary(InstallerMain.COLLECTION_BOOTSTRAP, new LibraryManager.Library("minecraft", remappedMinecraftJar));
         this.installer.getLibraryManager().finishedProcessing();
 
-        Logger.info("Environment has been verified.");
+        Logger.info("Environment has been verified in {} ms.", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
 
         this.installer.getLibraryManager().getAll(InstallerMain.COLLECTION_BOOTSTRAP).stream()
             .map(LibraryManager.Library::getFile)
@@ -222,12 +224,12 @@ private CompletableFuture<Path> downloadMinecraft(final Version version, final P
                 InstallerUtils
                         .downloadCheckHash(version.downloads.server.url, downloadTarget, MessageDigest.getInstance("SHA-1"),
                                 version.downloads.server.sha1, false);
+                this.installer.getLibraryManager().verifiedArtifacts().markVerified(downloadTarget, "SHA-1", version.downloads.server.sha1);
             } else {
                 if (this.installer.getLauncherConfig().checkLibraryHashes) {
                     Logger.info("Detected existing Minecraft Server jar, verifying hashes...");
 
-                    // Pipe the download stream into the file and compute the SHA-1
-                    if (InstallerUtils.validateSha1(version.downloads.server.sha1, downloadTarget)) {
+                    if (this.installer.getLibraryManager().verifiedArtifacts().verify(downloadTarget, "SHA-1", version.downloads.server.sha1)) {
                         Logger.info("Minecraft Server jar verified!");
                     } else {
                         Logger.error("Checksum verification failed: Expected {}. Deleting cached Minecraft Server jar...",
@@ -235,6 +237,7 @@ private CompletableFuture<Path> downloadMinecraft(final Version version, final P
                         Files.delete(downloadTarget);
                         InstallerUtils.downloadCheckHash(version.downloads.server.url, downloadTarget,
                                 MessageDigest.getInstance("SHA-1"), version.downloads.server.sha1, false);
+                        this.installer.getLibraryManager().verifiedArtifacts().markVerified(downloadTarget, "SHA-1", version.downloads.server.sha1);
                     }
                 } else {
                     Logger.info("Detected existing Minecraft jar. Skipping hash check as that is turned off...");
@@ -260,7 +263,7 @@ private CompletableFuture<Path> downloadMappings(final Version version, final Pa
             if (Files.exists(downloadTarget)) {
                 if (checkHashes) {
                     Logger.info("Detected existing mappings, verifying hashes...");
-                    if (InstallerUtils.validateSha1(mappings.sha1, downloadTarget)) {
+                    if (this.installer.getLibraryManager().verifiedArtifacts().verify(downloadTarget, "SHA-1", mappings.sha1)) {
                         Logger.info("Mappings verified!");
                         return downloadTarget;
                     } else {
@@ -277,6 +280,7 @@ private CompletableFuture<Path> downloadMappings(final Version version, final Pa
                 if (checkHashes) {
                     InstallerUtils.downloadCheckHash(mappings.url, downloadTarget,
                         MessageDigest.getInstance("SHA-1"), mappings.sha1, false);
+                    this.installer.getLibraryManager().verifiedArtifacts().markVerified(downloadTarget, "SHA-1", mappings.sha1);
                 } else {
                     InstallerUtils.download(mappings.url, downloadTarget, false);
                 }
@@ -299,6 +303,7 @@ private Path remapMinecraft(final Path inputJar, final Path serverMappings, fina
         }
 
         Logger.info("Remapping Minecraft. This may take a while...");
+        final long start = System.nanoTime();
         final IMappingFile mappings = IMappingFile.load(serverMappings.toFile()).reverse();
 
         Renamer.builder()
@@ -369,6 +374,7 @@ public Collection<? extends Entry> getExtras() {
             }
         }
 
+        Logger.info("Remapped Minecraft in {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
         return outputJar;
     }
 }
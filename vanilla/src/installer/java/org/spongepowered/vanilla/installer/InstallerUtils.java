@@ -39,12 +39,18 @@
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
 
 public final class InstallerUtils {
 
     // From http://stackoverflow.com/questions/9655181/convert-from-byte-array-to-hex-string-in-java
     private static final char[] hexArray = "0123456789abcdef".toCharArray();
 
+    // Windows does not allow deleting a file while it is still mapped, which would
+    // break deleting a file that failed verification
+    private static final boolean MAP_FILES = !System.getProperty("os.name", "").toLowerCase(Locale.ROOT).startsWith("windows");
+    private static final long MAX_MAPPED_REGION = 64L * 1024 * 1024;
+
     private InstallerUtils() {
     }
 
@@ -59,9 +65,43 @@ public static String toHexString(final byte[] bytes) {
     }
 
     public static boolean validateSha1(final String expectedHash, final Path path) throws IOException {
-        try (final InputStream is = Files.newInputStream(path)) {
-            return InstallerUtils.validateSha1(expectedHash, is);
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-1");
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new AssertionError(ex); // Guaranteed present by MessageDigest spec
+        }
+        return expectedHash.equals(InstallerUtils.hash(path, digest));
+    }
+
+    /**
+     * Computes the digest of a file, reading it through memory-mapped regions
+     * where the platform allows it.
+     *
+     * @param path The file
+     * @param digest The digest to use
+     * @return The digest of the file, as a hex string
+     * @throws IOException If there is a problem while reading the file
+     */
+    public static String hash(final Path path, final MessageDigest digest) throws IOException {
+        if (InstallerUtils.MAP_FILES) {
+            try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                final long size = channel.size();
+                for (long position = 0; position < size; position += InstallerUtils.MAX_MAPPED_REGION) {
+                    final long length = Math.min(size - position, InstallerUtils.MAX_MAPPED_REGION);
+                    digest.update(channel.map(FileChannel.MapMode.READ_ONLY, position, length));
+                }
+            }
+        } else {
+            try (final InputStream is = Files.newInputStream(path)) {
+                final byte[] buf = new byte[65536];
+                int read;
+                while ((read = is.read(buf)) != -1) {
+                    digest.update(buf, 0, read);
+                }
+            }
         }
+        return InstallerUtils.toHexString(digest.digest());
     }
 
     public static boolean validateSha1(final String expectedHash, final InputStream stream) throws IOException {
@@ -61,6 +61,7 @@ public final class LibraryManager {
     private final Map<String, Set<Library>> libraries;
     private final ExecutorService preparationWorker;
     private final Gson gson;
+    private final VerifiedArtifacts verifiedArtifacts;
 
     public LibraryManager(final boolean checkLibraryHashes, final Path rootDirectory, final URL librariesUrl) {
         this.checkLibraryHashes = checkLibraryHashes;
@@ -77,6 +78,8 @@ public LibraryManager(final boolean checkLibraryHashes, final Path rootDirectory
             new LinkedBlockingQueue<>() // this is the number of tasks allowed to be waiting before the pool will spawn off a new thread (unbounded)
         );
         this.gson = new Gson();
+        this.verifiedArtifacts = new VerifiedArtifacts(rootDirectory.resolve("verified-artifacts.json"), this.gson);
+        this.verifiedArtifacts.load();
     }
 
     public Path getRootDirectory() {
@@ -94,6 +97,7 @@ protected void addLibrary(final String set, final Library library) {
     public void validate() throws Exception {
         Logger.info("Scanning and verifying libraries in '{}'. Please wait, this may take a moment...",
             LauncherCommandLine.librariesDirectory.toAbsolutePath());
+        final long start = System.nanoTime();
 
         final Libraries dependencies;
         try (final JsonReader reader = new JsonReader(new InputStreamReader(this.librariesUrl.openStream(), StandardCharsets.UTF_8))) {
@@ -125,6 +129,7 @@ public void validate() throws Exception {
         }
 
         this.libraries.putAll(downloadedDeps);
+        Logger.info("Verified {} libraries in {} ms", operations.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
     }
 
     private Set<Library> scheduleDownloads(
@@ -151,15 +156,11 @@ private Set<Library> scheduleDownloads(
                         return depFile;
                     }
 
-                    // Pipe the download stream into the file and compute the SHA-1
-                    final byte[] bytes = Files.readAllBytes(depFile);
-                    final String fileMd5 = InstallerUtils.toHexString(md5.digest(bytes));
-
-                    if (dependency.md5.equals(fileMd5)) {
+                    if (this.verifiedArtifacts.verify(depFile, "MD5", dependency.md5)) {
                         Logger.debug("'{}' verified!", depFile);
                     } else {
-                        Logger.error("Checksum verification failed: Expected {}, {}. Deleting cached '{}'...",
-                            dependency.md5, fileMd5, depFile);
+                        Logger.error("Checksum verification failed: Expected {}. Deleting cached '{}'...",
+                            dependency.md5, depFile);
                         Files.delete(depFile);
 
                         final SonatypeResponse response = this.getResponseFor(this.gson, dependency);
@@ -174,6 +175,7 @@ private Set<Library> scheduleDownloads(
                         final URL url = item.downloadUrl;
 
                         InstallerUtils.downloadCheckHash(url, depFile, md5, item.checksum.md5, true);
+                        this.verifiedArtifacts.markVerified(depFile, "MD5", item.checksum.md5);
                     }
                 } else {
                     final SonatypeResponse response = this.getResponseFor(this.gson, dependency);
@@ -190,6 +192,7 @@ private Set<Library> scheduleDownloads(
 
                     if (checkHashes) {
                         InstallerUtils.downloadCheckHash(url, depFile, md5, item.checksum.md5, true);
+                        this.verifiedArtifacts.markVerified(depFile, "MD5", item.checksum.md5);
                     } else {
                         InstallerUtils.download(url, depFile, true);
                     }
@@ -225,6 +228,10 @@ public ExecutorService preparationWorker() {
         return this.preparationWorker;
     }
 
+    VerifiedArtifacts verifiedArtifacts() {
+        return this.verifiedArtifacts;
+    }
+
     public void finishedProcessing() {
         if (this.preparationWorker.isTerminated()) {
             return;
@@ -242,6 +249,7 @@ public void finishedProcessing() {
             Logger.warn("Failed to shut down library preparation pool in 10 seconds, forcing shutdown now.");
             this.preparationWorker.shutdownNow();
         }
+        this.verifiedArtifacts.save();
     }
 
     public static class Library {
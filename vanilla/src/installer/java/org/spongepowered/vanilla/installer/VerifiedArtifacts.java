@@ -0,0 +1,169 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.vanilla.installer;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import org.tinylog.Logger;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A manifest of the files whose hash has already been verified, along with
+ * the size and modification time they had at that point.
+ *
+ * <p>Files that have not changed since they were last verified do not
+ * need to be hashed again on the next launch.</p>
+ */
+final class VerifiedArtifacts {
+
+    private static final Type ENTRIES_TYPE = new TypeToken<Map<String, Entry>>() {}.getType();
+
+    private final Path file;
+    private final Gson gson;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private volatile boolean dirty;
+
+    VerifiedArtifacts(final Path file, final Gson gson) {
+        this.file = file;
+        this.gson = gson;
+    }
+
+    void load() {
+        if (Files.notExists(this.file)) {
+            return;
+        }
+        try (final JsonReader reader = new JsonReader(Files.newBufferedReader(this.file, StandardCharsets.UTF_8))) {
+            final Map<String, Entry> loaded = this.gson.fromJson(reader, VerifiedArtifacts.ENTRIES_TYPE);
+            if (loaded != null) {
+                this.entries.putAll(loaded);
+            }
+        } catch (final IOException | JsonParseException ex) {
+            Logger.warn(ex, "Failed to read verified artifacts from '{}', all files will be verified again", this.file);
+        }
+    }
+
+    void save() {
+        if (!this.dirty) {
+            return;
+        }
+        this.dirty = false;
+        final Path tempFile = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(this.file.getParent());
+            try (final JsonWriter writer = new JsonWriter(Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8))) {
+                this.gson.toJson(this.entries, VerifiedArtifacts.ENTRIES_TYPE, writer);
+            }
+            Files.move(tempFile, this.file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (final IOException ex) {
+            Logger.warn(ex, "Failed to save verified artifacts to '{}'", this.file);
+        }
+    }
+
+    /**
+     * Verifies the hash of a file, skipping the hashing if the file was
+     * verified against the same hash before and has not changed since.
+     *
+     * @param path The file
+     * @param algorithm The digest algorithm of the expected hash
+     * @param expected The expected hash
+     * @return Whether the file has the expected hash
+     * @throws IOException If the file could not be read
+     */
+    boolean verify(final Path path, final String algorithm, final String expected) throws IOException {
+        final String key = path.toAbsolutePath().toString();
+        final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        final Entry entry = this.entries.get(key);
+        if (entry != null && entry.matches(attributes, algorithm, expected)) {
+            Logger.debug("'{}' is unchanged since it was last verified", path);
+            return true;
+        }
+
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(algorithm);
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IOException(ex);
+        }
+        final String actual = InstallerUtils.hash(path, digest);
+        if (!expected.equalsIgnoreCase(actual)) {
+            this.entries.remove(key);
+            return false;
+        }
+        this.put(key, attributes, algorithm, actual);
+        return true;
+    }
+
+    /**
+     * Records a file that was just verified, such as after it was downloaded.
+     *
+     * @param path The file
+     * @param algorithm The digest algorithm of the hash
+     * @param hash The hash of the file
+     */
+    void markVerified(final Path path, final String algorithm, final String hash) {
+        try {
+            this.put(path.toAbsolutePath().toString(), Files.readAttributes(path, BasicFileAttributes.class), algorithm, hash);
+        } catch (final IOException ex) {
+            Logger.debug(ex, "Failed to read attributes of '{}'", path);
+        }
+    }
+
+    private void put(final String key, final BasicFileAttributes attributes, final String algorithm, final String hash) {
+        final Entry entry = new Entry();
+        entry.size = attributes.size();
+        entry.modified = attributes.lastModifiedTime().toMillis();
+        entry.algorithm = algorithm;
+        entry.hash = hash;
+        this.entries.put(key, entry);
+        this.dirty = true;
+    }
+
+    static final class Entry {
+
+        long size, modified;
+        String algorithm, hash;
+
+        boolean matches(final BasicFileAttributes attributes, final String algorithm, final String hash) {
+            return this.size == attributes.size()
+                && this.modified == attributes.lastModifiedTime().toMillis()
+                && algorithm.equals(this.algorithm)
+                && hash.equalsIgnoreCase(this.hash);
+        }
+    }
+}
@@ -55,6 +55,7 @@
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Singleton
@@ -116,7 +117,9 @@ public void loadPlugins(final VanillaPluginPlatform platform) {
         pluginLanguageLookup.keySet().stream().filter(x -> this.plugins.containsKey(x.metadata().id())).forEach(resources::add);
         resources.addAll(pluginLanguageLookup.keySet());
 
+        final long resolveStart = System.nanoTime();
         final ResolutionResult<PluginResource> resolutionResult = DependencyResolver.resolveAndSortCandidates(resources, platform.logger());
+        final long constructStart = System.nanoTime();
         final Map<PluginCandidate<PluginResource>, String> failedInstances = new HashMap<>();
         final Map<PluginCandidate<PluginResource>, String> consequentialFailedInstances = new HashMap<>();
         final ClassLoader launchClassloader = VanillaLaunch.instance().getClass().getClassLoader();
@@ -154,9 +157,12 @@ public void loadPlugins(final VanillaPluginPlatform platform) {
                 final PluginLanguageService<PluginResource> languageService = pluginLanguageLookup.get(candidate);
                 final PluginLoader<PluginResource, PluginContainer> pluginLoader = pluginLoaders.get(languageService);
                 try {
+                    final long pluginStart = System.nanoTime();
                     final PluginContainer container = pluginLoader.loadPlugin(platform.getStandardEnvironment(), candidate, launchClassloader);
                     this.addPlugin(container);
                     this.containerToResource.put(container, candidate.resource());
+                    platform.logger().debug("Constructed plugin '{}' in {}ms", candidate.metadata().id(),
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - pluginStart));
                 } catch (final InvalidPluginException e) {
                     failedInstances.put(candidate, "Failed to construct: see stacktrace(s) above this message for details.");
                     e.printStackTrace();
@@ -164,8 +170,12 @@ public void loadPlugins(final VanillaPluginPlatform platform) {
             }
         }
 
+        final long end = System.nanoTime();
+
         resolutionResult.printErrorsIfAny(failedInstances, consequentialFailedInstances, platform.logger());
         platform.logger().info("Loaded plugin(s): {}", this.sortedPlugins.stream().map(p -> p.metadata().id()).collect(Collectors.toList()));
+        platform.logger().info("Resolved {} plugin candidate(s) in {}ms, constructed plugins in {}ms", resources.size(),
+                TimeUnit.NANOSECONDS.toMillis(constructStart - resolveStart), TimeUnit.NANOSECONDS.toMillis(end - constructStart));
     }
 
     public void addPlugin(final PluginContainer plugin) {